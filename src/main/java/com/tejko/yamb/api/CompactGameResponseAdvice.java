@@ -0,0 +1,41 @@
+package com.tejko.yamb.api;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.tejko.yamb.api.assemblers.CompactGameModelAssembler;
+import com.tejko.yamb.api.dto.responses.GameDetailResponse;
+
+@ControllerAdvice
+public class CompactGameResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final CompactGameModelAssembler compactGameModelAssembler;
+
+    @Autowired
+    public CompactGameResponseAdvice(CompactGameModelAssembler compactGameModelAssembler) {
+        this.compactGameModelAssembler = compactGameModelAssembler;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return MappingJackson2CborHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof GameDetailResponse) {
+            return compactGameModelAssembler.toModel((GameDetailResponse) body);
+        }
+        return body;
+    }
+
+}
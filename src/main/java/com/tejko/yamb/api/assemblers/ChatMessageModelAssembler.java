@@ -0,0 +1,49 @@
+package com.tejko.yamb.api.assemblers;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.stereotype.Component;
+
+import com.tejko.yamb.api.controllers.ChatController;
+import com.tejko.yamb.api.dto.responses.ChatMessageResponse;
+import com.tejko.yamb.domain.models.ChatMessage;
+
+@Component
+public class ChatMessageModelAssembler implements RepresentationModelAssembler<ChatMessage, ChatMessageResponse> {
+
+    private final ModelMapper modelMapper;
+
+    @Autowired
+    public ChatMessageModelAssembler(ModelMapper modelMapper) {
+        this.modelMapper = modelMapper;
+    }
+
+    @Override
+    public ChatMessageResponse toModel(ChatMessage chatMessage) {
+        return modelMapper.map(chatMessage, ChatMessageResponse.class);
+    }
+
+    public CollectionModel<ChatMessageResponse> toHistoryModel(String channel, List<ChatMessage> chatMessages, int size) {
+
+        List<ChatMessageResponse> chatMessageResponses = chatMessages.stream()
+            .map(this::toModel)
+            .collect(Collectors.toList());
+
+        CollectionModel<ChatMessageResponse> history = CollectionModel.of(chatMessageResponses);
+        if (chatMessages.size() == size) {
+            ChatMessage oldest = chatMessages.get(chatMessages.size() - 1);
+            history.add(linkTo(methodOn(ChatController.class).getHistoryByChannel(channel, oldest.getCreatedAt(), oldest.getId(), size)).withRel("next"));
+        }
+
+        return history;
+    }
+
+}
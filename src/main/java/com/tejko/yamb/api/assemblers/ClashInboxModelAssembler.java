@@ -0,0 +1,56 @@
+package com.tejko.yamb.api.assemblers;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.stereotype.Component;
+
+import com.tejko.yamb.api.controllers.ClashController;
+import com.tejko.yamb.api.controllers.PlayerController;
+import com.tejko.yamb.api.dto.responses.ClashInboxResponse;
+import com.tejko.yamb.domain.models.ClashInboxEntry;
+
+@Component
+public class ClashInboxModelAssembler implements RepresentationModelAssembler<ClashInboxEntry, ClashInboxResponse> {
+
+    private final ModelMapper modelMapper;
+
+    @Autowired
+    public ClashInboxModelAssembler(ModelMapper modelMapper) {
+        this.modelMapper = modelMapper;
+    }
+
+    @Override
+    public ClashInboxResponse toModel(ClashInboxEntry clashInboxEntry) {
+        ClashInboxResponse clashInboxResponse = modelMapper.map(clashInboxEntry, ClashInboxResponse.class);
+        clashInboxResponse.setOpponents(clashInboxEntry.getOpponents().stream()
+            .map(opponent -> modelMapper.map(opponent, ClashInboxResponse.Opponent.class))
+            .collect(Collectors.toList()));
+        clashInboxResponse.add(linkTo(methodOn(ClashController.class).getByExternalId(clashInboxResponse.getId())).withRel("clash"));
+        return clashInboxResponse;
+    }
+
+    public CollectionModel<ClashInboxResponse> toInboxModel(UUID playerExternalId, List<ClashInboxEntry> clashInboxEntries, int size) {
+
+        List<ClashInboxResponse> clashInboxResponses = clashInboxEntries.stream()
+            .map(this::toModel)
+            .collect(Collectors.toList());
+
+        CollectionModel<ClashInboxResponse> inbox = CollectionModel.of(clashInboxResponses);
+        if (clashInboxEntries.size() == size) {
+            ClashInboxEntry oldest = clashInboxEntries.get(clashInboxEntries.size() - 1);
+            inbox.add(linkTo(methodOn(PlayerController.class).getClashInboxByPlayerExternalId(playerExternalId, oldest.getUpdatedAt(), oldest.getId(), size)).withRel("next"));
+        }
+
+        return inbox;
+    }
+
+}
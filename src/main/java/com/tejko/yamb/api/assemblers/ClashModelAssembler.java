@@ -25,11 +25,11 @@ import com.tejko.yamb.api.controllers.PlayerController;
 import com.tejko.yamb.api.dto.responses.ClashResponse;
 import com.tejko.yamb.api.dto.responses.PlayerResponse;
 import com.tejko.yamb.business.interfaces.PlayerService;
-import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.ClashSummary;
 import com.tejko.yamb.domain.models.Player;
 
 @Component
-public class ClashModelAssembler implements RepresentationModelAssembler<Clash, ClashResponse> {
+public class ClashModelAssembler implements RepresentationModelAssembler<ClashSummary, ClashResponse> {
 
     private final ModelMapper modelMapper;
     private final PlayerService playerService;
@@ -41,7 +41,7 @@ public class ClashModelAssembler implements RepresentationModelAssembler<Clash,
     }
 
     @Override
-    public ClashResponse toModel(Clash clash) {
+    public ClashResponse toModel(ClashSummary clash) {
         Set<UUID> allPlayerIds = new HashSet<>();
         if (clash.getOwnerId() != null) {
             allPlayerIds.add(clash.getOwnerId());
@@ -84,10 +84,10 @@ public class ClashModelAssembler implements RepresentationModelAssembler<Clash,
         return clashResponse;
     }
 
-    public PagedModel<ClashResponse> toPagedModel(Page<Clash> clashes) {
+    public PagedModel<ClashResponse> toPagedModel(Page<ClashSummary> clashes) {
 
         Set<UUID> allPlayerIds = new HashSet<>();
-        for (Clash clash : clashes) {
+        for (ClashSummary clash : clashes) {
             if (clash.getOwnerId() != null) {
                 allPlayerIds.add(clash.getOwnerId());
             }
@@ -145,10 +145,10 @@ public class ClashModelAssembler implements RepresentationModelAssembler<Clash,
     }
 
     @Override
-    public CollectionModel<ClashResponse> toCollectionModel(Iterable<? extends Clash> clashes) {
+    public CollectionModel<ClashResponse> toCollectionModel(Iterable<? extends ClashSummary> clashes) {
 
         Set<UUID> allPlayerIds = new HashSet<>();
-        for (Clash clash : clashes) {
+        for (ClashSummary clash : clashes) {
             if (clash.getOwnerId() != null) {
                 allPlayerIds.add(clash.getOwnerId());
             }
@@ -161,7 +161,7 @@ public class ClashModelAssembler implements RepresentationModelAssembler<Clash,
                 .collect(Collectors.toMap(Player::getExternalId, Function.identity()));
 
         List<ClashResponse> clashResponses = new ArrayList<>();
-        for (Clash clash : clashes) {
+        for (ClashSummary clash : clashes) {
             ClashResponse clashResponse = modelMapper.map(clash, ClashResponse.class);
 
             if (clash.getOwnerId() != null) {
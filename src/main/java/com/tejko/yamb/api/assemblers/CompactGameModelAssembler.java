@@ -0,0 +1,82 @@
+package com.tejko.yamb.api.assemblers;
+
+import java.util.List;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.tejko.yamb.api.dto.responses.CompactGameResponse;
+import com.tejko.yamb.api.dto.responses.GameDetailResponse;
+import com.tejko.yamb.domain.enums.BoxType;
+import com.tejko.yamb.domain.enums.ColumnType;
+import com.tejko.yamb.domain.models.Game;
+
+@Component
+public class CompactGameModelAssembler {
+
+    private static final int BOX_COUNT = ColumnType.values().length * BoxType.values().length;
+
+    private final ModelMapper modelMapper;
+
+    @Autowired
+    public CompactGameModelAssembler(ModelMapper modelMapper) {
+        this.modelMapper = modelMapper;
+    }
+
+    public CompactGameResponse toModel(Game game) {
+        CompactGameResponse compactGameResponse = toModel(modelMapper.map(game, GameDetailResponse.class));
+        compactGameResponse.setPlayerId(game.getPlayerId());
+        return compactGameResponse;
+    }
+
+    public CompactGameResponse toModel(GameDetailResponse gameDetailResponse) {
+
+        CompactGameResponse compactGameResponse = new CompactGameResponse();
+        compactGameResponse.setId(gameDetailResponse.getId());
+        if (gameDetailResponse.getPlayer() != null) {
+            compactGameResponse.setPlayerId(gameDetailResponse.getPlayer().getId());
+        }
+        compactGameResponse.setCreatedAt(gameDetailResponse.getCreatedAt());
+        compactGameResponse.setUpdatedAt(gameDetailResponse.getUpdatedAt());
+        compactGameResponse.setRollCount(gameDetailResponse.getRollCount());
+        compactGameResponse.setAnnouncement(toOrdinal(gameDetailResponse.getAnnouncement()));
+        compactGameResponse.setStatus(gameDetailResponse.getStatus());
+        compactGameResponse.setType(gameDetailResponse.getType());
+        compactGameResponse.setTotalSum(gameDetailResponse.getTotalSum());
+        compactGameResponse.setProgress(gameDetailResponse.getProgress());
+        compactGameResponse.setLatestColumnFilled(toOrdinal(gameDetailResponse.getLatestColumnFilled()));
+        compactGameResponse.setLatestBoxFilled(toOrdinal(gameDetailResponse.getLatestBoxFilled()));
+        compactGameResponse.setLastAction(gameDetailResponse.getLastAction());
+        compactGameResponse.setDices(toDiceValues(gameDetailResponse.getDices()));
+
+        int[] values = new int[BOX_COUNT];
+        long fillMask = 0L;
+        for (GameDetailResponse.Column column : gameDetailResponse.getSheet().getColumns()) {
+            for (GameDetailResponse.Box box : column.getBoxes()) {
+                if (box.getValue() != null) {
+                    int index = column.getType().ordinal() * BoxType.values().length + box.getType().ordinal();
+                    values[index] = box.getValue();
+                    fillMask |= 1L << index;
+                }
+            }
+        }
+        compactGameResponse.setValues(values);
+        compactGameResponse.setFillMask(fillMask);
+
+        return compactGameResponse;
+    }
+
+    private int[] toDiceValues(List<GameDetailResponse.Dice> dices) {
+        int[] diceValues = new int[dices.size()];
+        for (GameDetailResponse.Dice dice : dices) {
+            diceValues[dice.getIndex()] = dice.getValue();
+        }
+        return diceValues;
+    }
+
+    private int toOrdinal(Enum<?> value) {
+        return value != null ? value.ordinal() : -1;
+    }
+
+}
@@ -26,11 +26,11 @@ import com.tejko.yamb.api.controllers.PlayerController;
 import com.tejko.yamb.api.dto.responses.GameResponse;
 import com.tejko.yamb.api.dto.responses.PlayerResponse;
 import com.tejko.yamb.business.interfaces.PlayerService;
-import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.domain.models.GameSummary;
 import com.tejko.yamb.domain.models.Player;
 
 @Component
-public class GameModelAssembler implements RepresentationModelAssembler<Game, GameResponse> {
+public class GameModelAssembler implements RepresentationModelAssembler<GameSummary, GameResponse> {
 
     private final ModelMapper modelMapper;
     private final PlayerService playerService;
@@ -42,7 +42,7 @@ public class GameModelAssembler implements RepresentationModelAssembler<Game, Ga
     }
 
     @Override
-    public GameResponse toModel(Game game) {
+    public GameResponse toModel(GameSummary game) {
         
         GameResponse gameResponse = modelMapper.map(game, GameResponse.class);
         gameResponse.setPlayer(modelMapper.map(playerService.getByExternalId(game.getPlayerId()), PlayerResponse.class));
@@ -51,9 +51,9 @@ public class GameModelAssembler implements RepresentationModelAssembler<Game, Ga
         return gameResponse;
     }
 
-    public PagedModel<GameResponse> toPagedModel(Page<Game> gamePage) {
+    public PagedModel<GameResponse> toPagedModel(Page<GameSummary> gamePage) {
         Set<UUID> playerIds = gamePage.stream()
-            .map(Game::getPlayerId)
+            .map(GameSummary::getPlayerId)
             .filter(Objects::nonNull)
             .collect(Collectors.toSet());
 
@@ -91,10 +91,10 @@ public class GameModelAssembler implements RepresentationModelAssembler<Game, Ga
     }
 
     @Override
-    public CollectionModel<GameResponse> toCollectionModel(Iterable<? extends Game> games) {
+    public CollectionModel<GameResponse> toCollectionModel(Iterable<? extends GameSummary> games) {
         
         Set<UUID> playerIds = new HashSet<>();
-        for (Game game : games) {
+        for (GameSummary game : games) {
             if (game.getPlayerId() != null) {
                 playerIds.add(game.getPlayerId());
             }
@@ -105,7 +105,7 @@ public class GameModelAssembler implements RepresentationModelAssembler<Game, Ga
             .collect(Collectors.toMap(Player::getExternalId, Function.identity()));
 
         List<GameResponse> gameResponses = new ArrayList<>();
-        for (Game game : games) {
+        for (GameSummary game : games) {
             GameResponse gameResponse = modelMapper.map(game, GameResponse.class);
 
             UUID pid = game.getPlayerId();
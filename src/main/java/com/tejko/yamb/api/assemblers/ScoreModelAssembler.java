@@ -16,9 +16,13 @@ import org.springframework.stereotype.Component;
 import com.tejko.yamb.api.controllers.PlayerController;
 import com.tejko.yamb.api.controllers.ScoreController;
 import com.tejko.yamb.api.dto.responses.GlobalScoreStatsResponse;
+import com.tejko.yamb.api.dto.responses.ScoreHistogramResponse;
+import com.tejko.yamb.api.dto.responses.ScoreRankResponse;
 import com.tejko.yamb.api.dto.responses.ScoreResponse;
 import com.tejko.yamb.domain.models.GlobalScoreStats;
 import com.tejko.yamb.domain.models.Score;
+import com.tejko.yamb.domain.models.ScoreHistogram;
+import com.tejko.yamb.domain.models.ScoreRank;
 
 @Component
 public class ScoreModelAssembler implements RepresentationModelAssembler<Score, ScoreResponse> {
@@ -57,4 +61,14 @@ public class ScoreModelAssembler implements RepresentationModelAssembler<Score,
         return globalScoreStatsResponse;
     }
 
+    public ScoreRankResponse toModel(ScoreRank scoreRank) {
+        ScoreRankResponse scoreRankResponse = modelMapper.map(scoreRank, ScoreRankResponse.class);
+        return scoreRankResponse;
+    }
+
+    public ScoreHistogramResponse toModel(ScoreHistogram scoreHistogram) {
+        ScoreHistogramResponse scoreHistogramResponse = modelMapper.map(scoreHistogram, ScoreHistogramResponse.class);
+        return scoreHistogramResponse;
+    }
+
 }
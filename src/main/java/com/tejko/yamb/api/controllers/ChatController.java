@@ -0,0 +1,46 @@
+package com.tejko.yamb.api.controllers;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tejko.yamb.api.assemblers.ChatMessageModelAssembler;
+import com.tejko.yamb.api.dto.responses.ChatMessageResponse;
+import com.tejko.yamb.business.interfaces.ChatService;
+
+@RestController
+@RequestMapping("/api/chat")
+public class ChatController {
+
+	private final ChatService chatService;
+	private final ChatMessageModelAssembler chatMessageModelAssembler;
+
+	@Autowired
+	public ChatController(ChatService chatService, ChatMessageModelAssembler chatMessageModelAssembler) {
+		this.chatService = chatService;
+		this.chatMessageModelAssembler = chatMessageModelAssembler;
+	}
+
+	@GetMapping("/{channel}")
+	@PreAuthorize("isAuthenticated()")
+	public ResponseEntity<CollectionModel<ChatMessageResponse>> getHistoryByChannel(@PathVariable String channel, 
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before, 
+			@RequestParam(required = false) String beforeId, 
+			@RequestParam(defaultValue = "50") int size) {
+		if (size < 1 || size > 200) {
+			throw new IllegalArgumentException("Size must be between 1 and 200.");
+		}
+		CollectionModel<ChatMessageResponse> history = chatMessageModelAssembler.toHistoryModel(channel, chatService.getHistoryByChannel(channel, before, beforeId, size), size);
+		return ResponseEntity.ok(history);
+	}
+
+}
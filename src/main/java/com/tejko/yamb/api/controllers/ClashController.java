@@ -4,6 +4,7 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import javax.validation.Valid;
@@ -12,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,6 +24,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
@@ -33,7 +36,8 @@ import com.tejko.yamb.api.dto.requests.PlayerIdSetRequest;
 import com.tejko.yamb.api.dto.responses.ClashDetailResponse;
 import com.tejko.yamb.api.dto.responses.ClashResponse;
 import com.tejko.yamb.business.interfaces.ClashService;
-import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.enums.ClashStatus;
+import com.tejko.yamb.domain.models.ClashSummary;
 import com.tejko.yamb.util.SortFieldTranslator;
 
 
@@ -65,7 +69,7 @@ public class ClashController {
 	@GetMapping("")
 	@PreAuthorize("hasAuthority('ADMIN')")
 	public ResponseEntity<PagedModel<ClashResponse>> getAll(@PageableDefault(page = 0, size = 10, sort = "updatedAt", direction = Sort.Direction.DESC) Pageable pageable) {
-		Pageable modifiedPageable = sortFieldTranslator.translateSortField(pageable, Clash.class, ClashResponse.class);
+		Pageable modifiedPageable = sortFieldTranslator.translateSortField(pageable, ClashSummary.class, ClashResponse.class);
 		PagedModel<ClashResponse> pagedClashs = clashModelAssembler.toPagedModel(clashService.getAll(modifiedPageable));
 		return ResponseEntity.ok(pagedClashs);
 	}
@@ -107,8 +111,10 @@ public class ClashController {
 
 	@DeleteMapping("")
 	@PreAuthorize("hasAuthority('ADMIN')")
-	public ResponseEntity<Void> deleteAll() {
-		clashService.deleteAll();
+	public ResponseEntity<Void> deleteAll(@RequestParam(required = false) ClashStatus status, 
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedBefore, 
+			@RequestParam(required = false) UUID playerId) {
+		clashService.deleteAll(status, updatedBefore, playerId);
 		return ResponseEntity.noContent()
 			.location(linkTo(methodOn(ClashController.class).getAll(Pageable.unpaged())).toUri())
 			.build();
@@ -4,6 +4,7 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import javax.validation.Valid;
@@ -12,6 +13,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -21,17 +24,22 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.tejko.yamb.api.assemblers.GameDetailModelAssembler;
 import com.tejko.yamb.api.assemblers.GameModelAssembler;
+import com.tejko.yamb.api.assemblers.ScoreModelAssembler;
 import com.tejko.yamb.api.dto.requests.ActionRequest;
 import com.tejko.yamb.api.dto.requests.GameRequest;
 import com.tejko.yamb.api.dto.responses.GameDetailResponse;
 import com.tejko.yamb.api.dto.responses.GameResponse;
 import com.tejko.yamb.business.interfaces.GameService;
+import com.tejko.yamb.business.interfaces.ScoreService;
+import com.tejko.yamb.domain.enums.GameStatus;
 import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.domain.models.GameSummary;
 import com.tejko.yamb.util.SortFieldTranslator;
 
 
@@ -44,14 +52,19 @@ public class GameController {
 	private final GameModelAssembler gameModelAssembler;
 	private final GameDetailModelAssembler gameDetailModelAssembler;
 	private final SortFieldTranslator sortFieldTranslator;
+	private final ScoreService scoreService;
+	private final ScoreModelAssembler scoreModelAssembler;
 
 	@Autowired
 	public GameController(GameService gameService, GameModelAssembler gameModelAssembler, 
-						  GameDetailModelAssembler gameDetailModelAssembler, SortFieldTranslator sortFieldTranslator) {
+						  GameDetailModelAssembler gameDetailModelAssembler, SortFieldTranslator sortFieldTranslator, 
+						  ScoreService scoreService, ScoreModelAssembler scoreModelAssembler) {
 		this.gameService = gameService;
 		this.gameModelAssembler = gameModelAssembler;
 		this.gameDetailModelAssembler = gameDetailModelAssembler;
 		this.sortFieldTranslator = sortFieldTranslator;
+		this.scoreService = scoreService;
+		this.scoreModelAssembler = scoreModelAssembler;
 	}
 	
 	@GetMapping("/{externalId}")
@@ -63,11 +76,27 @@ public class GameController {
 	@GetMapping("")
 	@PreAuthorize("hasAuthority('ADMIN')")
 	public ResponseEntity<PagedModel<GameResponse>> getAll(@PageableDefault(page = 0, size = 10, sort = "updatedAt", direction = Sort.Direction.DESC) Pageable pageable) {
-		Pageable modifiedPageable = sortFieldTranslator.translateSortField(pageable, Game.class, GameResponse.class);
+		Pageable modifiedPageable = sortFieldTranslator.translateSortField(pageable, GameSummary.class, GameResponse.class);
 		PagedModel<GameResponse> pagedGames = gameModelAssembler.toPagedModel(gameService.getAll(modifiedPageable));
 		return ResponseEntity.ok(pagedGames);
 	}
 
+	@GetMapping("/top")
+	@PreAuthorize("hasAuthority('ADMIN')")
+	public ResponseEntity<CollectionModel<GameResponse>> getTopByStatus(@RequestParam(defaultValue = "IN_PROGRESS") GameStatus status, 
+			@RequestParam(defaultValue = "10") int size) {
+		CollectionModel<GameResponse> games = gameModelAssembler.toCollectionModel(gameService.getTopByStatus(status, size));
+		return ResponseEntity.ok(games);
+	}
+
+	@GetMapping("/near-complete")
+	@PreAuthorize("hasAuthority('ADMIN')")
+	public ResponseEntity<CollectionModel<GameResponse>> getNearlyCompleted(@RequestParam(defaultValue = "0.9") float progress, 
+			@RequestParam(defaultValue = "10") int size) {
+		CollectionModel<GameResponse> games = gameModelAssembler.toCollectionModel(gameService.getNearlyCompleted(progress, size));
+		return ResponseEntity.ok(games);
+	}
+
 	@PutMapping("")
 	@PreAuthorize("isAuthenticated() and (#gameRequest.playerId == principal.externalId or hasAuthority('ADMIN'))")
 	public ResponseEntity<GameDetailResponse> getOrCreate(@Valid @RequestBody GameRequest gameRequest) {
@@ -102,7 +131,11 @@ public class GameController {
 	@PutMapping("/{externalId}/fill")
 	@PreAuthorize("isAuthenticated()")
 	public ResponseEntity<GameDetailResponse> fillByExternalId(@PathVariable UUID externalId, @Valid @RequestBody ActionRequest actionRequest) {
-		GameDetailResponse gameDetailResponse = gameDetailModelAssembler.toModel(gameService.fillByExternalId(externalId,actionRequest.getColumnType(), actionRequest.getBoxType()));
+		Game game = gameService.fillByExternalId(externalId,actionRequest.getColumnType(), actionRequest.getBoxType());
+		GameDetailResponse gameDetailResponse = gameDetailModelAssembler.toModel(game);
+		if (game.getStatus() == GameStatus.COMPLETED) {
+			gameDetailResponse.setRank(scoreModelAssembler.toModel(scoreService.getRank(game.getTotalSum())));
+		}
 		return ResponseEntity.ok(gameDetailResponse);
 	}
 
@@ -145,8 +178,10 @@ public class GameController {
 	
 	@DeleteMapping("")
 	@PreAuthorize("hasAuthority('ADMIN')")
-	public ResponseEntity<Void> deleteAll() {
-		gameService.deleteAll();
+	public ResponseEntity<Void> deleteAll(@RequestParam(required = false) GameStatus status, 
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedBefore, 
+			@RequestParam(required = false) UUID playerId) {
+		gameService.deleteAll(status, updatedBefore, playerId);
 		return ResponseEntity.noContent()
 			.location(linkTo(methodOn(GameController.class).getAll(Pageable.unpaged())).toUri())
 			.build();
@@ -26,6 +26,7 @@ import org.springframework.web.client.RestTemplate;
 
 import com.sun.management.OperatingSystemMXBean;
 import com.tejko.yamb.api.GlobalExceptionHandler;
+import com.tejko.yamb.util.EntityCacheStatistics;
 import com.tejko.yamb.util.ResponseTimeAspect;
 
 @Controller
@@ -37,6 +38,7 @@ public class HomeController {
     private final RestTemplate restTemplate;
     private final ResponseTimeAspect responseTimeAspect;
     private final GlobalExceptionHandler globalExceptionHandler;
+    private final EntityCacheStatistics entityCacheStatistics;
     
     @Value("${recaptcha.secret.key}")
     private String recaptchaSecretKey;
@@ -50,13 +52,15 @@ public class HomeController {
     @Autowired
     public HomeController(Environment environment, JdbcTemplate jdbcTemplate, 
                           MongoTemplate mongoTemplate, RestTemplate restTemplate, 
-                          ResponseTimeAspect responseTimeAspect, GlobalExceptionHandler globalExceptionHandler) {
+                          ResponseTimeAspect responseTimeAspect, GlobalExceptionHandler globalExceptionHandler, 
+                          EntityCacheStatistics entityCacheStatistics) {
         this.environment = environment;
         this.jdbcTemplate = jdbcTemplate;
         this.mongoTemplate = mongoTemplate;
         this.restTemplate = restTemplate;
         this.responseTimeAspect = responseTimeAspect;
         this.globalExceptionHandler = globalExceptionHandler;
+        this.entityCacheStatistics = entityCacheStatistics;
     }
 
     @RequestMapping(value = { "/", "/{x:[\\w\\-]+}", "/{x:^(?!api$).*$}/**/{y:[\\w\\-]+}" })
@@ -114,6 +118,7 @@ public class HomeController {
         response.put("requestsProcessed", totalRequests);
         response.put("errorCount", errorCount);
         response.put("errorRate", errorRate);
+        response.putAll(entityCacheStatistics.getMetrics());
 
         return ResponseEntity.ok(response);
     }
@@ -27,7 +27,7 @@ import com.tejko.yamb.api.dto.requests.NotificationRequest;
 import com.tejko.yamb.api.dto.responses.GameResponse;
 import com.tejko.yamb.api.dto.responses.NotificationResponse;
 import com.tejko.yamb.business.interfaces.NotificationService;
-import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.domain.models.GameSummary;
 
 @RestController
 @RequestMapping("/api/notifications")
@@ -48,7 +48,7 @@ public class NotificationController {
 	@GetMapping("")
 	@PreAuthorize("hasAuthority('ADMIN')")
 	public ResponseEntity<PagedModel<NotificationResponse>> getAll(@PageableDefault(page = 0, size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-		Pageable modifiedPageable = sortFieldTranslator.translateSortField(pageable, Game.class, GameResponse.class);
+		Pageable modifiedPageable = sortFieldTranslator.translateSortField(pageable, GameSummary.class, GameResponse.class);
 		PagedModel<NotificationResponse> pagedNotifications = notificationModelAssembler.toPagedModel(notificationService.getAll(modifiedPageable));
 		return ResponseEntity.ok(pagedNotifications);
 	}
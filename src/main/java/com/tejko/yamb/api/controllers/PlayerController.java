@@ -1,5 +1,6 @@
 package com.tejko.yamb.api.controllers;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import javax.validation.Valid;
@@ -8,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
@@ -24,6 +26,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.tejko.yamb.api.assemblers.ClashInboxModelAssembler;
 import com.tejko.yamb.api.assemblers.ClashModelAssembler;
 import com.tejko.yamb.api.assemblers.GameModelAssembler;
 import com.tejko.yamb.api.assemblers.GlobalPlayerStatsModelAssembler;
@@ -39,6 +42,7 @@ import com.tejko.yamb.api.dto.requests.EmailRequest;
 import com.tejko.yamb.api.dto.requests.PlayerMergeRequest;
 import com.tejko.yamb.api.dto.requests.PlayerPreferencesRequest;
 import com.tejko.yamb.api.dto.requests.UsernameRequest;
+import com.tejko.yamb.api.dto.responses.ClashInboxResponse;
 import com.tejko.yamb.api.dto.responses.ClashResponse;
 import com.tejko.yamb.api.dto.responses.GameResponse;
 import com.tejko.yamb.api.dto.responses.GlobalPlayerStatsResponse;
@@ -50,6 +54,7 @@ import com.tejko.yamb.api.dto.responses.PlayerResponse;
 import com.tejko.yamb.api.dto.responses.PlayerStatsResponse;
 import com.tejko.yamb.api.dto.responses.RelationshipResponse;
 import com.tejko.yamb.api.dto.responses.ScoreResponse;
+import com.tejko.yamb.business.interfaces.ClashInboxService;
 import com.tejko.yamb.business.interfaces.PlayerService;
 import com.tejko.yamb.domain.models.Player;
 import com.tejko.yamb.util.SortFieldTranslator;
@@ -71,6 +76,8 @@ public class PlayerController {
 	private final PlayerStatsModelAssembler playerStatsModelAssembler;
 	private final PlayerPreferencesModelAssembler playerPreferencesModelAssembler;
 	private final GlobalPlayerStatsModelAssembler globalPlayerStatsModelAssembler;
+	private final ClashInboxService clashInboxService;
+	private final ClashInboxModelAssembler clashInboxModelAssembler;
 
 	@Autowired
 	public PlayerController(PlayerService playerService, PlayerModelAssembler playerModelAssembler, 
@@ -79,7 +86,8 @@ public class PlayerController {
 							RelationshipModelAssembler relationshipModelAssembler, LogModelAssembler logModelAssembler, 
 							SortFieldTranslator sortFieldTranslator, NotificationModelAssembler notificationModelAssembler,
 							PlayerStatsModelAssembler playerStatsModelAssembler, PlayerPreferencesModelAssembler playerPreferencesModelAssembler, 
-							GlobalPlayerStatsModelAssembler globalPlayerStatsModelAssembler) {
+							GlobalPlayerStatsModelAssembler globalPlayerStatsModelAssembler, ClashInboxService clashInboxService, 
+							ClashInboxModelAssembler clashInboxModelAssembler) {
 		this.playerService = playerService;
 		this.playerModelAssembler = playerModelAssembler;
 		this.playerDetailModelAssembler = playerDetailModelAssembler;
@@ -93,6 +101,8 @@ public class PlayerController {
 		this.playerStatsModelAssembler = playerStatsModelAssembler;
 		this.playerPreferencesModelAssembler = playerPreferencesModelAssembler;
 		this.globalPlayerStatsModelAssembler = globalPlayerStatsModelAssembler;
+		this.clashInboxService = clashInboxService;
+		this.clashInboxModelAssembler = clashInboxModelAssembler;
 	}
 
 	@GetMapping("/{externalId}")
@@ -143,6 +153,19 @@ public class PlayerController {
 		return ResponseEntity.ok(clashResponses);
 	}
 
+	@GetMapping("/{externalId}/clashes/inbox")
+	@PreAuthorize("isAuthenticated() and (#externalId == principal.externalId or hasAuthority('ADMIN'))")
+	public ResponseEntity<CollectionModel<ClashInboxResponse>> getClashInboxByPlayerExternalId(@PathVariable UUID externalId, 
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before, 
+			@RequestParam(required = false) String beforeId, 
+			@RequestParam(defaultValue = "20") int size) {
+		if (size < 1 || size > 100) {
+			throw new IllegalArgumentException("Size must be between 1 and 100.");
+		}
+		CollectionModel<ClashInboxResponse> inbox = clashInboxModelAssembler.toInboxModel(externalId, clashInboxService.getByPlayerExternalId(externalId, before, beforeId, size), size);
+		return ResponseEntity.ok(inbox);
+	}
+
 	@GetMapping("/{externalId}/logs")
 	@PreAuthorize("isAuthenticated() and (#externalId == principal.externalId or hasAuthority('ADMIN'))")
 	public ResponseEntity<CollectionModel<LogResponse>> getLogsByPlayerExternalId(@PathVariable UUID externalId) {
@@ -11,10 +11,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.tejko.yamb.api.assemblers.ScoreModelAssembler;
 import com.tejko.yamb.api.dto.responses.GlobalScoreStatsResponse;
+import com.tejko.yamb.api.dto.responses.ScoreHistogramResponse;
+import com.tejko.yamb.api.dto.responses.ScoreRankResponse;
 import com.tejko.yamb.api.dto.responses.ScoreResponse;
 import com.tejko.yamb.business.interfaces.ScoreService;
 import com.tejko.yamb.domain.models.Score;
@@ -55,4 +58,16 @@ public class ScoreController {
 		return ResponseEntity.ok(globalScoreStatsResponse);
 	}
 
+	@GetMapping("/rank")
+	public ResponseEntity<ScoreRankResponse> getRank(@RequestParam int value) {
+		ScoreRankResponse scoreRankResponse = scoreModelAssembler.toModel(scoreService.getRank(value));
+		return ResponseEntity.ok(scoreRankResponse);
+	}
+
+	@GetMapping("/histogram")
+	public ResponseEntity<ScoreHistogramResponse> getHistogram(@RequestParam(defaultValue = "50") int bucketSize) {
+		ScoreHistogramResponse scoreHistogramResponse = scoreModelAssembler.toModel(scoreService.getHistogram(bucketSize));
+		return ResponseEntity.ok(scoreHistogramResponse);
+	}
+
 }
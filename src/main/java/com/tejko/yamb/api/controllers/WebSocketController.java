@@ -1,39 +1,80 @@
 package com.tejko.yamb.api.controllers;
 
 import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
+import com.tejko.yamb.api.assemblers.ChatMessageModelAssembler;
+import com.tejko.yamb.api.assemblers.ClashDetailModelAssembler;
+import com.tejko.yamb.api.assemblers.CompactGameModelAssembler;
 import com.tejko.yamb.api.assemblers.PlayerModelAssembler;
+import com.tejko.yamb.api.dto.responses.ChatMessageResponse;
+import com.tejko.yamb.api.dto.responses.ClashReplayResponse;
+import com.tejko.yamb.api.dto.responses.CompactGameResponse;
 import com.tejko.yamb.api.dto.responses.PlayerResponse;
+import com.tejko.yamb.business.interfaces.ChatService;
+import com.tejko.yamb.business.interfaces.ClashService;
+import com.tejko.yamb.business.interfaces.GameService;
 import com.tejko.yamb.business.interfaces.WebSocketService;
 import com.tejko.yamb.domain.enums.MessageType;
+import com.tejko.yamb.domain.models.ChatMessage;
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.Clash.ClashPlayer;
+import com.tejko.yamb.domain.models.ClashEvent;
+import com.tejko.yamb.domain.models.Game;
 import com.tejko.yamb.domain.repositories.PlayerRepository;
 import com.tejko.yamb.util.ActivePlayerDirectory;
+import com.tejko.yamb.util.ClashEventJournal;
 
 @RestController
 public class WebSocketController {
 
+    private static final String PUBLIC_TOPIC = "/topic/public";
+    private static final String CLASH_TOPIC_PREFIX = "/topic/clashes/";
+
     private final PlayerRepository playerRepo;
     private final PlayerModelAssembler playerModelAssembler;
     private final WebSocketService webSocketService;
+    private final ClashService clashService;
+    private final GameService gameService;
+    private final ClashDetailModelAssembler clashDetailModelAssembler;
+    private final CompactGameModelAssembler compactGameModelAssembler;
+    private final ClashEventJournal clashEventJournal;
+    private final ChatService chatService;
+    private final ChatMessageModelAssembler chatMessageModelAssembler;
 
     @Autowired
     public WebSocketController(WebSocketService webSocketService, PlayerRepository playerRepo, 
-                               PlayerModelAssembler playerModelAssembler) {
+                               PlayerModelAssembler playerModelAssembler, ClashService clashService, 
+                               GameService gameService, ClashDetailModelAssembler clashDetailModelAssembler, 
+                               CompactGameModelAssembler compactGameModelAssembler, ClashEventJournal clashEventJournal, 
+                               ChatService chatService, ChatMessageModelAssembler chatMessageModelAssembler) {
         this.webSocketService = webSocketService;
         this.playerRepo = playerRepo;
         this.playerModelAssembler = playerModelAssembler;
+        this.clashService = clashService;
+        this.gameService = gameService;
+        this.clashDetailModelAssembler = clashDetailModelAssembler;
+        this.compactGameModelAssembler = compactGameModelAssembler;
+        this.clashEventJournal = clashEventJournal;
+        this.chatService = chatService;
+        this.chatMessageModelAssembler = chatMessageModelAssembler;
     }
 
     @MessageMapping("/public")
@@ -46,6 +87,11 @@ public class WebSocketController {
         webSocketService.privateMessage(message, principal);
     }
 
+    @MessageMapping("/clashes/{clashId}/chat")
+    public void clashMessage(@DestinationVariable UUID clashId, String message, Principal principal) throws Exception {
+        webSocketService.clashMessage(clashId, message, principal);
+    }
+
     @MessageMapping("/clashes/{clashId}/reaction")
     public void handleReaction(@DestinationVariable UUID clashId, String message, Principal principal) throws Exception {
         webSocketService.handleReaction(clashId, message, principal);
@@ -71,6 +117,24 @@ public class WebSocketController {
     @EventListener
     public void handleSessionSubscribeEvent(SessionSubscribeEvent event) {
         webSocketService.handleSessionSubscribeEvent(event);
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || event.getUser() == null) {
+            return;
+        }
+        UUID playerExternalId = UUID.fromString(event.getUser().getName());
+        if (PUBLIC_TOPIC.equals(destination)) {
+            sendChatHistory(ChatMessage.PUBLIC_CHANNEL, playerExternalId);
+        } else if (destination.matches(CLASH_TOPIC_PREFIX + "[0-9a-fA-F-]{36}")) {
+            UUID clashExternalId = UUID.fromString(destination.substring(CLASH_TOPIC_PREFIX.length()));
+            Optional<Clash> trackedClash = clashEventJournal.getClash(clashExternalId);
+            (trackedClash.isPresent() ? trackedClash : clashService.findByExternalId(clashExternalId))
+                .filter(clash -> clash.hasPlayer(playerExternalId))
+                .ifPresent(clash -> {
+                    sendClashReplay(clash, playerExternalId);
+                    sendChatHistory(clashExternalId.toString(), playerExternalId);
+                });
+        }
     }
     
     @EventListener
@@ -78,6 +142,40 @@ public class WebSocketController {
         webSocketService.handleSessionUnsubscribeEvent(event);
     }
 
+    private void sendChatHistory(String channel, UUID playerExternalId) {
+        List<ChatMessageResponse> history = chatService.getRecentByChannel(channel).stream()
+            .map(chatMessageModelAssembler::toModel)
+            .collect(Collectors.toList());
+        webSocketService.convertAndSendToUser(playerExternalId, history, MessageType.HISTORY);
+    }
+
+    private void sendClashReplay(Clash clash, UUID playerExternalId) {
+        if (!clashEventJournal.getClash(clash.getExternalId()).isPresent()) {
+            clashEventJournal.track(clash);
+        }
+        Map<UUID, ClashEvent> gameEvents = clashEventJournal.getGameEvents(clash.getExternalId());
+        Set<UUID> missingGameIds = clash.getPlayers().stream()
+            .map(ClashPlayer::getGameId)
+            .filter(gameId -> gameId != null && !gameEvents.containsKey(gameId))
+            .collect(Collectors.toSet());
+        if (!missingGameIds.isEmpty()) {
+            for (Game game : gameService.findAllByExternalIds(missingGameIds)) {
+                ClashEvent gameEvent = ClashEvent.getInstance(MessageType.GAME, game.getPlayerId(), game.getExternalId(), compactGameModelAssembler.toModel(game));
+                clashEventJournal.seedGameEvent(clash.getExternalId(), gameEvent);
+                gameEvents.putIfAbsent(game.getExternalId(), gameEvent);
+            }
+        }
+        List<CompactGameResponse> games = gameEvents.values().stream()
+            .map(gameEvent -> (CompactGameResponse) gameEvent.getContent())
+            .collect(Collectors.toList());
+
+        ClashReplayResponse clashReplayResponse = new ClashReplayResponse();
+        clashReplayResponse.setClash(clashDetailModelAssembler.toModel(clash));
+        clashReplayResponse.setGames(games);
+        clashReplayResponse.setEvents(clashEventJournal.getEvents(clash.getExternalId()));
+        webSocketService.convertAndSendToUser(playerExternalId, clashReplayResponse, MessageType.REPLAY);
+    }
+
     private void broadcastActivePlayers() {
         CollectionModel<PlayerResponse> players = playerModelAssembler.toCollectionModel(playerRepo.findAllByExternalIdIn(ActivePlayerDirectory.getActivePlayerExternalIdSet()));
         webSocketService.convertAndSend("/topic/players", players, MessageType.PLAYERS);
@@ -0,0 +1,51 @@
+package com.tejko.yamb.api.dto.responses;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.Relation;
+
+@Relation(collectionRelation = "messages")
+public class ChatMessageResponse extends RepresentationModel<ChatMessageResponse> {
+
+    private String channel;
+    private UUID senderId;
+    private String content;
+    private LocalDateTime createdAt;
+
+    public ChatMessageResponse() {}
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    public UUID getSenderId() {
+        return senderId;
+    }
+
+    public void setSenderId(UUID senderId) {
+        this.senderId = senderId;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+}
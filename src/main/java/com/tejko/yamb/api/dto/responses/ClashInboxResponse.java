@@ -0,0 +1,135 @@
+package com.tejko.yamb.api.dto.responses;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.Relation;
+
+import com.tejko.yamb.domain.enums.ClashStatus;
+import com.tejko.yamb.domain.enums.ClashType;
+import com.tejko.yamb.domain.enums.InvitationStatus;
+
+@Relation(collectionRelation = "clashes")
+public class ClashInboxResponse extends RepresentationModel<ClashInboxResponse> {
+
+    private UUID id;
+    private String name;
+    private ClashType type;
+    private ClashStatus status;
+    private InvitationStatus invitationStatus;
+    private UUID turnPlayerId;
+    private UUID winnerId;
+    private List<Opponent> opponents;
+    private LocalDateTime updatedAt;
+
+    public ClashInboxResponse() {}
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public ClashType getType() {
+        return type;
+    }
+
+    public void setType(ClashType type) {
+        this.type = type;
+    }
+
+    public ClashStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ClashStatus status) {
+        this.status = status;
+    }
+
+    public InvitationStatus getInvitationStatus() {
+        return invitationStatus;
+    }
+
+    public void setInvitationStatus(InvitationStatus invitationStatus) {
+        this.invitationStatus = invitationStatus;
+    }
+
+    public UUID getTurnPlayerId() {
+        return turnPlayerId;
+    }
+
+    public void setTurnPlayerId(UUID turnPlayerId) {
+        this.turnPlayerId = turnPlayerId;
+    }
+
+    public UUID getWinnerId() {
+        return winnerId;
+    }
+
+    public void setWinnerId(UUID winnerId) {
+        this.winnerId = winnerId;
+    }
+
+    public List<Opponent> getOpponents() {
+        return opponents;
+    }
+
+    public void setOpponents(List<Opponent> opponents) {
+        this.opponents = opponents;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public static class Opponent {
+
+        private UUID id;
+        private String name;
+        private String avatarUrl;
+
+        public Opponent() {}
+
+        public UUID getId() {
+            return id;
+        }
+
+        public void setId(UUID id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getAvatarUrl() {
+            return avatarUrl;
+        }
+
+        public void setAvatarUrl(String avatarUrl) {
+            this.avatarUrl = avatarUrl;
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.tejko.yamb.api.dto.responses;
+
+import java.util.List;
+
+import com.tejko.yamb.domain.models.ClashEvent;
+
+public class ClashReplayResponse {
+
+    private ClashDetailResponse clash;
+    private List<CompactGameResponse> games;
+    private List<ClashEvent> events;
+
+    public ClashReplayResponse() {}
+
+    public ClashDetailResponse getClash() {
+        return clash;
+    }
+
+    public void setClash(ClashDetailResponse clash) {
+        this.clash = clash;
+    }
+
+    public List<CompactGameResponse> getGames() {
+        return games;
+    }
+
+    public void setGames(List<CompactGameResponse> games) {
+        this.games = games;
+    }
+
+    public List<ClashEvent> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<ClashEvent> events) {
+        this.events = events;
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.tejko.yamb.api.dto.responses;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.tejko.yamb.domain.enums.GameAction;
+import com.tejko.yamb.domain.enums.GameStatus;
+import com.tejko.yamb.domain.enums.GameType;
+
+public class CompactGameResponse {
+
+    private UUID id;
+    private UUID playerId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private int[] values;
+    private long fillMask;
+    private int[] dices;
+    private int rollCount;
+    private int announcement;
+    private GameStatus status;
+    private GameType type;
+    private int totalSum;
+    private float progress;
+    private int latestColumnFilled;
+    private int latestBoxFilled;
+    private GameAction lastAction;
+
+    public CompactGameResponse() {}
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(UUID playerId) {
+        this.playerId = playerId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public int[] getValues() {
+        return values;
+    }
+
+    public void setValues(int[] values) {
+        this.values = values;
+    }
+
+    public long getFillMask() {
+        return fillMask;
+    }
+
+    public void setFillMask(long fillMask) {
+        this.fillMask = fillMask;
+    }
+
+    public int[] getDices() {
+        return dices;
+    }
+
+    public void setDices(int[] dices) {
+        this.dices = dices;
+    }
+
+    public int getRollCount() {
+        return rollCount;
+    }
+
+    public void setRollCount(int rollCount) {
+        this.rollCount = rollCount;
+    }
+
+    public int getAnnouncement() {
+        return announcement;
+    }
+
+    public void setAnnouncement(int announcement) {
+        this.announcement = announcement;
+    }
+
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(GameStatus status) {
+        this.status = status;
+    }
+
+    public GameType getType() {
+        return type;
+    }
+
+    public void setType(GameType type) {
+        this.type = type;
+    }
+
+    public int getTotalSum() {
+        return totalSum;
+    }
+
+    public void setTotalSum(int totalSum) {
+        this.totalSum = totalSum;
+    }
+
+    public float getProgress() {
+        return progress;
+    }
+
+    public void setProgress(float progress) {
+        this.progress = progress;
+    }
+
+    public int getLatestColumnFilled() {
+        return latestColumnFilled;
+    }
+
+    public void setLatestColumnFilled(int latestColumnFilled) {
+        this.latestColumnFilled = latestColumnFilled;
+    }
+
+    public int getLatestBoxFilled() {
+        return latestBoxFilled;
+    }
+
+    public void setLatestBoxFilled(int latestBoxFilled) {
+        this.latestBoxFilled = latestBoxFilled;
+    }
+
+    public GameAction getLastAction() {
+        return lastAction;
+    }
+
+    public void setLastAction(GameAction lastAction) {
+        this.lastAction = lastAction;
+    }
+
+}
@@ -33,6 +33,7 @@ public class GameDetailResponse extends RepresentationModel<GameDetailResponse>
     private GameType type;
     private float progress;
     private GameAction lastAction;
+    private ScoreRankResponse rank;
 
     public GameDetailResponse() {}
     
@@ -171,6 +172,14 @@ public class GameDetailResponse extends RepresentationModel<GameDetailResponse>
     public void setLastAction(GameAction lastAction) {
         this.lastAction = lastAction;
     }
+
+    public ScoreRankResponse getRank() {
+        return rank;
+    }
+
+    public void setRank(ScoreRankResponse rank) {
+        this.rank = rank;
+    }
     
     public static class Dice {
 
@@ -0,0 +1,79 @@
+package com.tejko.yamb.api.dto.responses;
+
+import java.util.List;
+
+import org.springframework.hateoas.RepresentationModel;
+
+public class ScoreHistogramResponse extends RepresentationModel<ScoreHistogramResponse> {
+
+    private int bucketSize;
+    private long scoreCount;
+    private List<Bucket> buckets;
+
+    public ScoreHistogramResponse() {}
+
+    public int getBucketSize() {
+        return bucketSize;
+    }
+
+    public void setBucketSize(int bucketSize) {
+        this.bucketSize = bucketSize;
+    }
+
+    public long getScoreCount() {
+        return scoreCount;
+    }
+
+    public void setScoreCount(long scoreCount) {
+        this.scoreCount = scoreCount;
+    }
+
+    public List<Bucket> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<Bucket> buckets) {
+        this.buckets = buckets;
+    }
+
+    public static class Bucket {
+
+        private int from;
+        private int to;
+        private long count;
+
+        public Bucket() {}
+
+        public Bucket(int from, int to, long count) {
+            this.from = from;
+            this.to = to;
+            this.count = count;
+        }
+
+        public int getFrom() {
+            return from;
+        }
+
+        public void setFrom(int from) {
+            this.from = from;
+        }
+
+        public int getTo() {
+            return to;
+        }
+
+        public void setTo(int to) {
+            this.to = to;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+    }
+
+}
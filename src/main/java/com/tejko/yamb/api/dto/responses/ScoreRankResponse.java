@@ -0,0 +1,46 @@
+package com.tejko.yamb.api.dto.responses;
+
+import org.springframework.hateoas.RepresentationModel;
+
+public class ScoreRankResponse extends RepresentationModel<ScoreRankResponse> {
+
+    private int value;
+    private long rank;
+    private long scoreCount;
+    private double percentile;
+
+    public ScoreRankResponse() {}
+
+    public int getValue() {
+        return value;
+    }
+
+    public void setValue(int value) {
+        this.value = value;
+    }
+
+    public long getRank() {
+        return rank;
+    }
+
+    public void setRank(long rank) {
+        this.rank = rank;
+    }
+
+    public long getScoreCount() {
+        return scoreCount;
+    }
+
+    public void setScoreCount(long scoreCount) {
+        this.scoreCount = scoreCount;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public void setPercentile(double percentile) {
+        this.percentile = percentile;
+    }
+
+}
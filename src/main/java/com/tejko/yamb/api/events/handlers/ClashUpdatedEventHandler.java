@@ -7,7 +7,12 @@ import org.springframework.stereotype.Component;
 import com.tejko.yamb.api.assemblers.ClashDetailModelAssembler;
 import com.tejko.yamb.api.dto.responses.ClashDetailResponse;
 import com.tejko.yamb.api.events.ClashUpdatedEvent;
+import com.tejko.yamb.business.interfaces.ClashInboxService;
+import com.tejko.yamb.domain.enums.ClashStatus;
 import com.tejko.yamb.domain.enums.MessageType;
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.util.ClashEventJournal;
+import com.tejko.yamb.util.ClashTurnCache;
 import com.tejko.yamb.util.WebSocketManager;
 
 @Component
@@ -15,16 +20,33 @@ public class ClashUpdatedEventHandler {
 
     private final WebSocketManager webSocketManager;
     private final ClashDetailModelAssembler clashDetailModelAssembler;
+    private final ClashEventJournal clashEventJournal;
+    private final ClashTurnCache clashTurnCache;
+    private final ClashInboxService clashInboxService;
 
     @Autowired
-    public ClashUpdatedEventHandler(WebSocketManager webSocketManager, ClashDetailModelAssembler clashDetailModelAssembler) {
+    public ClashUpdatedEventHandler(WebSocketManager webSocketManager, ClashDetailModelAssembler clashDetailModelAssembler, 
+                                    ClashEventJournal clashEventJournal, ClashTurnCache clashTurnCache, 
+                                    ClashInboxService clashInboxService) {
         this.webSocketManager = webSocketManager;
         this.clashDetailModelAssembler = clashDetailModelAssembler;
+        this.clashEventJournal = clashEventJournal;
+        this.clashTurnCache = clashTurnCache;
+        this.clashInboxService = clashInboxService;
     }
 
     @EventListener
     public void handleClashUpdated(ClashUpdatedEvent event) {
-        ClashDetailResponse clashDetailResponse = clashDetailModelAssembler.toModel(event.getClash());
+        Clash clash = event.getClash();
+        if (ClashStatus.COMPLETED.equals(clash.getStatus()) || ClashStatus.CANCELLED.equals(clash.getStatus())) {
+            clashEventJournal.evict(clash);
+            clashTurnCache.evict(clash);
+        } else {
+            clashEventJournal.track(clash);
+            clashTurnCache.put(clash);
+        }
+        clashInboxService.update(clash);
+        ClashDetailResponse clashDetailResponse = clashDetailModelAssembler.toModel(clash);
         webSocketManager.convertAndSend(
             "/topic/clashes/" + clashDetailResponse.getId(),
             clashDetailResponse, 
@@ -4,10 +4,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import com.tejko.yamb.api.assemblers.CompactGameModelAssembler;
 import com.tejko.yamb.api.assemblers.GameDetailModelAssembler;
+import com.tejko.yamb.api.dto.responses.CompactGameResponse;
 import com.tejko.yamb.api.dto.responses.GameDetailResponse;
 import com.tejko.yamb.api.events.GameUpdatedEvent;
+import com.tejko.yamb.domain.enums.GameType;
 import com.tejko.yamb.domain.enums.MessageType;
+import com.tejko.yamb.domain.models.ClashEvent;
+import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.util.ClashEventJournal;
 import com.tejko.yamb.util.WebSocketManager;
 
 @Component
@@ -15,21 +21,40 @@ public class GameUpdatedEventHandler {
 
     private final WebSocketManager webSocketManager;
     private final GameDetailModelAssembler gameDetailModelAssembler;
+    private final CompactGameModelAssembler compactGameModelAssembler;
+    private final ClashEventJournal clashEventJournal;
 
     @Autowired
-    public GameUpdatedEventHandler(WebSocketManager webSocketManager, GameDetailModelAssembler gameDetailModelAssembler) {
+    public GameUpdatedEventHandler(WebSocketManager webSocketManager, GameDetailModelAssembler gameDetailModelAssembler, 
+                                   CompactGameModelAssembler compactGameModelAssembler, ClashEventJournal clashEventJournal) {
         this.webSocketManager = webSocketManager;
         this.gameDetailModelAssembler = gameDetailModelAssembler;
+        this.compactGameModelAssembler = compactGameModelAssembler;
+        this.clashEventJournal = clashEventJournal;
     }
 
     @EventListener
     public void handleGameUpdated(GameUpdatedEvent event) {
-        GameDetailResponse gameDetailResponse = gameDetailModelAssembler.toModel(event.getGame());
+        Game game = event.getGame();
+        GameDetailResponse gameDetailResponse = gameDetailModelAssembler.toModel(game);
         webSocketManager.convertAndSend(
             "/topic/games/" + gameDetailResponse.getId(),
             gameDetailResponse, 
             MessageType.GAME
         );
+        String compactDestination = "/topic/games/" + gameDetailResponse.getId() + "/compact";
+        boolean compactSubscribed = webSocketManager.hasSubscribers(compactDestination);
+        boolean clashGame = GameType.CLASH.equals(game.getType());
+        if (!compactSubscribed && !clashGame) {
+            return;
+        }
+        CompactGameResponse compactGameResponse = compactGameModelAssembler.toModel(gameDetailResponse);
+        if (compactSubscribed) {
+            webSocketManager.sendBinary(compactDestination, compactGameResponse, MessageType.GAME);
+        }
+        if (clashGame) {
+            clashEventJournal.recordGameEvent(game.getExternalId(), ClashEvent.getInstance(MessageType.GAME, game.getPlayerId(), game.getExternalId(), compactGameResponse));
+        }
     }
     
 }
@@ -0,0 +1,21 @@
+package com.tejko.yamb.business.interfaces;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.tejko.yamb.domain.models.ChatMessage;
+
+public interface ChatService {
+
+    ChatMessage create(String channel, UUID senderExternalId, String content);
+
+    List<ChatMessage> getRecentByChannel(String channel);
+
+    List<ChatMessage> getHistoryByChannel(String channel, LocalDateTime before, String beforeId, int size);
+
+    boolean canAccess(String channel, UUID playerExternalId);
+
+    void flush();
+
+}
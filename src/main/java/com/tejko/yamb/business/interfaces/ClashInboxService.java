@@ -0,0 +1,20 @@
+package com.tejko.yamb.business.interfaces;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.ClashInboxEntry;
+
+public interface ClashInboxService {
+
+    List<ClashInboxEntry> getByPlayerExternalId(UUID playerExternalId, LocalDateTime before, String beforeId, int size);
+
+    void update(Clash clash);
+
+    void update(List<Clash> clashes);
+
+    void rebuild();
+
+}
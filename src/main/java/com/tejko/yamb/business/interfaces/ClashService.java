@@ -1,20 +1,26 @@
 package com.tejko.yamb.business.interfaces;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.tejko.yamb.domain.enums.ClashStatus;
 import com.tejko.yamb.domain.enums.ClashType;
 import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.ClashSummary;
 
 public interface ClashService {
 
     Clash getByExternalId(UUID externalId);
 
-    Page<Clash> getAll(Pageable pageable);
+    Optional<Clash> findByExternalId(UUID externalId);
+
+    Page<ClashSummary> getAll(Pageable pageable);
 
     Clash create(String name, UUID ownerExternalId, Set<UUID> playerExternalIds, ClashType type);
     
@@ -30,6 +36,6 @@ public interface ClashService {
 
     void deleteByExternalId(UUID externalId);
     
-    void deleteAll();
+    long deleteAll(ClashStatus status, LocalDateTime updatedBefore, UUID playerExternalId);
 
 }
@@ -2,8 +2,13 @@ package com.tejko.yamb.business.interfaces;
 
 import com.tejko.yamb.domain.enums.BoxType;
 import com.tejko.yamb.domain.enums.ColumnType;
+import com.tejko.yamb.domain.enums.GameStatus;
 import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.domain.models.GameSummary;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -13,7 +18,13 @@ public interface GameService {
 
     Game getByExternalId(UUID externalId);
 
-    Page<Game> getAll(Pageable pageable);
+    Page<GameSummary> getAll(Pageable pageable);
+
+    List<Game> findAllByExternalIds(Set<UUID> externalIds);
+
+    List<GameSummary> getTopByStatus(GameStatus status, int size);
+
+    List<GameSummary> getNearlyCompleted(float minProgress, int size);
 
     Game getOrCreate(UUID playerExternalId);
 
@@ -33,6 +44,6 @@ public interface GameService {
 
     void deleteByExternalId(UUID externalId);
 
-    void deleteAll();
+    long deleteAll(GameStatus status, LocalDateTime updatedBefore, UUID playerExternalId);
 
 }
@@ -0,0 +1,29 @@
+package com.tejko.yamb.business.interfaces;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.tejko.yamb.domain.models.GlobalScoreStats;
+import com.tejko.yamb.domain.models.Score;
+import com.tejko.yamb.domain.models.ScoreHistogram;
+import com.tejko.yamb.domain.models.ScoreRank;
+
+public interface LeaderboardService {
+
+    GlobalScoreStats getGlobalStats();
+
+    ScoreRank getRank(int value);
+
+    ScoreHistogram getHistogram(int bucketSize);
+
+    void record(Score score);
+
+    void remove(Score score);
+
+    void removePlayerScores(Long playerId, Map<Integer, Long> scoreCountsByValue);
+
+    void reassignPlayers(Long parentId, Collection<Long> playerIds);
+
+    void reload();
+
+}
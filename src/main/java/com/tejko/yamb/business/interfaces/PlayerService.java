@@ -10,8 +10,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.tejko.yamb.domain.models.Clash;
-import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.domain.models.ClashSummary;
+import com.tejko.yamb.domain.models.GameSummary;
 import com.tejko.yamb.domain.models.GlobalPlayerStats;
 import com.tejko.yamb.domain.models.Log;
 import com.tejko.yamb.domain.models.Notification;
@@ -38,9 +38,9 @@ public interface PlayerService extends UserDetailsService {
     
     List<Score> getScoresByPlayerExternalId(UUID playerExternalId);
 
-    List<Game> getGamesByPlayerExternalId(UUID playerExternalId);
+    List<GameSummary> getGamesByPlayerExternalId(UUID playerExternalId);
 
-    List<Clash> getClashesByPlayerExternalId(UUID playerExternalId);
+    List<ClashSummary> getClashesByPlayerExternalId(UUID playerExternalId);
 
     List<Log> getLogsByPlayerExternalId(UUID playerExternalId);
 
@@ -4,6 +4,8 @@ import java.util.UUID;
 
 import com.tejko.yamb.domain.models.GlobalScoreStats;
 import com.tejko.yamb.domain.models.Score;
+import com.tejko.yamb.domain.models.ScoreHistogram;
+import com.tejko.yamb.domain.models.ScoreRank;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -17,5 +19,9 @@ public interface ScoreService {
 	void deleteByExternalId(UUID externalId);
 
 	GlobalScoreStats getGlobalStats();
+
+	ScoreRank getRank(int value);
+
+	ScoreHistogram getHistogram(int bucketSize);
     
 }
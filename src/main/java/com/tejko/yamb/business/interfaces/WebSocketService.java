@@ -16,6 +16,8 @@ public interface WebSocketService {
 
     void privateMessage(String message, Principal principal);
 
+    void clashMessage(UUID clashId, String message, Principal principal);
+
     void handleReaction(UUID clashId, String message, Principal principal);
     
     void handleSuggestion(UUID clashId, String message, Principal principal);
@@ -29,4 +31,7 @@ public interface WebSocketService {
     void handleSessionUnsubscribeEvent(SessionUnsubscribeEvent event);
     
     void convertAndSend(String destination, Object content, MessageType type);
+
+    void convertAndSendToUser(UUID playerExternalId, Object content, MessageType type);
+
 }
@@ -0,0 +1,207 @@
+package com.tejko.yamb.business.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import javax.annotation.PreDestroy;
+
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import com.tejko.yamb.business.interfaces.ChatService;
+import com.tejko.yamb.domain.exceptions.ResourceLockedException;
+import com.tejko.yamb.domain.models.ChatMessage;
+import com.tejko.yamb.domain.repositories.ChatMessageRepository;
+import com.tejko.yamb.domain.repositories.ClashRepository;
+import com.tejko.yamb.security.AuthContext;
+import com.tejko.yamb.util.ClashEventJournal;
+
+@Service
+public class ChatServiceImpl implements ChatService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChatServiceImpl.class);
+
+    private final ChatMessageRepository chatMessageRepo;
+    private final ClashRepository clashRepo;
+    private final ClashEventJournal clashEventJournal;
+    private final Map<String, Deque<ChatMessage>> recentMessages;
+    private final BlockingQueue<ChatMessage> pendingMessages;
+
+    @Value("${chat.history.size:50}")
+    private int historySize;
+
+    @Value("${chat.flush.batch-size:500}")
+    private int flushBatchSize;
+
+    @Autowired
+    public ChatServiceImpl(ChatMessageRepository chatMessageRepo, ClashRepository clashRepo, ClashEventJournal clashEventJournal,
+                           @Value("${chat.history.max-channels:500}") int maxChannels,
+                           @Value("${chat.flush.max-pending:5000}") int maxPending) {
+        this.chatMessageRepo = chatMessageRepo;
+        this.clashRepo = clashRepo;
+        this.clashEventJournal = clashEventJournal;
+        this.pendingMessages = new ArrayBlockingQueue<>(maxPending);
+        this.recentMessages = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Deque<ChatMessage>> eldest) {
+                return size() > maxChannels;
+            }
+
+        });
+    }
+
+    @Override
+    public ChatMessage create(String channel, UUID senderExternalId, String content) {
+        ChatMessage message = ChatMessage.getInstance(channel, senderExternalId, content);
+        Deque<ChatMessage> ring = getRing(channel);
+        if (!pendingMessages.offer(message)) {
+            flushPending();
+            if (!pendingMessages.offer(message)) {
+                throw new ResourceLockedException("error.chat_unavailable");
+            }
+        }
+        synchronized (ring) {
+            append(ring, message);
+        }
+        return message;
+    }
+
+    @Override
+    public List<ChatMessage> getRecentByChannel(String channel) {
+        Deque<ChatMessage> ring = getRing(channel);
+        synchronized (ring) {
+            return new ArrayList<>(ring);
+        }
+    }
+
+    @Override
+    public List<ChatMessage> getHistoryByChannel(String channel, LocalDateTime before, String beforeId, int size) {
+        if (!canAccess(channel, AuthContext.getAuthenticatedPlayer().getExternalId())) {
+            throw new AccessDeniedException("error.access_denied");
+        }
+        PageRequest pageRequest = PageRequest.of(0, size);
+        if (before == null) {
+            return chatMessageRepo.findAllByChannelOrderByCreatedAtDescIdDesc(channel, pageRequest);
+        } else if (beforeId == null) {
+            return chatMessageRepo.findAllByChannelAndCreatedAtBeforeOrderByCreatedAtDescIdDesc(channel, before, pageRequest);
+        } else if (!ObjectId.isValid(beforeId)) {
+            throw new IllegalArgumentException("Invalid message id: " + beforeId);
+        }
+        return chatMessageRepo.findAllByChannelBefore(channel, before, new ObjectId(beforeId), pageRequest);
+    }
+
+    @Override
+    public boolean canAccess(String channel, UUID playerExternalId) {
+        if (ChatMessage.PUBLIC_CHANNEL.equals(channel)) {
+            return true;
+        }
+        UUID clashExternalId;
+        try {
+            clashExternalId = UUID.fromString(channel);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return clashEventJournal.getClash(clashExternalId)
+            .map(Optional::of)
+            .orElseGet(() -> clashRepo.findByExternalId(clashExternalId).map(clash -> {
+                clashEventJournal.track(clash);
+                return clash;
+            }))
+            .map(clash -> clash.hasPlayer(playerExternalId))
+            .orElse(false);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${chat.flush.interval:2000}")
+    public void flush() {
+        flushPending();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushPending();
+    }
+
+    private synchronized void flushPending() {
+        while (!pendingMessages.isEmpty()) {
+            List<ChatMessage> batch = new ArrayList<>();
+            Iterator<ChatMessage> iterator = pendingMessages.iterator();
+            while (iterator.hasNext() && batch.size() < flushBatchSize) {
+                batch.add(iterator.next());
+            }
+            try {
+                insert(batch);
+            } catch (RuntimeException e) {
+                logger.error("Failed to persist {} of {} pending chat messages, retrying on next flush", batch.size(), pendingMessages.size(), e);
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                pendingMessages.poll();
+            }
+        }
+    }
+
+    private void insert(List<ChatMessage> batch) {
+        try {
+            chatMessageRepo.insert(batch);
+        } catch (DuplicateKeyException e) {
+            for (ChatMessage message : batch) {
+                try {
+                    chatMessageRepo.insert(message);
+                } catch (DuplicateKeyException duplicate) {
+                    logger.debug("Chat message {} was already persisted", message.getId());
+                }
+            }
+        }
+    }
+
+    private Deque<ChatMessage> getRing(String channel) {
+        Deque<ChatMessage> ring = recentMessages.get(channel);
+        if (ring != null) {
+            return ring;
+        }
+        Deque<ChatMessage> loaded = loadRing(channel);
+        ring = recentMessages.putIfAbsent(channel, loaded);
+        return ring != null ? ring : loaded;
+    }
+
+    private Deque<ChatMessage> loadRing(String channel) {
+        List<ChatMessage> messages = new ArrayList<>(chatMessageRepo.findAllByChannelOrderByCreatedAtDescIdDesc(channel, PageRequest.of(0, historySize)));
+        Collections.reverse(messages);
+        Deque<ChatMessage> ring = new ArrayDeque<>(messages);
+        for (ChatMessage pendingMessage : pendingMessages) {
+            if (channel.equals(pendingMessage.getChannel())) {
+                append(ring, pendingMessage);
+            }
+        }
+        return ring;
+    }
+
+    private void append(Deque<ChatMessage> ring, ChatMessage message) {
+        if (ring.size() == historySize) {
+            ring.removeFirst();
+        }
+        ring.addLast(message);
+    }
+
+}
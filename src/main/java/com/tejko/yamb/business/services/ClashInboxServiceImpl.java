@@ -0,0 +1,127 @@
+package com.tejko.yamb.business.services;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.tejko.yamb.business.interfaces.ClashInboxService;
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.Clash.ClashPlayer;
+import com.tejko.yamb.domain.models.ClashInboxEntry;
+import com.tejko.yamb.domain.models.ClashInboxEntry.Opponent;
+import com.tejko.yamb.domain.models.Player;
+import com.tejko.yamb.domain.repositories.ClashInboxRepository;
+import com.tejko.yamb.domain.repositories.ClashRepository;
+import com.tejko.yamb.domain.repositories.PlayerRepository;
+
+@Service
+public class ClashInboxServiceImpl implements ClashInboxService {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final ClashInboxRepository clashInboxRepo;
+    private final ClashRepository clashRepo;
+    private final PlayerRepository playerRepo;
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public ClashInboxServiceImpl(ClashInboxRepository clashInboxRepo, ClashRepository clashRepo, PlayerRepository playerRepo, 
+                                 MongoTemplate mongoTemplate) {
+        this.clashInboxRepo = clashInboxRepo;
+        this.clashRepo = clashRepo;
+        this.playerRepo = playerRepo;
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<ClashInboxEntry> getByPlayerExternalId(UUID playerExternalId, LocalDateTime before, String beforeId, int size) {
+        PageRequest pageRequest = PageRequest.of(0, size);
+        if (before == null) {
+            return clashInboxRepo.findAllByPlayerIdOrderByUpdatedAtDescIdDesc(playerExternalId, pageRequest);
+        } else if (beforeId == null) {
+            return clashInboxRepo.findAllByPlayerIdAndUpdatedAtBeforeOrderByUpdatedAtDescIdDesc(playerExternalId, before, pageRequest);
+        }
+        return clashInboxRepo.findAllByPlayerIdBefore(playerExternalId, before, beforeId, pageRequest);
+    }
+
+    @Override
+    public void update(Clash clash) {
+        Update update = Update.update("turnPlayerId", ClashInboxEntry.getTurnPlayerId(clash))
+            .set("winnerId", clash.getWinnerId())
+            .set("updatedAt", clash.getUpdatedAt());
+        long matched = mongoTemplate.updateMulti(
+            query(where("clashId").is(clash.getExternalId()).and("signature").is(ClashInboxEntry.generateSignature(clash))), 
+            update, 
+            ClashInboxEntry.class
+        ).getMatchedCount();
+        if (matched == clash.getPlayers().size()) {
+            return;
+        }
+        update(Collections.singletonList(clash));
+        clashInboxRepo.deleteAllByClashIdAndPlayerIdNotIn(clash.getExternalId(), 
+            clash.getPlayers().stream().map(ClashPlayer::getId).collect(Collectors.toList()));
+    }
+
+    @Override
+    public void update(List<Clash> clashes) {
+        Set<UUID> playerIds = new HashSet<>();
+        for (Clash clash : clashes) {
+            for (ClashPlayer player : clash.getPlayers()) {
+                playerIds.add(player.getId());
+            }
+        }
+        Map<UUID, Player> playerMap = playerRepo.findAllByExternalIdIn(playerIds).stream()
+            .collect(Collectors.toMap(Player::getExternalId, Function.identity()));
+
+        List<ClashInboxEntry> entries = new ArrayList<>();
+        for (Clash clash : clashes) {
+            for (ClashPlayer player : clash.getPlayers()) {
+                entries.add(ClashInboxEntry.getInstance(clash, player, generateOpponents(clash, player, playerMap)));
+            }
+        }
+        clashInboxRepo.saveAll(entries);
+    }
+
+    private List<Opponent> generateOpponents(Clash clash, ClashPlayer player, Map<UUID, Player> playerMap) {
+        List<Opponent> opponents = new ArrayList<>();
+        for (ClashPlayer clashPlayer : clash.getPlayers()) {
+            Player opponent = playerMap.get(clashPlayer.getId());
+            if (opponent != null && !clashPlayer.getId().equals(player.getId())) {
+                String avatarUrl = opponent.getAvatar() != null ? opponent.getAvatar().getUrl() : null;
+                opponents.add(Opponent.getInstance(opponent.getExternalId(), opponent.getUsername(), avatarUrl));
+            }
+        }
+        return opponents;
+    }
+
+    @Override
+    public void rebuild() {
+        Pageable pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id"));
+        Page<Clash> clashes;
+        do {
+            clashes = clashRepo.findAll(pageable);
+            update(clashes.getContent());
+            pageable = clashes.nextPageable();
+        } while (clashes.hasNext());
+    }
+
+}
@@ -1,13 +1,27 @@
 package com.tejko.yamb.business.services;
 
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -19,30 +33,52 @@ import com.tejko.yamb.domain.enums.ClashType;
 import com.tejko.yamb.domain.enums.GameType;
 import com.tejko.yamb.domain.enums.NotificationType;
 import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.ClashSummary;
 import com.tejko.yamb.domain.models.Game;
 import com.tejko.yamb.domain.models.Notification;
 import com.tejko.yamb.domain.models.Player;
+import com.tejko.yamb.domain.repositories.ClashInboxRepository;
 import com.tejko.yamb.domain.repositories.ClashRepository;
+import com.tejko.yamb.domain.repositories.ClashSummaryRepository;
 import com.tejko.yamb.domain.repositories.GameRepository;
 import com.tejko.yamb.domain.repositories.NotificationRepository;
 import com.tejko.yamb.domain.repositories.PlayerRepository;
 import com.tejko.yamb.security.AuthContext;
 import com.tejko.yamb.util.ApplicationContextProvider;
+import com.tejko.yamb.util.ClashEventJournal;
+import com.tejko.yamb.util.ClashTurnCache;
 
 @Service
 public class ClashServiceImpl implements ClashService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ClashServiceImpl.class);
+
+    private static final String CLASHES_COLLECTION = "clashes";
+    private static final int DELETE_BATCH_SIZE = 500;
+
     private final ClashRepository clashRepo;
+    private final ClashSummaryRepository clashSummaryRepo;
     private final GameRepository gameRepo;
     private final PlayerRepository playerRepo;
     private final NotificationRepository notificationRepo;
+    private final ClashEventJournal clashEventJournal;
+    private final ClashTurnCache clashTurnCache;
+    private final ClashInboxRepository clashInboxRepo;
+    private final MongoTemplate mongoTemplate;
 
     @Autowired
-    public ClashServiceImpl(ClashRepository clashRepo, GameRepository gameRepo, PlayerRepository playerRepo, NotificationRepository notificationRepo) {
+    public ClashServiceImpl(ClashRepository clashRepo, ClashSummaryRepository clashSummaryRepo, GameRepository gameRepo, PlayerRepository playerRepo, 
+                            NotificationRepository notificationRepo, ClashEventJournal clashEventJournal, 
+                            ClashTurnCache clashTurnCache, ClashInboxRepository clashInboxRepo, MongoTemplate mongoTemplate) {
         this.clashRepo = clashRepo;
+        this.clashSummaryRepo = clashSummaryRepo;
         this.gameRepo = gameRepo;
         this.playerRepo = playerRepo;
         this.notificationRepo = notificationRepo;
+        this.clashEventJournal = clashEventJournal;
+        this.clashTurnCache = clashTurnCache;
+        this.clashInboxRepo = clashInboxRepo;
+        this.mongoTemplate = mongoTemplate;
     }
 
     @Override
@@ -51,31 +87,59 @@ public class ClashServiceImpl implements ClashService {
     }
 
     @Override
-    public Page<Clash> getAll(Pageable pageable) {
-        return clashRepo.findAll(pageable);
+    public Optional<Clash> findByExternalId(UUID externalId) {
+        return clashRepo.findByExternalId(externalId);
+    }
+
+    @Override
+    public Page<ClashSummary> getAll(Pageable pageable) {
+        return clashSummaryRepo.findAllBy(pageable);
     }
 
     @Override
     public Clash create(String name, UUID ownerExternalId, Set<UUID> playerExternalIds, ClashType type) {
-        String playerHash = Clash.generatePlayerHash(playerExternalIds);
-        if (clashRepo.findActiveByPlayerHashAndType(playerHash, type).isPresent()) {
-            throw new IllegalStateException("A clash with those players already exists");
-        }        
         validateCreate(playerExternalIds, type);
-        Game game = Game.getInstance(ownerExternalId, GameType.CLASH);
-        gameRepo.save(game);
         Clash clash = Clash.getInstance(name, ownerExternalId, playerExternalIds, type);
+        Game game = Game.getInstance(ownerExternalId, GameType.CLASH);
         clash.getPlayer(ownerExternalId).setGameId(game.getExternalId());
-        clashRepo.save(clash);
-        List<Notification> notifications = generateClashNotifications(clash, playerExternalIds);
-        notificationRepo.saveAll(notifications);
+        insertClash(clash);
+        try {
+            gameRepo.insert(game);
+            notificationRepo.saveAll(generateClashNotifications(clash, playerExternalIds));
+        } catch (RuntimeException e) {
+            if (game.getId() != null) {
+                gameRepo.delete(game);
+            }
+            clashRepo.delete(clash);
+            throw e;
+        }
+        ApplicationContextProvider.publishEvent(new ClashUpdatedEvent(clash));
         return clash;
     }
 
+    private void insertClash(Clash clash) {
+        try {
+            clashRepo.insert(clash);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalStateException("A clash with those players already exists");
+        }
+    }
+
+    private void saveClash(Clash clash) {
+        try {
+            clashRepo.save(clash);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalStateException("A clash with those players already exists");
+        }
+    }
+
     private List<Notification> generateClashNotifications(Clash clash, Set<UUID> playerExternalIds) {
         List<Player> players = playerRepo.findAllByExternalIdIn(playerExternalIds);
         List<Notification> notifications = new ArrayList<>();
-        Player owner = playerRepo.findByExternalId(clash.getOwnerId()).get();
+        Player owner = players.stream()
+            .filter(player -> player.getExternalId().equals(clash.getOwnerId()))
+            .findFirst()
+            .orElseGet(() -> playerRepo.findByExternalId(clash.getOwnerId()).get());
         for (Player player : players) {
             if (!owner.getExternalId().equals(player.getExternalId())) {
                 notifications.add(Notification.getInstance(player, "Clash invitation from " + owner.getUsername(), "/clashes/" + clash.getExternalId(), NotificationType.CLASH_INVITATION));
@@ -115,7 +179,7 @@ public class ClashServiceImpl implements ClashService {
         if (clash.checkStartConditions()) {
             clash.startClash();
         }
-        clashRepo.save(clash);
+        saveClash(clash);
         ApplicationContextProvider.publishEvent(new ClashUpdatedEvent(clash));
         return clash;
     }
@@ -127,7 +191,7 @@ public class ClashServiceImpl implements ClashService {
         if (clash.checkStartConditions()) {
             clash.startClash();
         }
-        clashRepo.save(clash);
+        saveClash(clash);
         ApplicationContextProvider.publishEvent(new ClashUpdatedEvent(clash));
         return clash;
     }
@@ -137,7 +201,7 @@ public class ClashServiceImpl implements ClashService {
         Clash clash = getByExternalId(externalId);
         checkPermission(clash.getOwnerId());
         clash.addPlayers(playerExternalIds);
-        clashRepo.save(clash);
+        saveClash(clash);
         notificationRepo.saveAll(generateClashNotifications(clash, playerExternalIds));
         ApplicationContextProvider.publishEvent(new ClashUpdatedEvent(clash));
         return clash;    }
@@ -150,7 +214,7 @@ public class ClashServiceImpl implements ClashService {
         if (clash.checkStartConditions()) {
             clash.startClash();
         }
-        clashRepo.save(clash);
+        saveClash(clash);
         ApplicationContextProvider.publishEvent(new ClashUpdatedEvent(clash));
         return clash;    }
 
@@ -159,11 +223,47 @@ public class ClashServiceImpl implements ClashService {
         Clash clash = getByExternalId(externalId);
         checkPermission(clash.getOwnerId());
         clashRepo.delete(clash);
+        clashEventJournal.evict(clash);
+        clashTurnCache.evict(clash);
+        clashInboxRepo.deleteAllByClashId(clash.getExternalId());
     }
 
     @Override
-    public void deleteAll() {
-        clashRepo.deleteAll();
+    public long deleteAll(ClashStatus status, LocalDateTime updatedBefore, UUID playerExternalId) {
+        Criteria criteria = new Criteria();
+        if (status != null) {
+            criteria.and("status").is(status);
+        }
+        if (updatedBefore != null) {
+            criteria.and("updated_at").lt(updatedBefore);
+        }
+        if (playerExternalId != null) {
+            criteria.and("players._id").is(playerExternalId);
+        }
+        long deleted = 0;
+        List<Clash> clashes;
+        String lastId = null;
+        do {
+            Query batchQuery = query(criteria).with(Sort.by("id")).limit(DELETE_BATCH_SIZE);
+            if (lastId != null) {
+                batchQuery.addCriteria(where("id").gt(new ObjectId(lastId)));
+            }
+            clashes = mongoTemplate.find(batchQuery, Clash.class, CLASHES_COLLECTION);
+            if (clashes.isEmpty()) {
+                break;
+            }
+            lastId = clashes.get(clashes.size() - 1).getId();
+            List<String> ids = clashes.stream().map(Clash::getId).collect(Collectors.toList());
+            List<UUID> clashIds = clashes.stream().map(Clash::getExternalId).collect(Collectors.toList());
+            deleted += mongoTemplate.remove(query(where("id").in(ids)), Clash.class).getDeletedCount();
+            clashInboxRepo.deleteAllByClashIdIn(clashIds);
+            for (Clash clash : clashes) {
+                clashTurnCache.evict(clash);
+                clashEventJournal.evict(clash);
+            }
+        } while (clashes.size() == DELETE_BATCH_SIZE);
+        logger.info("Deleted {} clashes", deleted);
+        return deleted;
     }
 
     private void checkPermission(UUID playerExternalId) {
@@ -1,58 +1,117 @@
 package com.tejko.yamb.business.services;
 
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.tejko.yamb.api.events.ClashUpdatedEvent;
 import com.tejko.yamb.api.events.GameUpdatedEvent;
 import com.tejko.yamb.business.interfaces.GameService;
+import com.tejko.yamb.business.interfaces.LeaderboardService;
 import com.tejko.yamb.domain.enums.BoxType;
 import com.tejko.yamb.domain.enums.ClashStatus;
 import com.tejko.yamb.domain.enums.ColumnType;
 import com.tejko.yamb.domain.enums.GameStatus;
 import com.tejko.yamb.domain.enums.GameType;
+import com.tejko.yamb.domain.exceptions.GameLockedException;
 import com.tejko.yamb.domain.models.Clash;
 import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.domain.models.GameSummary;
 import com.tejko.yamb.domain.models.Player;
 import com.tejko.yamb.domain.models.Score;
 import com.tejko.yamb.domain.repositories.ClashRepository;
 import com.tejko.yamb.domain.repositories.GameRepository;
+import com.tejko.yamb.domain.repositories.GameSummaryRepository;
+import com.tejko.yamb.domain.repositories.PlayerScoreStatsRepository;
 import com.tejko.yamb.domain.repositories.ScoreRepository;
 import com.tejko.yamb.security.AuthContext;
 import com.tejko.yamb.util.ApplicationContextProvider;
+import com.tejko.yamb.util.ClashTurnCache;
+import com.tejko.yamb.util.GameArchiver;
 
 @Service
 public class GameServiceImpl implements GameService {
 
+    private static final Logger logger = LoggerFactory.getLogger(GameServiceImpl.class);
+
+    private static final String GAMES_COLLECTION = "games";
+
     private final GameRepository gameRepo;
+    private final GameSummaryRepository gameSummaryRepo;
     private final ScoreRepository scoreRepo;
     private final ClashRepository clashRepo;
+    private final ClashTurnCache clashTurnCache;
+    private final GameArchiver gameArchiver;
+    private final MongoTemplate mongoTemplate;
+    private final LeaderboardService leaderboardService;
+    private final PlayerScoreStatsRepository playerScoreStatsRepo;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
-    public GameServiceImpl(GameRepository gameRepo, ScoreRepository scoreRepo, ClashRepository clashRepo) {
+    public GameServiceImpl(GameRepository gameRepo, GameSummaryRepository gameSummaryRepo, ScoreRepository scoreRepo, ClashRepository clashRepo, 
+                           ClashTurnCache clashTurnCache, GameArchiver gameArchiver, MongoTemplate mongoTemplate, 
+                           LeaderboardService leaderboardService, PlayerScoreStatsRepository playerScoreStatsRepo, 
+                           TransactionTemplate transactionTemplate) {
         this.gameRepo = gameRepo;
+        this.gameSummaryRepo = gameSummaryRepo;
         this.scoreRepo = scoreRepo;
         this.clashRepo = clashRepo;
+        this.clashTurnCache = clashTurnCache;
+        this.gameArchiver = gameArchiver;
+        this.mongoTemplate = mongoTemplate;
+        this.leaderboardService = leaderboardService;
+        this.playerScoreStatsRepo = playerScoreStatsRepo;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Override
     public Game getByExternalId(UUID externalId) {
-        return gameRepo.findByExternalId(externalId).orElseThrow(() -> new ResourceNotFoundException());
+        return gameRepo.findByExternalId(externalId)
+            .or(() -> gameArchiver.findByExternalId(externalId))
+            .orElseThrow(() -> new ResourceNotFoundException());
+    }
+
+    private Game getActiveByExternalId(UUID externalId) {
+        return gameRepo.findByExternalId(externalId)
+            .orElseThrow(() -> gameArchiver.existsByExternalId(externalId) ? new GameLockedException() : new ResourceNotFoundException());
+    }
+
+    @Override
+    public Page<GameSummary> getAll(Pageable pageable) {
+        return gameSummaryRepo.findAllBy(pageable);
+    }
+
+    @Override
+    public List<Game> findAllByExternalIds(Set<UUID> externalIds) {
+        return gameRepo.findAllByExternalIdIn(externalIds);
+    }
+
+    @Override
+    public List<GameSummary> getTopByStatus(GameStatus status, int size) {
+        return gameSummaryRepo.findAllByStatusOrderByTotalSumDesc(status, PageRequest.of(0, size));
     }
 
     @Override
-    public Page<Game> getAll(Pageable pageable) {
-        return gameRepo.findAll(pageable);
+    public List<GameSummary> getNearlyCompleted(float minProgress, int size) {
+        return gameSummaryRepo.findAllByStatusAndProgressGreaterThanEqualOrderByProgressDesc(GameStatus.IN_PROGRESS, minProgress, PageRequest.of(0, size));
     }
 
     @Override
@@ -64,10 +123,10 @@ public class GameServiceImpl implements GameService {
 
     @Override
     public Game rollByExternalId(UUID externalId, int[] diceToRoll) {
-        Game game = getByExternalId(externalId);
+        Game game = getActiveByExternalId(externalId);
         checkPermission(game.getPlayerId());
         if (GameType.CLASH.equals(game.getType())) {
-            validateTurnByGameExternalId(externalId);
+            validateTurn(game);
         }
         game.roll(diceToRoll);
         gameRepo.save(game);
@@ -77,10 +136,10 @@ public class GameServiceImpl implements GameService {
 
     @Override
     public Game announceByExternalId(UUID externalId, BoxType boxType) {
-        Game game = getByExternalId(externalId);
+        Game game = getActiveByExternalId(externalId);
         checkPermission(game.getPlayerId());
         if (GameType.CLASH.equals(game.getType())) {
-            validateTurnByGameExternalId(externalId);
+            validateTurn(game);
         }
         game.announce(boxType);
         gameRepo.save(game);
@@ -90,16 +149,20 @@ public class GameServiceImpl implements GameService {
 
     @Override
     public Game fillByExternalId(UUID externalId, ColumnType columnType, BoxType boxType) {
-        Game game = getByExternalId(externalId);
+        Game game = getActiveByExternalId(externalId);
         checkPermission(game.getPlayerId());
         if (GameType.CLASH.equals(game.getType())) {
-            validateTurnByGameExternalId(externalId);
+            validateTurn(game);
         }
         game.fill(columnType, boxType);
         if (game.getStatus() == GameStatus.COMPLETED) {
             Player player = AuthContext.getAuthenticatedPlayer();
             Score score = Score.getInstance(player, game.getTotalSum());
-            scoreRepo.save(score);
+            transactionTemplate.executeWithoutResult(status -> {
+                scoreRepo.save(score);
+                playerScoreStatsRepo.recordScore(player.getId(), score.getId(), score.getValue(), score.getCreatedAt());
+            });
+            leaderboardService.record(score);
         }
         gameRepo.save(game);
         if (GameType.CLASH.equals(game.getType())) {
@@ -110,7 +173,7 @@ public class GameServiceImpl implements GameService {
     }
 
     public Game undoFillByExternalId(UUID externalId) {
-        Game game = getByExternalId(externalId);
+        Game game = getActiveByExternalId(externalId);
         checkPermission(game.getPlayerId());
         game.undoFill();
         gameRepo.save(game);
@@ -121,7 +184,7 @@ public class GameServiceImpl implements GameService {
 
     @Override
     public Game completeByExternalId(UUID externalId) {
-        Game game = getByExternalId(externalId);
+        Game game = getActiveByExternalId(externalId);
         game.complete();
         gameRepo.save(game);
         ApplicationContextProvider.publishEvent(new GameUpdatedEvent(game));
@@ -130,7 +193,7 @@ public class GameServiceImpl implements GameService {
 
     @Override
     public Game restartByExternalId(UUID externalId) {      
-        Game game = getByExternalId(externalId);
+        Game game = getActiveByExternalId(externalId);
         checkPermission(game.getPlayerId());
         game.restart();
         gameRepo.save(game);
@@ -140,38 +203,43 @@ public class GameServiceImpl implements GameService {
 
     @Override
     public Game archiveByExternalId(UUID externalId) {
-        Game game = getByExternalId(externalId);
+        Game game = getActiveByExternalId(externalId);
         checkPermission(game.getPlayerId());
         game.archive();
         gameRepo.save(game);
         return game;
     }
     
-    private void validateTurnByGameExternalId(UUID gameExternalId) {
-        Game game = getByExternalId(gameExternalId);
-        Clash clash = clashRepo.findByGameId(gameExternalId).get();
+    private void validateTurn(Game game) {
+        Clash clash = getClashByGame(game);
         UUID currentPlayerId = clash.getPlayers().get(clash.getTurn()).getId();
         if (!game.getPlayerId().equals(currentPlayerId)) {
             throw new IllegalStateException("Not your turn");
         }
     }
 
+    private Clash getClashByGame(Game game) {
+        Optional<Clash> cachedClash = clashTurnCache.getByGameId(game.getExternalId());
+        if (cachedClash.isPresent()) {
+            return cachedClash.get();
+        }
+        Clash clash = clashRepo.findByGameId(game.getExternalId()).orElseThrow(() -> new ResourceNotFoundException());
+        clashTurnCache.put(clash);
+        return clash;
+    }
+
     private void advanceClashTurn(Game game) {
-        Optional<Clash> existingClash = clashRepo.findByGameId(game.getExternalId());
-        if (existingClash.isPresent()) {
-            Clash clash = existingClash.get();
-            if (GameStatus.COMPLETED.equals(game.getStatus())) {
-                clash.getPlayers().get(clash.getTurn()).setScore(game.getTotalSum());
-                if (clash.getTurn() == clash.getPlayers().size() -1 ) {
-                    clash.setStatus(ClashStatus.COMPLETED);
-                    List<Game> games = gameRepo.findAllByExternalIdIn(clash.getPlayers().stream().map(t -> t.getGameId()).collect(Collectors.toSet()));
-                    clash.setWinnerId(games.stream().max((o1, o2) -> o1.getTotalSum()-o2.getTotalSum()).get().getPlayerId());
-                } 
+        Clash clash = getClashByGame(game).copy();
+        if (GameStatus.COMPLETED.equals(game.getStatus())) {
+            clash.getPlayers().get(clash.getTurn()).setScore(game.getTotalSum());
+            if (clash.getTurn() == clash.getPlayers().size() - 1) {
+                clash.complete();
             }
-            clash.advanceTurn();
-            clashRepo.save(clash);
-            ApplicationContextProvider.publishEvent(new ClashUpdatedEvent(clash));
         }
+        clash.advanceTurn();
+        clashRepo.save(clash);
+        clashTurnCache.put(clash);
+        ApplicationContextProvider.publishEvent(new ClashUpdatedEvent(clash));
     }
 
     private void checkPermission(UUID playerExternalId) {
@@ -185,11 +253,25 @@ public class GameServiceImpl implements GameService {
     public void deleteByExternalId(UUID externalId) {
         Game game = getByExternalId(externalId);
         gameRepo.delete(game);
+        gameArchiver.deleteByExternalId(externalId);
     }
 
     @Override
-    public void deleteAll() {
-        gameRepo.deleteAll();
+    public long deleteAll(GameStatus status, LocalDateTime updatedBefore, UUID playerExternalId) {
+        Criteria criteria = new Criteria();
+        if (status != null) {
+            criteria.and("status").is(status);
+        }
+        if (updatedBefore != null) {
+            criteria.and("updated_at").lt(updatedBefore);
+        }
+        if (playerExternalId != null) {
+            criteria.and("player_id").is(playerExternalId);
+        }
+        long deleted = mongoTemplate.remove(query(criteria), GAMES_COLLECTION).getDeletedCount();
+        deleted += gameArchiver.deleteAll(query(criteria));
+        logger.info("Deleted {} games", deleted);
+        return deleted;
     }
 
 }
@@ -0,0 +1,385 @@
+package com.tejko.yamb.business.services;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.tejko.yamb.business.interfaces.LeaderboardService;
+import com.tejko.yamb.domain.models.GlobalScoreStats;
+import com.tejko.yamb.domain.models.Score;
+import com.tejko.yamb.domain.models.ScoreHistogram;
+import com.tejko.yamb.domain.models.ScoreRank;
+import com.tejko.yamb.domain.repositories.ScoreRepository;
+import com.tejko.yamb.util.FenwickTree;
+
+@Service
+public class LeaderboardServiceImpl implements LeaderboardService {
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingInt(Entry::getValue).reversed()
+        .thenComparing(Entry::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(Entry::getScoreId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final ScoreRepository scoreRepo;
+    private final Map<Window, Leaderboard> leaderboards = new EnumMap<>(Window.class);
+
+    @Value("${leaderboard.size:30}")
+    private int size;
+
+    @Value("${leaderboard.max-score:2000}")
+    private int maxScore;
+
+    private FenwickTree scoreCounts;
+
+    private long scoreCount;
+    private long scoreSum;
+    private boolean loaded;
+    private volatile LocalDate snapshotDate;
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public LeaderboardServiceImpl(ScoreRepository scoreRepo) {
+        this.scoreRepo = scoreRepo;
+    }
+
+    @Override
+    public GlobalScoreStats getGlobalStats() {
+        Snapshot current = snapshot;
+        if (current == null || !LocalDate.now().equals(snapshotDate)) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                } else {
+                    rollover(LocalDate.now());
+                    publish();
+                }
+                current = snapshot;
+            }
+        }
+        return resolve(current);
+    }
+
+    @Override
+    public synchronized ScoreRank getRank(int value) {
+        if (!loaded) {
+            reload();
+        }
+        int index = toIndex(value);
+        long total = scoreCounts.total();
+        ScoreRank scoreRank = new ScoreRank();
+        scoreRank.setValue(value);
+        scoreRank.setScoreCount(total);
+        scoreRank.setRank(scoreCounts.rangeSum(index + 1, maxScore) + 1);
+        scoreRank.setPercentile(total > 0 ? 100.0 * scoreCounts.prefixSum(index - 1) / total : 0);
+        return scoreRank;
+    }
+
+    @Override
+    public synchronized ScoreHistogram getHistogram(int bucketSize) {
+        if (bucketSize <= 0) {
+            throw new IllegalArgumentException("Bucket size must be positive");
+        }
+        if (!loaded) {
+            reload();
+        }
+        List<ScoreHistogram.Bucket> buckets = new ArrayList<>();
+        for (int from = 0; from <= maxScore; from += bucketSize) {
+            int to = Math.min(from + bucketSize - 1, maxScore);
+            long count = scoreCounts.rangeSum(from, to);
+            if (count > 0) {
+                buckets.add(new ScoreHistogram.Bucket(from, to, count));
+            }
+        }
+        ScoreHistogram histogram = new ScoreHistogram();
+        histogram.setBucketSize(bucketSize);
+        histogram.setScoreCount(scoreCounts.total());
+        histogram.setBuckets(buckets);
+        return histogram;
+    }
+
+    @Override
+    public synchronized void record(Score score) {
+        if (!loaded) {
+            reload();
+            return;
+        }
+        rollover(LocalDate.now());
+        scoreCount++;
+        scoreSum += score.getValue();
+        scoreCounts.add(toIndex(score.getValue()), 1);
+        Entry entry = Entry.of(score);
+        for (Leaderboard leaderboard : leaderboards.values()) {
+            leaderboard.offer(entry);
+        }
+        publish();
+    }
+
+    @Override
+    public synchronized void remove(Score score) {
+        if (!loaded) {
+            return;
+        }
+        rollover(LocalDate.now());
+        scoreCount--;
+        scoreSum -= score.getValue();
+        scoreCounts.add(toIndex(score.getValue()), -1);
+        refill(entry -> entry.getScoreId().equals(score.getId()));
+        publish();
+    }
+
+    @Override
+    public synchronized void removePlayerScores(Long playerId, Map<Integer, Long> scoreCountsByValue) {
+        if (!loaded) {
+            return;
+        }
+        rollover(LocalDate.now());
+        scoreCountsByValue.forEach((value, count) -> {
+            scoreCount -= count;
+            scoreSum -= (long) value * count;
+            scoreCounts.add(toIndex(value), -count);
+        });
+        refill(entry -> entry.getPlayerId().equals(playerId));
+        publish();
+    }
+
+    @Override
+    public synchronized void reassignPlayers(Long parentId, Collection<Long> playerIds) {
+        for (Leaderboard leaderboard : leaderboards.values()) {
+            leaderboard.reassign(parentId, playerIds);
+        }
+    }
+
+    @Override
+    public synchronized void reload() {
+        LocalDate today = LocalDate.now();
+        scoreCount = scoreRepo.count();
+        scoreSum = scoreRepo.findTotalValue();
+        scoreCounts = new FenwickTree(maxScore + 1);
+        for (Object[] row : scoreRepo.countByValue()) {
+            scoreCounts.add(toIndex(((Number) row[0]).intValue()), ((Number) row[1]).longValue());
+        }
+        for (Window window : Window.values()) {
+            LocalDateTime start = window.getStart(today);
+            leaderboards.put(window, new Leaderboard(start, size, findTopEntries(start)));
+        }
+        loaded = true;
+        publish();
+    }
+
+    private List<Entry> findTopEntries(LocalDateTime start) {
+        List<Object[]> rows = start != null
+            ? scoreRepo.findTopEntriesSince(start, PageRequest.of(0, size))
+            : scoreRepo.findTopEntries(PageRequest.of(0, size));
+        return rows.stream().map(Entry::of).collect(Collectors.toList());
+    }
+
+    private void refill(Predicate<Entry> removed) {
+        for (Map.Entry<Window, Leaderboard> leaderboard : leaderboards.entrySet()) {
+            if (leaderboard.getValue().removeIf(removed)) {
+                LocalDateTime start = leaderboard.getValue().getStart();
+                leaderboard.setValue(new Leaderboard(start, size, findTopEntries(start)));
+            }
+        }
+    }
+
+    private GlobalScoreStats resolve(Snapshot current) {
+        Set<Long> scoreIds = new HashSet<>();
+        current.entries.values().forEach(entries -> entries.forEach(entry -> scoreIds.add(entry.getScoreId())));
+        Map<Long, Score> scores = scoreIds.isEmpty() ? Collections.emptyMap() : scoreRepo.findAllWithPlayerByIdIn(scoreIds).stream()
+            .collect(Collectors.toMap(Score::getId, Function.identity()));
+
+        GlobalScoreStats stats = new GlobalScoreStats();
+        List<Score> topAllTime = resolve(current.entries.get(Window.ALL_TIME), scores);
+        stats.setScoreCount(current.scoreCount);
+        stats.setAverageScore(current.averageScore);
+        stats.setHighScore(topAllTime.isEmpty() ? null : topAllTime.get(0));
+        stats.setTopToday(resolve(current.entries.get(Window.TODAY), scores));
+        stats.setTopThisWeek(resolve(current.entries.get(Window.WEEK), scores));
+        stats.setTopThisMonth(resolve(current.entries.get(Window.MONTH), scores));
+        stats.setTopThisYear(resolve(current.entries.get(Window.YEAR), scores));
+        stats.setTopAllTime(topAllTime);
+        return stats;
+    }
+
+    private List<Score> resolve(List<Entry> entries, Map<Long, Score> scores) {
+        return entries.stream()
+            .map(entry -> scores.get(entry.getScoreId()))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    private int toIndex(int value) {
+        return Math.max(0, Math.min(value, maxScore));
+    }
+
+    private void rollover(LocalDate today) {
+        for (Window window : Window.values()) {
+            LocalDateTime start = window.getStart(today);
+            Leaderboard leaderboard = leaderboards.get(window);
+            if (start != null && !start.equals(leaderboard.getStart())) {
+                leaderboards.put(window, new Leaderboard(start, size, Collections.emptyList()));
+            }
+        }
+    }
+
+    private void publish() {
+        Map<Window, List<Entry>> entries = new EnumMap<>(Window.class);
+        leaderboards.forEach((window, leaderboard) -> entries.put(window, leaderboard.getEntries()));
+        snapshotDate = LocalDate.now();
+        snapshot = new Snapshot(scoreCount, scoreCount > 0 ? (double) scoreSum / scoreCount : 0, entries);
+    }
+
+    private enum Window {
+
+        TODAY {
+            LocalDateTime getStart(LocalDate today) {
+                return today.atStartOfDay();
+            }
+        },
+        WEEK {
+            LocalDateTime getStart(LocalDate today) {
+                return today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+            }
+        },
+        MONTH {
+            LocalDateTime getStart(LocalDate today) {
+                return today.with(TemporalAdjusters.firstDayOfMonth()).atStartOfDay();
+            }
+        },
+        YEAR {
+            LocalDateTime getStart(LocalDate today) {
+                return today.with(TemporalAdjusters.firstDayOfYear()).atStartOfDay();
+            }
+        },
+        ALL_TIME {
+            LocalDateTime getStart(LocalDate today) {
+                return null;
+            }
+        };
+
+        abstract LocalDateTime getStart(LocalDate today);
+
+    }
+
+    private static class Leaderboard {
+
+        private final LocalDateTime start;
+        private final int capacity;
+        private final List<Entry> entries;
+
+        private Leaderboard(LocalDateTime start, int capacity, List<Entry> entries) {
+            this.start = start;
+            this.capacity = capacity;
+            this.entries = new ArrayList<>(entries);
+        }
+
+        private LocalDateTime getStart() {
+            return start;
+        }
+
+        private List<Entry> getEntries() {
+            return Collections.unmodifiableList(new ArrayList<>(entries));
+        }
+
+        private void offer(Entry entry) {
+            if (start != null && entry.getCreatedAt() != null && entry.getCreatedAt().isBefore(start)) {
+                return;
+            }
+            if (entries.size() >= capacity && RANKING.compare(entry, entries.get(entries.size() - 1)) >= 0) {
+                return;
+            }
+            int index = Collections.binarySearch(entries, entry, RANKING);
+            entries.add(index < 0 ? -index - 1 : index, entry);
+            if (entries.size() > capacity) {
+                entries.remove(entries.size() - 1);
+            }
+        }
+
+        private boolean removeIf(Predicate<Entry> removed) {
+            boolean full = entries.size() >= capacity;
+            return entries.removeIf(removed) && full;
+        }
+
+        private void reassign(Long parentId, Collection<Long> playerIds) {
+            entries.replaceAll(entry -> playerIds.contains(entry.getPlayerId()) ? entry.withPlayerId(parentId) : entry);
+        }
+
+    }
+
+    private static class Entry {
+
+        private final Long scoreId;
+        private final Long playerId;
+        private final int value;
+        private final LocalDateTime createdAt;
+
+        private Entry(Long scoreId, Long playerId, int value, LocalDateTime createdAt) {
+            this.scoreId = scoreId;
+            this.playerId = playerId;
+            this.value = value;
+            this.createdAt = createdAt;
+        }
+
+        private static Entry of(Score score) {
+            return new Entry(score.getId(), score.getPlayer().getId(), score.getValue(), score.getCreatedAt());
+        }
+
+        private static Entry of(Object[] row) {
+            return new Entry(((Number) row[0]).longValue(), ((Number) row[1]).longValue(), ((Number) row[2]).intValue(), (LocalDateTime) row[3]);
+        }
+
+        private Entry withPlayerId(Long playerId) {
+            return new Entry(scoreId, playerId, value, createdAt);
+        }
+
+        private Long getScoreId() {
+            return scoreId;
+        }
+
+        private Long getPlayerId() {
+            return playerId;
+        }
+
+        private int getValue() {
+            return value;
+        }
+
+        private LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+    }
+
+    private static class Snapshot {
+
+        private final long scoreCount;
+        private final double averageScore;
+        private final Map<Window, List<Entry>> entries;
+
+        private Snapshot(long scoreCount, double averageScore, Map<Window, List<Entry>> entries) {
+            this.scoreCount = scoreCount;
+            this.averageScore = averageScore;
+            this.entries = entries;
+        }
+
+    }
+
+}
@@ -13,15 +13,18 @@ import org.springframework.transaction.annotation.Transactional;
 import com.tejko.yamb.business.interfaces.LogService;
 import com.tejko.yamb.domain.models.Log;
 import com.tejko.yamb.domain.repositories.LogRepository;
+import com.tejko.yamb.util.BulkDeleter;
 
 @Service
 public class LogServiceImpl implements LogService {
 
     private final LogRepository logRepo;
+    private final BulkDeleter bulkDeleter;
 
     @Autowired
-    public LogServiceImpl(LogRepository logRepo) {
+    public LogServiceImpl(LogRepository logRepo, BulkDeleter bulkDeleter) {
         this.logRepo = logRepo;
+        this.bulkDeleter = bulkDeleter;
     }
 
     @Override
@@ -31,6 +34,7 @@ public class LogServiceImpl implements LogService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Log> getAll(Pageable pageable) {
         return logRepo.findAll(pageable);
     }
@@ -44,7 +48,7 @@ public class LogServiceImpl implements LogService {
 
     @Override
     public void deleteAll() {
-        logRepo.deleteAll();
+        bulkDeleter.deleteAll("log");
     }
 
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.tejko.yamb.business.interfaces.NotificationService;
 import com.tejko.yamb.domain.enums.NotificationType;
@@ -17,20 +18,24 @@ import com.tejko.yamb.domain.models.Player;
 import com.tejko.yamb.domain.repositories.NotificationRepository;
 import com.tejko.yamb.domain.repositories.PlayerRepository;
 import com.tejko.yamb.security.AuthContext;
+import com.tejko.yamb.util.BulkDeleter;
 
 @Service
 public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationRepository notificationRepo;
     private final PlayerRepository playerRepo;
+    private final BulkDeleter bulkDeleter;
     
     @Autowired
-    public NotificationServiceImpl(NotificationRepository notificationRepo, PlayerRepository playerRepo) {
+    public NotificationServiceImpl(NotificationRepository notificationRepo, PlayerRepository playerRepo, BulkDeleter bulkDeleter) {
         this.notificationRepo = notificationRepo;
         this.playerRepo = playerRepo;
+        this.bulkDeleter = bulkDeleter;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Notification> getAll(Pageable pageable) {
         return notificationRepo.findAll(pageable);
     }
@@ -63,7 +68,7 @@ public class NotificationServiceImpl implements NotificationService {
     
     @Override
     public void deleteAll() {
-        notificationRepo.deleteAll();
+        bulkDeleter.deleteAll("notification");
     }
 
     private void checkPermission(UUID playerExternalId) {
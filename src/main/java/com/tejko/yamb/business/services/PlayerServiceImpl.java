@@ -1,10 +1,14 @@
 package com.tejko.yamb.business.services;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -14,11 +18,14 @@ import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.tejko.yamb.business.interfaces.LeaderboardService;
 import com.tejko.yamb.business.interfaces.PlayerService;
-import com.tejko.yamb.domain.models.Clash;
-import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.domain.models.ClashSummary;
+import com.tejko.yamb.domain.models.GameSummary;
 import com.tejko.yamb.domain.models.GlobalPlayerStats;
 import com.tejko.yamb.domain.models.Image;
 import com.tejko.yamb.domain.models.Log;
@@ -26,50 +33,77 @@ import com.tejko.yamb.domain.models.Notification;
 import com.tejko.yamb.domain.models.Player;
 import com.tejko.yamb.domain.models.PlayerPreferences;
 import com.tejko.yamb.domain.models.PlayerRelationship;
+import com.tejko.yamb.domain.models.PlayerScoreStats;
 import com.tejko.yamb.domain.models.PlayerStats;
 import com.tejko.yamb.domain.models.Score;
 import com.tejko.yamb.domain.models.Ticket;
-import com.tejko.yamb.domain.repositories.ClashRepository;
-import com.tejko.yamb.domain.repositories.GameRepository;
+import com.tejko.yamb.domain.repositories.ClashSummaryRepository;
+import com.tejko.yamb.domain.repositories.GameSummaryRepository;
 import com.tejko.yamb.domain.repositories.LogRepository;
 import com.tejko.yamb.domain.repositories.NotificationRepository;
 import com.tejko.yamb.domain.repositories.PlayerRepository;
+import com.tejko.yamb.domain.repositories.PlayerScoreStatsRepository;
 import com.tejko.yamb.domain.repositories.RelationshipRepository;
 import com.tejko.yamb.domain.repositories.ScoreRepository;
 import com.tejko.yamb.domain.repositories.TicketRepository;
 import com.tejko.yamb.security.AuthContext;
 import com.tejko.yamb.util.ActivePlayerDirectory;
+import com.tejko.yamb.util.BulkDeleter;
 import com.tejko.yamb.util.CloudinaryClient;
 import com.tejko.yamb.util.EmailManager;
+import com.tejko.yamb.util.GameArchiver;
+import com.tejko.yamb.util.MaintenanceRunner;
+import com.tejko.yamb.util.PlayerMerger;
+import com.tejko.yamb.util.StaleGuestCleanupJob;
+import com.tejko.yamb.util.StatsExecutor;
+import com.tejko.yamb.util.StatsExecutor.StatsQuery;
 
 @Service
 public class PlayerServiceImpl implements PlayerService {
 
     private final PlayerRepository playerRepo;
     private final ScoreRepository scoreRepo;
-    private final GameRepository gameRepo;
-    private final ClashRepository clashRepo;
+    private final GameSummaryRepository gameSummaryRepo;
+    private final ClashSummaryRepository clashSummaryRepo;
     private final RelationshipRepository relationshipRepo;
     private final LogRepository logRepo;
     private final TicketRepository ticketRepo;
     private final NotificationRepository notificationRepo;
     private final CloudinaryClient cloudinaryClient;
+    private final MaintenanceRunner maintenanceRunner;
+    private final PlayerMerger playerMerger;
+    private final BulkDeleter bulkDeleter;
+    private final LeaderboardService leaderboardService;
+    private final PlayerScoreStatsRepository playerScoreStatsRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final StatsExecutor statsExecutor;
+    private final GameArchiver gameArchiver;
 
     @Autowired
     public PlayerServiceImpl(PlayerRepository playerRepo, ScoreRepository scoreRepo, 
-                            GameRepository gameRepo, ClashRepository clashRepo, 
+                            GameSummaryRepository gameSummaryRepo, ClashSummaryRepository clashSummaryRepo, 
                             RelationshipRepository relationshipRepo, LogRepository logRepo, 
                             TicketRepository ticketRepo, NotificationRepository notificationRepo,
-                            CloudinaryClient cloudinaryClient) {
+                            CloudinaryClient cloudinaryClient, MaintenanceRunner maintenanceRunner, PlayerMerger playerMerger, BulkDeleter bulkDeleter, 
+                            LeaderboardService leaderboardService, PlayerScoreStatsRepository playerScoreStatsRepo, 
+                            TransactionTemplate transactionTemplate, StatsExecutor statsExecutor, GameArchiver gameArchiver) {
         this.playerRepo = playerRepo;
         this.scoreRepo = scoreRepo;
-        this.gameRepo = gameRepo;
-        this.clashRepo = clashRepo;
+        this.gameSummaryRepo = gameSummaryRepo;
+        this.clashSummaryRepo = clashSummaryRepo;
         this.relationshipRepo = relationshipRepo;
         this.logRepo = logRepo;
         this.ticketRepo = ticketRepo;
         this.notificationRepo = notificationRepo;
         this.cloudinaryClient = cloudinaryClient;
+        this.maintenanceRunner = maintenanceRunner;
+        this.playerMerger = playerMerger;
+        this.bulkDeleter = bulkDeleter;
+        this.leaderboardService = leaderboardService;
+        this.playerScoreStatsRepo = playerScoreStatsRepo;
+        this.transactionTemplate = transactionTemplate;
+        this.statsExecutor = statsExecutor;
+        this.gameArchiver = gameArchiver;
     }
 
     @Override
@@ -84,6 +118,7 @@ public class PlayerServiceImpl implements PlayerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Player> getAll(Pageable pageable) {
         return playerRepo.findAll(pageable);
     }
@@ -94,6 +129,7 @@ public class PlayerServiceImpl implements PlayerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Score> getScoresByPlayerExternalId(UUID playerExternalId) {
         Player player = getByExternalId(playerExternalId);
         List<Score> scores = scoreRepo.findAllByPlayerIdOrderByCreatedAtDesc(player.getId());
@@ -101,18 +137,21 @@ public class PlayerServiceImpl implements PlayerService {
     }
 
     @Override
-    public List<Game> getGamesByPlayerExternalId(UUID playerExternalId) {
-        List<Game> games = gameRepo.findAllByPlayerIdOrderByUpdatedAtDesc(playerExternalId);
+    public List<GameSummary> getGamesByPlayerExternalId(UUID playerExternalId) {
+        List<GameSummary> games = new ArrayList<>(gameSummaryRepo.findAllByPlayerIdOrderByUpdatedAtDesc(playerExternalId));
+        games.addAll(gameArchiver.findSummariesByPlayerId(playerExternalId));
+        games.sort(Comparator.comparing(GameSummary::getUpdatedAt, Comparator.nullsLast(Comparator.reverseOrder())));
         return games;
     }
 
     @Override
-    public List<Clash> getClashesByPlayerExternalId(UUID playerExternalId) {
-        List<Clash> clashes = clashRepo.findAllByPlayerIdOrderByUpdatedAtDesc(playerExternalId);
+    public List<ClashSummary> getClashesByPlayerExternalId(UUID playerExternalId) {
+        List<ClashSummary> clashes = clashSummaryRepo.findAllByPlayerIdOrderByUpdatedAtDesc(playerExternalId);
         return clashes;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Log> getLogsByPlayerExternalId(UUID playerExternalId) {
         Player player = getByExternalId(playerExternalId);
         List<Log> logs = logRepo.findAllByPlayerIdOrderByCreatedAtDesc(player.getId());
@@ -120,6 +159,7 @@ public class PlayerServiceImpl implements PlayerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Ticket> getTicketsByPlayerExternalId(UUID playerExternalId) {
         Player player = getByExternalId(playerExternalId);
         List<Ticket> tickets = ticketRepo.findAllByPlayerIdOrderByUpdatedAtDesc(player.getId());
@@ -134,50 +174,49 @@ public class PlayerServiceImpl implements PlayerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PlayerStats getPlayerStatsByExternalId(UUID externalId) {
         PlayerStats stats = new PlayerStats();
         Long playerId = getByExternalId(externalId).getId();
 
-        Optional<Score> latestScore = scoreRepo.findTop1ByPlayerIdOrderByCreatedAtDesc(playerId);
-        if (latestScore.isPresent()) {
-            stats.setLastActivity(latestScore.get().getCreatedAt());
+        Optional<PlayerScoreStats> playerScoreStats = playerScoreStatsRepo.findById(playerId);
+        if (playerScoreStats.isPresent()) {
+            stats.setLastActivity(playerScoreStats.get().getLastActivity());
+            stats.setAverageScore(playerScoreStats.get().getAverageScore());
+            stats.setScoreCount(playerScoreStats.get().getScoreCount());
+            if (playerScoreStats.get().getHighScoreId() != null) {
+                stats.setHighScore(scoreRepo.findWithPlayerById(playerScoreStats.get().getHighScoreId()).orElse(null));
+            }
         }
-        Double averageScore = scoreRepo.findAverageValueByPlayerId(playerId);
-        if (averageScore == null) {
-            averageScore = 0.0;
-        }
-        stats.setAverageScore(averageScore);
-        stats.setHighScore(scoreRepo.findTop1ByPlayerIdOrderByValueDesc(playerId).orElse(null));
-        stats.setScoreCount(scoreRepo.countByPlayerId(playerId));
 
         return stats;
     }
 
     @Override
     public GlobalPlayerStats getGlobalStats() {
-        
-        GlobalPlayerStats globalStats = new GlobalPlayerStats();
-        globalStats.setPlayerCount(playerRepo.count());
-
-        Optional<Player> playerWithMostScores = playerRepo.findPlayerWithMostScores(PageRequest.of(0, 1)).stream().findFirst();
-        if (playerWithMostScores.isPresent()) {
-            globalStats.setMostScoresByAnyPlayer(scoreRepo.countByPlayerId(playerWithMostScores.get().getId()));
-            globalStats.setPlayerWithMostScores(playerWithMostScores.get());
-            globalStats.setMostScoresByAnyPlayer(scoreRepo.countByPlayerId(playerWithMostScores.get().getId()));
-        }
-
-        Optional<Player> playerWithHighestAverageScore = playerRepo.findPlayerWithHighestAverageScore(PageRequest.of(0, 1)).stream().findFirst();
-        if (playerWithHighestAverageScore.isPresent()) {
-            globalStats.setHighestAverageScoreByAnyPlayer(scoreRepo.findAverageValueByPlayerId(playerWithHighestAverageScore.get().getId()));
-            globalStats.setPlayerWithHighestAverageScore(playerWithHighestAverageScore.get());
-        }
+        StatsQuery<Long> playerCount = statsExecutor.submit("player-count", playerRepo::count);
+        StatsQuery<Optional<PlayerScoreStats>> mostScores = statsExecutor.submit("most-scores", playerScoreStatsRepo::findTop1ByOrderByScoreCountDesc);
+        StatsQuery<Optional<PlayerScoreStats>> highestAverageScore = statsExecutor.submit("highest-average-score", playerScoreStatsRepo::findTop1ByOrderByAverageScoreDesc);
+        StatsQuery<Optional<Player>> newestPlayer = statsExecutor.submit("newest-player", playerRepo::findTop1ByOrderByCreatedAtDesc);
+        StatsQuery<Optional<Player>> oldestPlayer = statsExecutor.submit("oldest-player", playerRepo::findTop1ByOrderByCreatedAtAsc);
 
-        Optional<Score> highScore = scoreRepo.findTop1ByOrderByValueDesc();
-        if (highScore.isPresent()) {
-            globalStats.setHighScore(highScore.get());
-        }
-        globalStats.setNewestPlayer(playerRepo.findTop1ByOrderByCreatedAtDesc().orElse(null));
-        globalStats.setOldestPlayer(playerRepo.findTop1ByOrderByCreatedAtAsc().orElse(null));
+        GlobalPlayerStats globalStats = new GlobalPlayerStats();
+        globalStats.setPlayerCount(playerCount.get(0L));
+        globalStats.setHighScore(leaderboardService.getGlobalStats().getHighScore());
+
+        Optional<PlayerScoreStats> mostScoresStats = mostScores.get(Optional.empty());
+        Optional<PlayerScoreStats> highestAverageScoreStats = highestAverageScore.get(Optional.empty());
+        StatsQuery<Optional<Player>> playerWithMostScores = statsExecutor.submitAfter(mostScores, "player-with-most-scores",
+            () -> mostScoresStats.flatMap(stats -> playerRepo.findById(stats.getPlayerId())));
+        StatsQuery<Optional<Player>> playerWithHighestAverageScore = statsExecutor.submitAfter(highestAverageScore, "player-with-highest-average-score",
+            () -> highestAverageScoreStats.flatMap(stats -> playerRepo.findById(stats.getPlayerId())));
+
+        mostScoresStats.ifPresent(stats -> globalStats.setMostScoresByAnyPlayer(stats.getScoreCount()));
+        highestAverageScoreStats.ifPresent(stats -> globalStats.setHighestAverageScoreByAnyPlayer(stats.getAverageScore()));
+        globalStats.setPlayerWithMostScores(playerWithMostScores.get(Optional.empty()).orElse(null));
+        globalStats.setPlayerWithHighestAverageScore(playerWithHighestAverageScore.get(Optional.empty()).orElse(null));
+        globalStats.setNewestPlayer(newestPlayer.get(Optional.empty()).orElse(null));
+        globalStats.setOldestPlayer(oldestPlayer.get(Optional.empty()).orElse(null));
 
         return globalStats;
     }
@@ -255,7 +294,7 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public void deleteInactivePlayers() {
-        throw new UnsupportedOperationException("Not implemented yet");
+        maintenanceRunner.runToCompletion(StaleGuestCleanupJob.NAME);
     }
 
     @Override
@@ -271,42 +310,23 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public void mergePlayers(UUID parentExternalId, List<UUID> playerExternalIds) {
-        
         Player parentPlayer = getByExternalId(parentExternalId);
-        List<Player> players = playerRepo.findAllByExternalIdInOrderByUpdatedAtDesc(playerExternalIds);
-
-        for (Player player : players) {
-            List<Score> scoresToMerge = scoreRepo.findAllByPlayerIdOrderByCreatedAtDesc(player.getId());
-            scoresToMerge.forEach(score -> score.setPlayer(parentPlayer));
-            scoreRepo.saveAll(scoresToMerge);
-
-            // List<Clash> clashesToMerge = clashRepo.findAllByPlayerIdsContainsOrderByUpdatedAtDesc(player.getExternalId());
-            // clashesToMerge.forEach(clash -> clash.replacePlayer(player.getExternalId(), parentPlayer.getExternalId()));
-            // clashRepo.saveAll(clashesToMerge);
-
-            List<Log> logsToMerge = logRepo.findAllByPlayerIdOrderByCreatedAtDesc(player.getId());
-            logsToMerge.forEach(log -> log.setPlayer(parentPlayer));
-            logRepo.saveAll(logsToMerge);
-
-            List<PlayerRelationship> relationshipsToMerge = relationshipRepo.getRelationshipsByPlayerId(player.getId());
-            relationshipsToMerge.forEach(relationship -> {
-                if (player.getId() == relationship.getId().getPlayer().getId()) {
-                    relationship.getId().setPlayer(parentPlayer);
-                } else if (player.getId() == relationship.getId().getRelatedPlayer().getId()) {
-                    relationship.getId().setRelatedPlayer(parentPlayer);
-                }
-            });
-            relationshipRepo.saveAll(relationshipsToMerge);
-        }
-
-        playerRepo.deleteAll(players);
-        playerRepo.save(parentPlayer);
+        List<Long> mergedIds = playerRepo.findIdsByExternalIdIn(playerExternalIds);
+        playerMerger.merge(parentPlayer, playerExternalIds);
+        leaderboardService.reassignPlayers(parentPlayer.getId(), mergedIds);
     }
 
     @Override
     public void deleteByExternalId(UUID externalId) {
         Player player = getByExternalId(externalId);
-        playerRepo.delete(player);
+        Map<Integer, Long> scoreCountsByValue = transactionTemplate.execute(status -> {
+            Map<Integer, Long> counts = scoreRepo.countByValueForPlayerId(player.getId()).stream()
+                .collect(Collectors.toMap(row -> ((Number) row[0]).intValue(), row -> ((Number) row[1]).longValue()));
+            playerScoreStatsRepo.deleteAllByPlayerIdIn(Collections.singletonList(player.getId()));
+            playerRepo.delete(player);
+            return counts;
+        });
+        leaderboardService.removePlayerScores(player.getId(), scoreCountsByValue);
     }
 
     @Override
@@ -344,8 +364,7 @@ public class PlayerServiceImpl implements PlayerService {
     @Override
     public void deleteNotificationsByPlayerExternalId(UUID playerExternalId) {
         Player player = getByExternalId(playerExternalId);
-        List<Notification> notifications = notificationRepo.findAllByPlayerIdOrderByCreatedAtDesc(player.getId());
-        notificationRepo.deleteAll(notifications);
+        bulkDeleter.deleteWhere("notification", "player_id = :playerId", Map.of("playerId", player.getId()));
     }
 
     private void validateAvatar(MultipartFile avatar) {
@@ -8,6 +8,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.tejko.yamb.business.interfaces.RelationshipService;
 import com.tejko.yamb.domain.enums.RelationshipType;
@@ -36,6 +37,7 @@ public class RelationshipServiceImpl implements RelationshipService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<PlayerRelationship> getAll(Pageable pageable) {
         return relationshipRepo.findAll(pageable);
     }
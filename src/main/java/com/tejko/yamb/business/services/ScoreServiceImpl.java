@@ -1,9 +1,7 @@
 package com.tejko.yamb.business.services;
 
-import java.time.DayOfWeek;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.temporal.TemporalAdjusters;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,20 +9,33 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.tejko.yamb.business.interfaces.LeaderboardService;
 import com.tejko.yamb.business.interfaces.ScoreService;
 import com.tejko.yamb.domain.models.GlobalScoreStats;
 import com.tejko.yamb.domain.models.Score;
+import com.tejko.yamb.domain.models.ScoreHistogram;
+import com.tejko.yamb.domain.models.ScoreRank;
+import com.tejko.yamb.domain.repositories.PlayerScoreStatsRepository;
 import com.tejko.yamb.domain.repositories.ScoreRepository;
 
 @Service
 public class ScoreServiceImpl implements ScoreService {
 
 	private final ScoreRepository scoreRepo;
+	private final LeaderboardService leaderboardService;
+	private final PlayerScoreStatsRepository playerScoreStatsRepo;
+	private final TransactionTemplate transactionTemplate;
 
 	@Autowired
-	public ScoreServiceImpl(ScoreRepository scoreRepo) {
+	public ScoreServiceImpl(ScoreRepository scoreRepo, LeaderboardService leaderboardService, 
+							PlayerScoreStatsRepository playerScoreStatsRepo, TransactionTemplate transactionTemplate) {
 		this.scoreRepo = scoreRepo;
+		this.leaderboardService = leaderboardService;
+		this.playerScoreStatsRepo = playerScoreStatsRepo;
+		this.transactionTemplate = transactionTemplate;
 	}
 
 	@Override
@@ -34,6 +45,7 @@ public class ScoreServiceImpl implements ScoreService {
 	}
 
     @Override
+    @Transactional(readOnly = true)
 	public Page<Score> getAll(Pageable pageable) {
 		return scoreRepo.findAll(pageable);
 	}
@@ -41,30 +53,28 @@ public class ScoreServiceImpl implements ScoreService {
     @Override
 	public void deleteByExternalId(UUID externalId) {
 		Score score = getByExternalId(externalId);
-		scoreRepo.delete(score);
+		List<Long> playerIds = Collections.singletonList(score.getPlayer().getId());
+		transactionTemplate.executeWithoutResult(status -> {
+			scoreRepo.delete(score);
+			playerScoreStatsRepo.deleteAllByPlayerIdIn(playerIds);
+			playerScoreStatsRepo.rebuildForPlayers(playerIds);
+		});
+		leaderboardService.remove(score);
 	}
 
     @Override
 	public GlobalScoreStats getGlobalStats() {
-		LocalDate today = LocalDate.now();
-		LocalDateTime now = LocalDateTime.now();
-		LocalDateTime startOfToday = today.atStartOfDay();
-		LocalDateTime startOfWeek = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
-		LocalDateTime startOfMonth = today.with(TemporalAdjusters.firstDayOfMonth()).atStartOfDay();
-		LocalDateTime startOfYear = today.with(TemporalAdjusters.firstDayOfYear()).atStartOfDay();
+		return leaderboardService.getGlobalStats();
+	}
 
-		GlobalScoreStats globalStats = new GlobalScoreStats();
-		globalStats.setScoreCount(scoreRepo.count());
-		globalStats.setAverageScore(scoreRepo.findAverageValue());
-		globalStats.setHighScore(scoreRepo.findTop1ByOrderByValueDesc().orElse(null));
-		globalStats.setTopToday(scoreRepo.findTop30ByCreatedAtBetweenOrderByValueDesc(startOfToday, now));
-		globalStats.setTopThisWeek(scoreRepo.findTop30ByCreatedAtBetweenOrderByValueDesc(startOfWeek, now));
-		globalStats.setTopThisMonth(scoreRepo.findTop30ByCreatedAtBetweenOrderByValueDesc(startOfMonth, now));
-		globalStats.setTopThisYear(scoreRepo.findTop30ByCreatedAtBetweenOrderByValueDesc(startOfYear, now));
-		globalStats.setTopAllTime(scoreRepo.findTop30ByOrderByValueDesc());
-		
-		
-		return globalStats;
+    @Override
+	public ScoreRank getRank(int value) {
+		return leaderboardService.getRank(value);
+	}
+
+    @Override
+	public ScoreHistogram getHistogram(int bucketSize) {
+		return leaderboardService.getHistogram(bucketSize);
 	}
 
 }
@@ -9,20 +9,24 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.tejko.yamb.business.interfaces.TicketService;
 import com.tejko.yamb.domain.models.Ticket;
 import com.tejko.yamb.domain.repositories.TicketRepository;
 import com.tejko.yamb.security.AuthContext;
+import com.tejko.yamb.util.BulkDeleter;
 
 @Service
 public class TicketServiceImpl implements TicketService {
 
     private final TicketRepository ticketRepo;
+    private final BulkDeleter bulkDeleter;
         
     @Autowired
-    public TicketServiceImpl(TicketRepository ticketRepo) {
+    public TicketServiceImpl(TicketRepository ticketRepo, BulkDeleter bulkDeleter) {
         this.ticketRepo = ticketRepo;
+        this.bulkDeleter = bulkDeleter;
     }
 
     @Override
@@ -32,6 +36,7 @@ public class TicketServiceImpl implements TicketService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Ticket> getAll(Pageable pageable) {
         return ticketRepo.findAll(pageable);
     }
@@ -44,6 +49,7 @@ public class TicketServiceImpl implements TicketService {
     }
     
     @Override
+    @Transactional
     public Ticket patchByExternalId(UUID externalId, Map<String, Object> updates) {
 
         Ticket existingTicket = getByExternalId(externalId);
@@ -65,7 +71,7 @@ public class TicketServiceImpl implements TicketService {
 
     @Override
     public void deleteAll() {
-        ticketRepo.deleteAll();
+        bulkDeleter.deleteAll("ticket");
     }
 
 }
\ No newline at end of file
@@ -7,36 +7,53 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
+import com.tejko.yamb.business.interfaces.ChatService;
 import com.tejko.yamb.business.interfaces.WebSocketService;
 import com.tejko.yamb.domain.enums.MessageType;
 import com.tejko.yamb.domain.enums.PlayerStatus;
+import com.tejko.yamb.domain.models.ChatMessage;
+import com.tejko.yamb.domain.models.ClashEvent;
 import com.tejko.yamb.domain.models.Player;
 import com.tejko.yamb.domain.models.WebSocketMessage;
 import com.tejko.yamb.util.ActivePlayerDirectory;
+import com.tejko.yamb.util.ClashEventJournal;
 import com.tejko.yamb.util.WebSocketManager;
 
 @Service
 public class WebSocketServiceImpl implements WebSocketService {
 
     private final WebSocketManager webSocketManager;
+    private final ClashEventJournal clashEventJournal;
+    private final ChatService chatService;
     private final Map<String, String> subscriptionDestinations = new ConcurrentHashMap<>();
 
     @Autowired
-    public WebSocketServiceImpl(WebSocketManager webSocketManager) {
+    public WebSocketServiceImpl(WebSocketManager webSocketManager, ClashEventJournal clashEventJournal, ChatService chatService) {
         this.webSocketManager = webSocketManager;
+        this.clashEventJournal = clashEventJournal;
+        this.chatService = chatService;
     }
 
     @Override
     public void publicMessage(String message, Principal principal) {
+        chatService.create(ChatMessage.PUBLIC_CHANNEL, UUID.fromString(principal.getName()), message);
         webSocketManager.convertAndSend("/topic/public", message, MessageType.DEFAULT);
     }
 
+    @Override
+    public void clashMessage(UUID clashId, String message, Principal principal) {
+        checkClashAccess(clashId, principal);
+        chatService.create(clashId.toString(), UUID.fromString(principal.getName()), message);
+        webSocketManager.convertAndSend("/topic/clashes/" + clashId, message, MessageType.CHAT);
+    }
+
     @Override
     public void privateMessage(String message, Principal principal) {
         UUID senderExternalId = UUID.fromString(principal.getName());
@@ -47,11 +64,15 @@ public class WebSocketServiceImpl implements WebSocketService {
 
     @Override
     public void handleReaction(UUID clashId, String message, Principal principal) {
+        checkClashAccess(clashId, principal);
+        clashEventJournal.record(clashId, ClashEvent.getInstance(MessageType.REACTION, UUID.fromString(principal.getName()), null, message));
         webSocketManager.convertAndSend("/topic/clashes/" + clashId, message, MessageType.REACTION);
     }
 
     @Override
     public void handleSuggestion(UUID clashId, String message, Principal principal) {
+        checkClashAccess(clashId, principal);
+        clashEventJournal.record(clashId, ClashEvent.getInstance(MessageType.SUGGESTION, UUID.fromString(principal.getName()), null, message));
         webSocketManager.convertAndSend("/topic/clashes/" + clashId, message, MessageType.SUGGESTION);
     }
 
@@ -105,4 +126,15 @@ public class WebSocketServiceImpl implements WebSocketService {
         webSocketManager.convertAndSend(destination, content, type);
     }
 
+    @Override
+    public void convertAndSendToUser(UUID playerExternalId, Object content, MessageType type) {
+        webSocketManager.convertAndSendToUser(playerExternalId, content, type);
+    }
+
+    private void checkClashAccess(UUID clashId, Principal principal) {
+        if (!chatService.canAccess(clashId.toString(), UUID.fromString(principal.getName()))) {
+            throw new AccessDeniedException("error.access_denied");
+        }
+    }
+
 }
@@ -8,7 +8,9 @@ import org.springframework.context.annotation.Primary;
 
 import com.tejko.yamb.api.dto.requests.PlayerPreferencesRequest;
 import com.tejko.yamb.api.dto.responses.AuthResponse;
+import com.tejko.yamb.api.dto.responses.ChatMessageResponse;
 import com.tejko.yamb.api.dto.responses.ClashDetailResponse;
+import com.tejko.yamb.api.dto.responses.ClashInboxResponse;
 import com.tejko.yamb.api.dto.responses.ClashResponse;
 import com.tejko.yamb.api.dto.responses.GameDetailResponse;
 import com.tejko.yamb.api.dto.responses.GameResponse;
@@ -23,11 +25,18 @@ import com.tejko.yamb.api.dto.responses.PlayerPreferencesResponse;
 import com.tejko.yamb.api.dto.responses.PlayerResponse;
 import com.tejko.yamb.api.dto.responses.PlayerStatsResponse;
 import com.tejko.yamb.api.dto.responses.RelationshipResponse;
+import com.tejko.yamb.api.dto.responses.ScoreHistogramResponse;
+import com.tejko.yamb.api.dto.responses.ScoreRankResponse;
 import com.tejko.yamb.api.dto.responses.ScoreResponse;
 import com.tejko.yamb.api.dto.responses.TicketResponse;
+import com.tejko.yamb.domain.models.ChatMessage;
 import com.tejko.yamb.domain.models.Clash;
 import com.tejko.yamb.domain.models.Clash.ClashPlayer;
+import com.tejko.yamb.domain.models.ClashInboxEntry;
+import com.tejko.yamb.domain.models.ClashInboxEntry.Opponent;
+import com.tejko.yamb.domain.models.ClashSummary;
 import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.domain.models.GameSummary;
 import com.tejko.yamb.domain.models.GlobalPlayerStats;
 import com.tejko.yamb.domain.models.GlobalScoreStats;
 import com.tejko.yamb.domain.models.Image;
@@ -40,6 +49,8 @@ import com.tejko.yamb.domain.models.PlayerStats;
 import com.tejko.yamb.domain.models.PlayerWithToken;
 import com.tejko.yamb.domain.models.Role;
 import com.tejko.yamb.domain.models.Score;
+import com.tejko.yamb.domain.models.ScoreHistogram;
+import com.tejko.yamb.domain.models.ScoreRank;
 import com.tejko.yamb.domain.models.Ticket;
 
 @Configuration
@@ -114,14 +125,14 @@ public class ModelMapperConfig {
             .addMapping(Log::getPlayer, LogDetailResponse::setPlayer);
 
         //game
-        modelMapper.createTypeMap(Game.class, GameResponse.class)
-            .addMapping(Game::getExternalId, GameResponse::setId)
-            .addMapping(Game::getCreatedAt, GameResponse::setCreatedAt)
-            .addMapping(Game::getUpdatedAt, GameResponse::setUpdatedAt)
-            .addMapping(Game::getStatus, GameResponse::setStatus)
-            .addMapping(Game::getTotalSum, GameResponse::setTotalSum)
-            .addMapping(Game::getType, GameResponse::setType)
-            .addMapping(Game::getProgress, GameResponse::setProgress);
+        modelMapper.createTypeMap(GameSummary.class, GameResponse.class)
+            .addMapping(GameSummary::getExternalId, GameResponse::setId)
+            .addMapping(GameSummary::getCreatedAt, GameResponse::setCreatedAt)
+            .addMapping(GameSummary::getUpdatedAt, GameResponse::setUpdatedAt)
+            .addMapping(GameSummary::getStatus, GameResponse::setStatus)
+            .addMapping(GameSummary::getTotalSum, GameResponse::setTotalSum)
+            .addMapping(GameSummary::getType, GameResponse::setType)
+            .addMapping(GameSummary::getProgress, GameResponse::setProgress);
 
         modelMapper.createTypeMap(Game.class, GameDetailResponse.class)
             .addMapping(Game::getExternalId, GameDetailResponse::setId)
@@ -166,13 +177,13 @@ public class ModelMapperConfig {
             .addMapping(Clash::getStatus, ClashDetailResponse::setStatus)
             .addMapping(Clash::getTurn, ClashDetailResponse::setTurn);
 
-        modelMapper.createTypeMap(Clash.class, ClashResponse.class)
-            .addMapping(Clash::getExternalId, ClashResponse::setId)
-            .addMapping(Clash::getCreatedAt, ClashResponse::setCreatedAt)
-            .addMapping(Clash::getUpdatedAt, ClashResponse::setUpdatedAt)
-            .addMapping(Clash::getName, ClashResponse::setName)
-            .addMapping(Clash::getType, ClashResponse::setType)
-            .addMapping(Clash::getStatus, ClashResponse::setStatus);
+        modelMapper.createTypeMap(ClashSummary.class, ClashResponse.class)
+            .addMapping(ClashSummary::getExternalId, ClashResponse::setId)
+            .addMapping(ClashSummary::getCreatedAt, ClashResponse::setCreatedAt)
+            .addMapping(ClashSummary::getUpdatedAt, ClashResponse::setUpdatedAt)
+            .addMapping(ClashSummary::getName, ClashResponse::setName)
+            .addMapping(ClashSummary::getType, ClashResponse::setType)
+            .addMapping(ClashSummary::getStatus, ClashResponse::setStatus);
 
         modelMapper.createTypeMap(ClashPlayer.class, ClashDetailResponse.ClashPlayer.class)
             .addMapping(ClashPlayer::getId, ClashDetailResponse.ClashPlayer::setId)
@@ -180,6 +191,21 @@ public class ModelMapperConfig {
             .addMapping(ClashPlayer::getStatus, ClashDetailResponse.ClashPlayer::setStatus)
             .addMapping(ClashPlayer::getScore, ClashDetailResponse.ClashPlayer::setScore);
 
+        modelMapper.createTypeMap(ClashInboxEntry.class, ClashInboxResponse.class)
+            .addMapping(ClashInboxEntry::getClashId, ClashInboxResponse::setId)
+            .addMapping(ClashInboxEntry::getName, ClashInboxResponse::setName)
+            .addMapping(ClashInboxEntry::getType, ClashInboxResponse::setType)
+            .addMapping(ClashInboxEntry::getStatus, ClashInboxResponse::setStatus)
+            .addMapping(ClashInboxEntry::getInvitationStatus, ClashInboxResponse::setInvitationStatus)
+            .addMapping(ClashInboxEntry::getTurnPlayerId, ClashInboxResponse::setTurnPlayerId)
+            .addMapping(ClashInboxEntry::getWinnerId, ClashInboxResponse::setWinnerId)
+            .addMapping(ClashInboxEntry::getUpdatedAt, ClashInboxResponse::setUpdatedAt);
+
+        modelMapper.createTypeMap(Opponent.class, ClashInboxResponse.Opponent.class)
+            .addMapping(Opponent::getId, ClashInboxResponse.Opponent::setId)
+            .addMapping(Opponent::getName, ClashInboxResponse.Opponent::setName)
+            .addMapping(Opponent::getAvatarUrl, ClashInboxResponse.Opponent::setAvatarUrl);
+
         // stats
         modelMapper.createTypeMap(GlobalPlayerStats.class, GlobalPlayerStatsResponse.class)
             .addMapping(GlobalPlayerStats::getPlayerCount, GlobalPlayerStatsResponse::setPlayerCount)
@@ -201,6 +227,22 @@ public class ModelMapperConfig {
             .addMapping(GlobalScoreStats::getTopThisYear, GlobalScoreStatsResponse::setTopThisYear)
             .addMapping(GlobalScoreStats::getTopAllTime, GlobalScoreStatsResponse::setTopAllTime);
 
+        modelMapper.createTypeMap(ScoreRank.class, ScoreRankResponse.class)
+            .addMapping(ScoreRank::getValue, ScoreRankResponse::setValue)
+            .addMapping(ScoreRank::getRank, ScoreRankResponse::setRank)
+            .addMapping(ScoreRank::getScoreCount, ScoreRankResponse::setScoreCount)
+            .addMapping(ScoreRank::getPercentile, ScoreRankResponse::setPercentile);
+
+        modelMapper.createTypeMap(ScoreHistogram.Bucket.class, ScoreHistogramResponse.Bucket.class)
+            .addMapping(ScoreHistogram.Bucket::getFrom, ScoreHistogramResponse.Bucket::setFrom)
+            .addMapping(ScoreHistogram.Bucket::getTo, ScoreHistogramResponse.Bucket::setTo)
+            .addMapping(ScoreHistogram.Bucket::getCount, ScoreHistogramResponse.Bucket::setCount);
+
+        modelMapper.createTypeMap(ScoreHistogram.class, ScoreHistogramResponse.class)
+            .addMapping(ScoreHistogram::getBucketSize, ScoreHistogramResponse::setBucketSize)
+            .addMapping(ScoreHistogram::getScoreCount, ScoreHistogramResponse::setScoreCount)
+            .addMapping(ScoreHistogram::getBuckets, ScoreHistogramResponse::setBuckets);
+
         modelMapper.createTypeMap(PlayerPreferences.class, PlayerPreferencesResponse.class)
             .addMapping(PlayerPreferences::getLanguage, PlayerPreferencesResponse::setLanguage)
             .addMapping(PlayerPreferences::getTheme, PlayerPreferencesResponse::setTheme);
@@ -245,6 +287,13 @@ public class ModelMapperConfig {
             .addMapping(PlayerRelationship::getType, RelationshipResponse::setType)
             .addMapping(PlayerRelationship::isActive, RelationshipResponse::setActive);
 
+        // chat
+        modelMapper.createTypeMap(ChatMessage.class, ChatMessageResponse.class)
+            .addMapping(ChatMessage::getChannel, ChatMessageResponse::setChannel)
+            .addMapping(ChatMessage::getSenderId, ChatMessageResponse::setSenderId)
+            .addMapping(ChatMessage::getContent, ChatMessageResponse::setContent)
+            .addMapping(ChatMessage::getCreatedAt, ChatMessageResponse::setCreatedAt);
+
     }
 
 }
@@ -0,0 +1,27 @@
+package com.tejko.yamb.config;
+
+import java.util.Arrays;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import com.tejko.yamb.domain.converters.ClashReadingConverter;
+import com.tejko.yamb.domain.converters.ClashWritingConverter;
+import com.tejko.yamb.domain.converters.GameReadingConverter;
+import com.tejko.yamb.domain.converters.GameWritingConverter;
+
+@Configuration
+public class MongoConfig {
+
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(Arrays.asList(
+            new GameReadingConverter(),
+            new GameWritingConverter(),
+            new ClashReadingConverter(),
+            new ClashWritingConverter()
+        ));
+    }
+
+}
@@ -3,11 +3,13 @@ package com.tejko.yamb.config;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import com.tejko.yamb.security.ClashSubscriptionInterceptor;
 import com.tejko.yamb.security.WebSocketAuthHandler;
 
 @Configuration
@@ -15,10 +17,12 @@ import com.tejko.yamb.security.WebSocketAuthHandler;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private WebSocketAuthHandler webSocketAuthHandler;
+    private ClashSubscriptionInterceptor clashSubscriptionInterceptor;
 
     @Autowired
-    public WebSocketConfig(WebSocketAuthHandler webSocketAuthHandler) {
+    public WebSocketConfig(WebSocketAuthHandler webSocketAuthHandler, ClashSubscriptionInterceptor clashSubscriptionInterceptor) {
         this.webSocketAuthHandler = webSocketAuthHandler;
+        this.clashSubscriptionInterceptor = clashSubscriptionInterceptor;
     }
 
     @Override
@@ -28,6 +32,11 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setUserDestinationPrefix("/player");
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(clashSubscriptionInterceptor);
+    }
+
 	@Value("${spring.profiles.active:default}")
 	private String activeProfile;
 
@@ -46,6 +55,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
             .setAllowedOrigins(allowedOrigins)
             .setHandshakeHandler(webSocketAuthHandler)
             .withSockJS();
+        registry.addEndpoint("/api/ws/raw")
+            .setAllowedOrigins(allowedOrigins)
+            .setHandshakeHandler(webSocketAuthHandler);
     }
 
 }
\ No newline at end of file
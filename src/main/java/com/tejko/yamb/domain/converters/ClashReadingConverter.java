@@ -0,0 +1,58 @@
+package com.tejko.yamb.domain.converters;
+
+import static com.tejko.yamb.domain.converters.ConverterUtils.toEnum;
+import static com.tejko.yamb.domain.converters.ConverterUtils.toId;
+import static com.tejko.yamb.domain.converters.ConverterUtils.toLocalDateTime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import com.tejko.yamb.domain.enums.ClashStatus;
+import com.tejko.yamb.domain.enums.ClashType;
+import com.tejko.yamb.domain.enums.InvitationStatus;
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.Clash.ClashPlayer;
+
+@ReadingConverter
+public class ClashReadingConverter implements Converter<Document, Clash> {
+
+    @Override
+    public Clash convert(Document document) {
+        return Clash.getInstance(
+            toId(document.get("_id")),
+            document.get("external_id", UUID.class),
+            toLocalDateTime(document.getDate("created_at")),
+            toLocalDateTime(document.getDate("updated_at")),
+            document.getString("name"),
+            document.get("owner_id", UUID.class),
+            document.getInteger("turn", 0),
+            readPlayers(document.getList("players", Document.class)),
+            document.getString("player_hash"),
+            document.get("winner_id", UUID.class),
+            toEnum(ClashType.class, document.get("type")),
+            toEnum(ClashStatus.class, document.get("status"))
+        );
+    }
+
+    private List<ClashPlayer> readPlayers(List<Document> playerDocuments) {
+        List<ClashPlayer> players = new ArrayList<>();
+        if (playerDocuments == null) {
+            return players;
+        }
+        for (Document playerDocument : playerDocuments) {
+            players.add(ClashPlayer.getInstance(
+                playerDocument.get("_id", UUID.class),
+                playerDocument.get("gameId", UUID.class),
+                toEnum(InvitationStatus.class, playerDocument.get("status")),
+                playerDocument.getInteger("score")
+            ));
+        }
+        return players;
+    }
+
+}
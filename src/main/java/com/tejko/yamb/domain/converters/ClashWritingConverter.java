@@ -0,0 +1,54 @@
+package com.tejko.yamb.domain.converters;
+
+import static com.tejko.yamb.domain.converters.ConverterUtils.putIfNotNull;
+import static com.tejko.yamb.domain.converters.ConverterUtils.toDate;
+import static com.tejko.yamb.domain.converters.ConverterUtils.toName;
+import static com.tejko.yamb.domain.converters.ConverterUtils.toObjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.WritingConverter;
+
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.Clash.ClashPlayer;
+
+@WritingConverter
+public class ClashWritingConverter implements Converter<Clash, Document> {
+
+    @Override
+    public Document convert(Clash clash) {
+        Document document = new Document();
+        if (clash.getId() != null) {
+            document.put("_id", toObjectId(clash.getId()));
+        }
+        document.put("external_id", clash.getExternalId());
+        putIfNotNull(document, "created_at", toDate(clash.getCreatedAt()));
+        putIfNotNull(document, "updated_at", toDate(clash.getUpdatedAt()));
+        document.put("players", writePlayers(clash.getPlayers()));
+        putIfNotNull(document, "player_hash", clash.getPlayerHash());
+        putIfNotNull(document, "name", clash.getName());
+        putIfNotNull(document, "owner_id", clash.getOwnerId());
+        document.put("turn", clash.getTurn());
+        putIfNotNull(document, "winner_id", clash.getWinnerId());
+        putIfNotNull(document, "type", toName(clash.getType()));
+        putIfNotNull(document, "status", toName(clash.getStatus()));
+        document.put("active", clash.isActive());
+        return document;
+    }
+
+    private List<Document> writePlayers(List<ClashPlayer> players) {
+        List<Document> playerDocuments = new ArrayList<>(players.size());
+        for (ClashPlayer player : players) {
+            Document playerDocument = new Document("_id", player.getId());
+            putIfNotNull(playerDocument, "gameId", player.getGameId());
+            putIfNotNull(playerDocument, "status", toName(player.getStatus()));
+            putIfNotNull(playerDocument, "score", player.getScore());
+            playerDocuments.add(playerDocument);
+        }
+        return playerDocuments;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.tejko.yamb.domain.converters;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+public class ConverterUtils {
+
+    private ConverterUtils() {}
+
+    public static Object toObjectId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    public static String toId(Object id) {
+        return id instanceof ObjectId ? ((ObjectId) id).toHexString() : (String) id;
+    }
+
+    public static Date toDate(LocalDateTime localDateTime) {
+        return localDateTime != null ? Date.from(localDateTime.atZone(ZoneId.systemDefault()).toInstant()) : null;
+    }
+
+    public static LocalDateTime toLocalDateTime(Date date) {
+        return date != null ? LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()) : null;
+    }
+
+    public static String toName(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    public static Integer toOrdinal(Enum<?> value) {
+        return value != null ? value.ordinal() : null;
+    }
+
+    public static <E extends Enum<E>> E toEnum(Class<E> enumType, Object value) {
+        if (value instanceof Integer) {
+            return enumType.getEnumConstants()[(Integer) value];
+        } else if (value instanceof String) {
+            return Enum.valueOf(enumType, (String) value);
+        }
+        return null;
+    }
+
+    public static void putIfNotNull(Document document, String key, Object value) {
+        if (value != null) {
+            document.put(key, value);
+        }
+    }
+
+}
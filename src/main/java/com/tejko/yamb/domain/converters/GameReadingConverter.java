@@ -0,0 +1,95 @@
+package com.tejko.yamb.domain.converters;
+
+import static com.tejko.yamb.domain.converters.ConverterUtils.toEnum;
+import static com.tejko.yamb.domain.converters.ConverterUtils.toId;
+import static com.tejko.yamb.domain.converters.ConverterUtils.toLocalDateTime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import com.tejko.yamb.domain.enums.BoxType;
+import com.tejko.yamb.domain.enums.ColumnType;
+import com.tejko.yamb.domain.enums.GameAction;
+import com.tejko.yamb.domain.enums.GameStatus;
+import com.tejko.yamb.domain.enums.GameType;
+import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.domain.models.Game.Dice;
+import com.tejko.yamb.domain.models.Game.Sheet;
+import com.tejko.yamb.util.GameSheetCodec;
+
+@ReadingConverter
+public class GameReadingConverter implements Converter<Document, Game> {
+
+    @Override
+    public Game convert(Document document) {
+        boolean compact = document.getInteger("schema_version", 1) >= GameSheetCodec.SCHEMA_VERSION;
+        Sheet sheet = compact ? GameSheetCodec.unpackSheet(toBytes(document.get("sheet"))) : readLegacySheet(document.get("sheet", Document.class));
+        List<Dice> dices = compact ? GameSheetCodec.unpackDices(document.getInteger("dices")) : readLegacyDices(document.getList("dices", Document.class));
+        return Game.getInstance(
+            toId(document.get("_id")),
+            document.get("external_id", UUID.class),
+            toLocalDateTime(document.getDate("created_at")),
+            toLocalDateTime(document.getDate("updated_at")),
+            document.get("player_id", UUID.class),
+            sheet,
+            dices,
+            document.getInteger("roll_count", 0),
+            toEnum(BoxType.class, document.get("announcement")),
+            toEnum(GameStatus.class, document.get("status")),
+            toEnum(GameType.class, document.get("type")),
+            toArray(document.getList("latest_dice_rolled", Integer.class)),
+            document.getInteger("previous_roll_count", 0),
+            toEnum(ColumnType.class, document.get("latest_column_filled")),
+            toEnum(BoxType.class, document.get("latest_box_filled")),
+            toEnum(GameAction.class, document.get("last_action"))
+        );
+    }
+
+    private Sheet readLegacySheet(Document sheetDocument) {
+        Sheet sheet = Sheet.getInstance();
+        if (sheetDocument == null) {
+            return sheet;
+        }
+        for (Document columnDocument : sheetDocument.getList("columns", Document.class)) {
+            ColumnType columnType = ColumnType.valueOf(columnDocument.getString("type"));
+            for (Document boxDocument : columnDocument.getList("boxes", Document.class)) {
+                Integer value = boxDocument.getInteger("value");
+                if (value != null) {
+                    BoxType boxType = BoxType.valueOf(boxDocument.getString("type"));
+                    sheet.getColumns().get(columnType.ordinal()).getBoxes().get(boxType.ordinal()).fill(value);
+                }
+            }
+        }
+        return sheet;
+    }
+
+    private List<Dice> readLegacyDices(List<Document> diceDocuments) {
+        List<Dice> dices = new ArrayList<>();
+        for (Document diceDocument : diceDocuments) {
+            dices.add(Dice.getInstance(diceDocument.getInteger("index"), diceDocument.getInteger("value")));
+        }
+        return dices;
+    }
+
+    private byte[] toBytes(Object value) {
+        return value instanceof Binary ? ((Binary) value).getData() : (byte[]) value;
+    }
+
+    private int[] toArray(List<Integer> values) {
+        if (values == null) {
+            return null;
+        }
+        int[] array = new int[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.tejko.yamb.domain.converters;
+
+import static com.tejko.yamb.domain.converters.ConverterUtils.putIfNotNull;
+import static com.tejko.yamb.domain.converters.ConverterUtils.toDate;
+import static com.tejko.yamb.domain.converters.ConverterUtils.toName;
+import static com.tejko.yamb.domain.converters.ConverterUtils.toObjectId;
+import static com.tejko.yamb.domain.converters.ConverterUtils.toOrdinal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.WritingConverter;
+
+import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.util.GameSheetCodec;
+
+@WritingConverter
+public class GameWritingConverter implements Converter<Game, Document> {
+
+    @Override
+    public Document convert(Game game) {
+        Document document = new Document();
+        if (game.getId() != null) {
+            document.put("_id", toObjectId(game.getId()));
+        }
+        document.put("external_id", game.getExternalId());
+        putIfNotNull(document, "created_at", toDate(game.getCreatedAt()));
+        putIfNotNull(document, "updated_at", toDate(game.getUpdatedAt()));
+        putIfNotNull(document, "player_id", game.getPlayerId());
+        document.put("schema_version", GameSheetCodec.SCHEMA_VERSION);
+        document.put("sheet", new Binary(GameSheetCodec.packSheet(game.getSheet())));
+        document.put("dices", GameSheetCodec.packDices(game.getDices()));
+        document.put("roll_count", game.getRollCount());
+        putIfNotNull(document, "announcement", toOrdinal(game.getAnnouncement()));
+        putIfNotNull(document, "status", toName(game.getStatus()));
+        putIfNotNull(document, "type", toName(game.getType()));
+        putIfNotNull(document, "latest_dice_rolled", toList(game.getLatestDiceRolled()));
+        document.put("previous_roll_count", game.getPreviousRollCount());
+        putIfNotNull(document, "latest_column_filled", toOrdinal(game.getLatestColumnFilled()));
+        putIfNotNull(document, "latest_box_filled", toOrdinal(game.getLatestBoxFilled()));
+        putIfNotNull(document, "last_action", toOrdinal(game.getLastAction()));
+        document.put("total_sum", game.getTotalSum());
+        document.put("top_section_sum", game.getTopSectionSum());
+        document.put("middle_section_sum", game.getMiddleSectionSum());
+        document.put("bottom_section_sum", game.getBottomSectionSum());
+        document.put("progress", game.getProgress());
+        document.put("filled_mask", game.getFilledMask());
+        return document;
+    }
+
+    private List<Integer> toList(int[] values) {
+        if (values == null) {
+            return null;
+        }
+        List<Integer> list = new ArrayList<>(values.length);
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+}
@@ -15,6 +15,9 @@ public enum MessageType {
     NOTIFICATION,
     UPDATE,
     REACTION,
-    SUGGESTION
+    SUGGESTION,
+    REPLAY,
+    CHAT,
+    HISTORY
 
 }
\ No newline at end of file
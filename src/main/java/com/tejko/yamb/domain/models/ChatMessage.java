@@ -0,0 +1,67 @@
+package com.tejko.yamb.domain.models;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import javax.persistence.Id;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+@Document(collection = "chat_messages")
+public class ChatMessage {
+
+    public static final String PUBLIC_CHANNEL = "public";
+
+    @Id
+    private String id;
+
+    @Field("channel")
+    private String channel;
+
+    @Field("sender_id")
+    private UUID senderId;
+
+    @Field("content")
+    private String content;
+
+    @Field("created_at")
+    private LocalDateTime createdAt;
+
+    protected ChatMessage() {}
+
+    protected ChatMessage(String id, String channel, UUID senderId, String content, LocalDateTime createdAt) {
+        this.id = id;
+        this.channel = channel;
+        this.senderId = senderId;
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+
+    public static ChatMessage getInstance(String channel, UUID senderId, String content) {
+        return new ChatMessage(new ObjectId().toHexString(), channel, senderId, content, LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public UUID getSenderId() {
+        return senderId;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+}
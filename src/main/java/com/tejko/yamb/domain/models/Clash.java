@@ -2,7 +2,9 @@ package com.tejko.yamb.domain.models;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -12,7 +14,6 @@ import javax.persistence.Id;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
-import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -27,7 +28,6 @@ public class Clash {
     private String id;
 
     @Field(name = "external_id")
-    @Indexed
     private UUID externalId = UUID.randomUUID();
 
     @CreatedDate
@@ -41,7 +41,6 @@ public class Clash {
     @Field("players")
     private List<ClashPlayer> players;
 
-    @Indexed
     @Field("player_hash")
     private String playerHash;
     
@@ -63,8 +62,21 @@ public class Clash {
     @Field("status")
     private ClashStatus status;
 
+    @Field("active")
+    private boolean active;
+
     protected Clash() {}
 
+    protected Clash(String id, UUID externalId, LocalDateTime createdAt, LocalDateTime updatedAt, String name, UUID ownerId, int turn, 
+                    List<ClashPlayer> players, String playerHash, UUID winnerId, ClashType type, ClashStatus status) {
+        this(name, ownerId, turn, players, playerHash, type, status);
+        this.id = id;
+        this.externalId = externalId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.winnerId = winnerId;
+    }
+
     public Clash(String name, UUID ownerId, int turn, List<ClashPlayer> players, String playerHash, ClashType type, ClashStatus status) {
         this.name = name;
         this.ownerId = ownerId;
@@ -72,7 +84,12 @@ public class Clash {
         this.players = players;
         this.playerHash = playerHash;
         this.type = type;
-        this.status = status;
+        setStatus(status);
+    }
+
+    public static Clash getInstance(String id, UUID externalId, LocalDateTime createdAt, LocalDateTime updatedAt, String name, UUID ownerId, 
+                                    int turn, List<ClashPlayer> players, String playerHash, UUID winnerId, ClashType type, ClashStatus status) {
+        return new Clash(id, externalId, createdAt, updatedAt, name, ownerId, turn, players, playerHash, winnerId, type, status);
     }
 
     public static Clash getInstance(String name, UUID ownerId, Set<UUID> playerIds, ClashType type) {
@@ -81,6 +98,13 @@ public class Clash {
         return new Clash(name, ownerId, 0, players, playerHash, type, ClashStatus.PENDING);
     }
 
+    public Clash copy() {
+        List<ClashPlayer> playersCopy = players.stream()
+            .map(player -> ClashPlayer.getInstance(player.getId(), player.getGameId(), player.getStatus(), player.getScore()))
+            .collect(Collectors.toList());
+        return new Clash(id, externalId, createdAt, updatedAt, name, ownerId, turn, playersCopy, playerHash, winnerId, type, status);
+    }
+
     private static List<ClashPlayer> generatePlayers(UUID ownerId, Set<UUID> playerIds) {
         List<ClashPlayer> players = new ArrayList<>();
         for (UUID playerId : playerIds) {
@@ -143,6 +167,11 @@ public class Clash {
 
     public void setStatus(ClashStatus status) {
         this.status = status;
+        this.active = status == ClashStatus.PENDING || status == ClashStatus.IN_PROGRESS;
+    }
+
+    public boolean isActive() {
+        return active;
     }
 
     public int getTurn() {
@@ -212,7 +241,7 @@ public class Clash {
     }
 
     public void startClash() {
-        status = ClashStatus.IN_PROGRESS;
+        setStatus(ClashStatus.IN_PROGRESS);
         players = getAcceptedPlayers(); 
         updatePlayerHash();
     }
@@ -225,6 +254,10 @@ public class Clash {
         player.setStatus(InvitationStatus.DECLINED);
     }
 
+    public boolean hasPlayer(UUID playerId) {
+        return players.stream().anyMatch(player -> player.getId().equals(playerId));
+    }
+
     public ClashPlayer getPlayer(UUID playerId) {
         return players.stream()
             .filter(player -> player.getId().equals(playerId))
@@ -232,6 +265,40 @@ public class Clash {
             .orElseThrow(() -> new IllegalArgumentException("Player not part of this clash."));
     }
 
+    public void complete() {
+        setStatus(ClashStatus.COMPLETED);
+        winnerId = players.stream()
+            .filter(player -> player.getScore() != null)
+            .max(Comparator.comparing(ClashPlayer::getScore))
+            .map(ClashPlayer::getId)
+            .orElse(null);
+    }
+
+    public void mergePlayers(UUID parentId, Collection<UUID> mergedIds) {
+        ClashPlayer currentPlayer = players.get(turn);
+        boolean parentKept = hasPlayer(parentId);
+        List<ClashPlayer> remainingPlayers = new ArrayList<>();
+        for (ClashPlayer player : players) {
+            if (mergedIds.contains(player.getId())) {
+                if (parentKept) {
+                    continue;
+                }
+                player.setId(parentId);
+                parentKept = true;
+            }
+            remainingPlayers.add(player);
+        }
+        players = remainingPlayers;
+        turn = players.contains(currentPlayer) ? players.indexOf(currentPlayer) : players.indexOf(getPlayer(parentId));
+        if (mergedIds.contains(ownerId)) {
+            ownerId = parentId;
+        }
+        if (mergedIds.contains(winnerId)) {
+            winnerId = parentId;
+        }
+        updatePlayerHash();
+    }
+
     public void advanceTurn() {
         turn = ++turn % players.size();
     }
@@ -266,6 +333,13 @@ public class Clash {
             return new ClashPlayer(id, status);
         }
 
+        public static ClashPlayer getInstance(UUID id, UUID gameId, InvitationStatus status, Integer score) {
+            ClashPlayer clashPlayer = new ClashPlayer(id, status);
+            clashPlayer.setGameId(gameId);
+            clashPlayer.setScore(score);
+            return clashPlayer;
+        }
+
         public UUID getId() {
             return id;
         }
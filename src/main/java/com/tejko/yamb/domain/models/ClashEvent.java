@@ -0,0 +1,50 @@
+package com.tejko.yamb.domain.models;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.tejko.yamb.domain.enums.MessageType;
+
+public class ClashEvent {
+
+    private MessageType type;
+    private UUID playerId;
+    private UUID gameId;
+    private Object content;
+    private LocalDateTime timestamp;
+
+    protected ClashEvent() {}
+
+    protected ClashEvent(MessageType type, UUID playerId, UUID gameId, Object content, LocalDateTime timestamp) {
+        this.type = type;
+        this.playerId = playerId;
+        this.gameId = gameId;
+        this.content = content;
+        this.timestamp = timestamp;
+    }
+
+    public static ClashEvent getInstance(MessageType type, UUID playerId, UUID gameId, Object content) {
+        return new ClashEvent(type, playerId, gameId, content, LocalDateTime.now());
+    }
+
+    public MessageType getType() {
+        return type;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public UUID getGameId() {
+        return gameId;
+    }
+
+    public Object getContent() {
+        return content;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.tejko.yamb.domain.models;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.persistence.Id;
+
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import com.tejko.yamb.domain.enums.ClashStatus;
+import com.tejko.yamb.domain.enums.ClashType;
+import com.tejko.yamb.domain.enums.InvitationStatus;
+
+@Document(collection = "clash_inbox")
+public class ClashInboxEntry {
+
+    @Id
+    private String id;
+
+    @Field("player_id")
+    private UUID playerId;
+
+    @Field("clash_id")
+    private UUID clashId;
+
+    @Field("name")
+    private String name;
+
+    @Field("type")
+    private ClashType type;
+
+    @Field("status")
+    private ClashStatus status;
+
+    @Field("invitation_status")
+    private InvitationStatus invitationStatus;
+
+    @Field("turn_player_id")
+    private UUID turnPlayerId;
+
+    @Field("winner_id")
+    private UUID winnerId;
+
+    @Field("opponents")
+    private List<Opponent> opponents;
+
+    @Field("updated_at")
+    private LocalDateTime updatedAt;
+
+    @Field("signature")
+    private String signature;
+
+    protected ClashInboxEntry() {}
+
+    protected ClashInboxEntry(String id, UUID playerId, UUID clashId, String name, ClashType type, ClashStatus status, InvitationStatus invitationStatus, 
+                              UUID turnPlayerId, UUID winnerId, List<Opponent> opponents, LocalDateTime updatedAt, String signature) {
+        this.id = id;
+        this.playerId = playerId;
+        this.clashId = clashId;
+        this.name = name;
+        this.type = type;
+        this.status = status;
+        this.invitationStatus = invitationStatus;
+        this.turnPlayerId = turnPlayerId;
+        this.winnerId = winnerId;
+        this.opponents = opponents;
+        this.updatedAt = updatedAt;
+        this.signature = signature;
+    }
+
+    public static ClashInboxEntry getInstance(Clash clash, Clash.ClashPlayer player, List<Opponent> opponents) {
+        return new ClashInboxEntry(clash.getExternalId() + ":" + player.getId(), player.getId(), clash.getExternalId(), clash.getName(), clash.getType(), 
+            clash.getStatus(), player.getStatus(), getTurnPlayerId(clash), clash.getWinnerId(), opponents, clash.getUpdatedAt(), generateSignature(clash));
+    }
+
+    public static UUID getTurnPlayerId(Clash clash) {
+        return ClashStatus.IN_PROGRESS.equals(clash.getStatus()) ? clash.getPlayers().get(clash.getTurn()).getId() : null;
+    }
+
+    public static String generateSignature(Clash clash) {
+        String players = clash.getPlayers().stream()
+            .map(player -> player.getId() + ":" + player.getStatus())
+            .sorted()
+            .collect(Collectors.joining(","));
+        return clash.getName() + "|" + clash.getStatus() + "|" + players;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public UUID getClashId() {
+        return clashId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ClashType getType() {
+        return type;
+    }
+
+    public ClashStatus getStatus() {
+        return status;
+    }
+
+    public InvitationStatus getInvitationStatus() {
+        return invitationStatus;
+    }
+
+    public UUID getTurnPlayerId() {
+        return turnPlayerId;
+    }
+
+    public UUID getWinnerId() {
+        return winnerId;
+    }
+
+    public List<Opponent> getOpponents() {
+        return opponents;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    public static class Opponent {
+
+        private UUID id;
+        private String name;
+        private String avatarUrl;
+
+        protected Opponent() {}
+
+        protected Opponent(UUID id, String name, String avatarUrl) {
+            this.id = id;
+            this.name = name;
+            this.avatarUrl = avatarUrl;
+        }
+
+        public static Opponent getInstance(UUID id, String name, String avatarUrl) {
+            return new Opponent(id, name, avatarUrl);
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getAvatarUrl() {
+            return avatarUrl;
+        }
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.tejko.yamb.domain.models;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import javax.persistence.Id;
+
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import com.tejko.yamb.domain.enums.ClashStatus;
+import com.tejko.yamb.domain.enums.ClashType;
+
+@Document(collection = "clashes")
+public class ClashSummary {
+
+    public static final String FIELDS = "{ 'external_id': 1, 'created_at': 1, 'updated_at': 1, 'name': 1, 'owner_id': 1, 'winner_id': 1, 'status': 1, 'type': 1 }";
+
+    @Id
+    private String id;
+
+    @Field(name = "external_id")
+    private UUID externalId;
+
+    @Field("created_at")
+    private LocalDateTime createdAt;
+
+    @Field("updated_at")
+    private LocalDateTime updatedAt;
+
+    @Field("name")
+    private String name;
+
+    @Field("owner_id")
+    private UUID ownerId;
+
+    @Field("winner_id")
+    private UUID winnerId;
+
+    @Field("status")
+    private ClashStatus status;
+
+    @Field("type")
+    private ClashType type;
+
+    protected ClashSummary() {}
+
+    public String getId() {
+        return id;
+    }
+
+    public UUID getExternalId() {
+        return externalId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public UUID getOwnerId() {
+        return ownerId;
+    }
+
+    public UUID getWinnerId() {
+        return winnerId;
+    }
+
+    public ClashStatus getStatus() {
+        return status;
+    }
+
+    public ClashType getType() {
+        return type;
+    }
+
+}
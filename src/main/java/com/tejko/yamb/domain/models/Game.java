@@ -11,7 +11,6 @@ import javax.persistence.Id;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
-import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -39,7 +38,6 @@ public class Game {
     @Id
     private String id;
 
-    @Indexed
     @Field(name = "external_id")
     private UUID externalId = UUID.randomUUID();
 
@@ -89,6 +87,21 @@ public class Game {
 
     protected Game() {}
 
+    protected Game(String id, UUID externalId, LocalDateTime createdAt, LocalDateTime updatedAt, UUID playerId, Sheet sheet, List<Dice> dices, 
+                   int rollCount, BoxType announcement, GameStatus status, GameType type, int[] latestDiceRolled, int previousRollCount, 
+                   ColumnType latestColumnFilled, BoxType latestBoxFilled, GameAction lastAction) {
+        this(playerId, sheet, dices, rollCount, announcement, status, type);
+        this.id = id;
+        this.externalId = externalId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.latestDiceRolled = latestDiceRolled;
+        this.previousRollCount = previousRollCount;
+        this.latestColumnFilled = latestColumnFilled;
+        this.latestBoxFilled = latestBoxFilled;
+        this.lastAction = lastAction;
+    }
+
     protected Game(UUID playerId, Sheet sheet, List<Dice> dices, int rollCount, BoxType announcement, GameStatus status, GameType type) {
         this.playerId = playerId;
         this.sheet = sheet;
@@ -103,6 +116,13 @@ public class Game {
         return new Game(playerId, Sheet.getInstance(), generateDices(), 0, null, GameStatus.IN_PROGRESS, type);
     }
 
+    public static Game getInstance(String id, UUID externalId, LocalDateTime createdAt, LocalDateTime updatedAt, UUID playerId, Sheet sheet, 
+                                   List<Dice> dices, int rollCount, BoxType announcement, GameStatus status, GameType type, int[] latestDiceRolled, 
+                                   int previousRollCount, ColumnType latestColumnFilled, BoxType latestBoxFilled, GameAction lastAction) {
+        return new Game(id, externalId, createdAt, updatedAt, playerId, sheet, dices, rollCount, announcement, status, type, latestDiceRolled, 
+            previousRollCount, latestColumnFilled, latestBoxFilled, lastAction);
+    }
+
     public String getId() {
         return id;
     }
@@ -170,7 +190,31 @@ public class Game {
     public GameAction getLastAction() {
         return lastAction;
     }
-    
+
+    public int getTopSectionSum() {
+        return sheet.getTopSectionSum();
+    }
+
+    public int getMiddleSectionSum() {
+        return sheet.getMiddleSectionSum();
+    }
+
+    public int getBottomSectionSum() {
+        return sheet.getBottomSectionSum();
+    }
+
+    public long getFilledMask() {
+        long filledMask = 0L;
+        for (Column column : sheet.getColumns()) {
+            for (Box box : column.getBoxes()) {
+                if (box.getValue() != null) {
+                    filledMask |= 1L << (column.getType().ordinal() * BoxType.values().length + box.getType().ordinal());
+                }
+            }
+        }
+        return filledMask;
+    }
+
     private static List<Dice> generateDices() {
         List<Dice> dices = new ArrayList<>();
         for (int i = 0; i < GameConstants.DICE_LIMIT; i++) {
@@ -405,6 +449,10 @@ public class Game {
             return new Dice(index, 6);
         }
 
+        public static Dice getInstance(int index, int value) {
+            return new Dice(index, value);
+        }
+
         public int getValue() {
             return value;
         }
@@ -0,0 +1,84 @@
+package com.tejko.yamb.domain.models;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import javax.persistence.Id;
+
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import com.tejko.yamb.domain.enums.GameStatus;
+import com.tejko.yamb.domain.enums.GameType;
+
+@Document(collection = "games")
+public class GameSummary {
+
+    public static final String FIELDS = "{ 'external_id': 1, 'created_at': 1, 'updated_at': 1, 'player_id': 1, 'status': 1, 'type': 1, 'total_sum': 1, 'progress': 1 }";
+
+    @Id
+    private String id;
+
+    @Field(name = "external_id")
+    private UUID externalId;
+
+    @Field("created_at")
+    private LocalDateTime createdAt;
+
+    @Field("updated_at")
+    private LocalDateTime updatedAt;
+
+    @Field("player_id")
+    private UUID playerId;
+
+    @Field("status")
+    private GameStatus status;
+
+    @Field("type")
+    private GameType type;
+
+    @Field("total_sum")
+    private int totalSum;
+
+    @Field("progress")
+    private float progress;
+
+    protected GameSummary() {}
+
+    public String getId() {
+        return id;
+    }
+
+    public UUID getExternalId() {
+        return externalId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    public GameType getType() {
+        return type;
+    }
+
+    public int getTotalSum() {
+        return totalSum;
+    }
+
+    public float getProgress() {
+        return progress;
+    }
+
+}
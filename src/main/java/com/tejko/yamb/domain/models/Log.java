@@ -14,7 +14,11 @@ import javax.persistence.Id;
 import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.PrePersist;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 import com.vladmihalcea.hibernate.type.json.JsonBinaryType;
@@ -26,13 +30,18 @@ import org.slf4j.event.Level;
 
 @Entity(name = "log")
 @TypeDef(name = "jsonb", typeClass = JsonBinaryType.class)
+@NamedEntityGraph(name = "log.player", attributeNodes = @NamedAttributeNode(value = "player", subgraph = "player"),
+    subgraphs = @NamedSubgraph(name = "player", attributeNodes = { @NamedAttributeNode("avatar"), @NamedAttributeNode("preferences") }))
 @Table(name = "log", indexes = {
-    @Index(name = "idx_log_external_id", columnList = "external_id")
+    @Index(name = "idx_log_external_id", columnList = "external_id"),
+    @Index(name = "idx_log_player_id_created_at", columnList = "player_id, created_at DESC"),
+    @Index(name = "idx_log_created_at", columnList = "created_at DESC")
 })
 public class Log {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "log_id_seq")
+    @SequenceGenerator(name = "log_id_seq", sequenceName = "log_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
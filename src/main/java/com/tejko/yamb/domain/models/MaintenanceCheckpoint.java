@@ -0,0 +1,71 @@
+package com.tejko.yamb.domain.models;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Id;
+
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+@Document(collection = "maintenance_checkpoints")
+public class MaintenanceCheckpoint {
+
+    @Id
+    private String id;
+
+    @Field("cursor")
+    private String cursor;
+
+    @Field("processed")
+    private long processed;
+
+    @Field("updated_at")
+    private LocalDateTime updatedAt;
+
+    @Field("completed_at")
+    private LocalDateTime completedAt;
+
+    protected MaintenanceCheckpoint() {}
+
+    protected MaintenanceCheckpoint(String id) {
+        this.id = id;
+    }
+
+    public static MaintenanceCheckpoint getInstance(String jobName) {
+        return new MaintenanceCheckpoint(jobName);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void advance(String cursor, int processed) {
+        this.cursor = cursor;
+        this.processed += processed;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.cursor = null;
+        this.processed = 0;
+        this.updatedAt = LocalDateTime.now();
+        this.completedAt = this.updatedAt;
+    }
+
+}
@@ -16,6 +16,7 @@ import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.PrePersist;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 import org.hibernate.annotations.CreationTimestamp;
@@ -27,12 +28,14 @@ import com.tejko.yamb.domain.listeners.NotificationListener;
 @Entity(name = "notification")
 @EntityListeners(NotificationListener.class)
 @Table(name = "notification", indexes = {
-    @Index(name = "idx_notification_external_id", columnList = "external_id")
+    @Index(name = "idx_notification_external_id", columnList = "external_id"),
+    @Index(name = "idx_notification_player_id_created_at", columnList = "player_id, created_at DESC")
 })
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_id_seq")
+    @SequenceGenerator(name = "notification_id_seq", sequenceName = "notification_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
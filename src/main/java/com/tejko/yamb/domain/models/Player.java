@@ -20,14 +20,22 @@ import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.PostLoad;
 import javax.persistence.PrePersist;
+import javax.persistence.PrimaryKeyJoinColumn;
 import javax.persistence.Table;
 import javax.persistence.Transient;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -37,8 +45,13 @@ import com.tejko.yamb.domain.listeners.PlayerListener;
 
 @Entity(name = "player")
 @EntityListeners(PlayerListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "player")
+@NaturalIdCache(region = "player-natural-id")
+@NamedEntityGraph(name = "player.summary", attributeNodes = { @NamedAttributeNode("avatar"), @NamedAttributeNode("preferences") })
 @Table(name = "player", indexes = {
-    @Index(name = "idx_player_external_id", columnList = "external_id")
+    @Index(name = "idx_player_external_id", columnList = "external_id"),
+    @Index(name = "idx_player_email", columnList = "email"),
+    @Index(name = "idx_player_created_at", columnList = "created_at")
 })
 public class Player implements UserDetails, Principal {
 
@@ -47,6 +60,7 @@ public class Player implements UserDetails, Principal {
     @Column(name = "id")
     private Long id;
 
+    @NaturalId
     @Column(name = "external_id", nullable = false, updatable = false, unique = true)
     private UUID externalId;
 
@@ -89,10 +103,13 @@ public class Player implements UserDetails, Principal {
     private List<Ticket> tickets;
 
     @ManyToMany(fetch = FetchType.EAGER)
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "player-roles")
     @JoinTable(name = "player_role", joinColumns = @JoinColumn(name = "player_id"), inverseJoinColumns = @JoinColumn(name = "role_id"))
     private Set<Role> roles;
 
-    @OneToOne(mappedBy = "player", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @PrimaryKeyJoinColumn
     private PlayerPreferences preferences;
 
     @OneToOne(mappedBy = "player", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
@@ -8,7 +8,11 @@ import javax.persistence.MapsId;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 @Entity(name = "preferences")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "preferences")
 @Table(name = "preferences")
 public class PlayerPreferences {
 
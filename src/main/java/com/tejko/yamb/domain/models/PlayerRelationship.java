@@ -19,7 +19,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "player_relationship", indexes = {
-    @Index(name = "idx_player_relationship_external_id", columnList = "external_id")
+    @Index(name = "idx_player_relationship_external_id", columnList = "external_id"),
+    @Index(name = "idx_player_relationship_related_player_id", columnList = "related_player_id")
 })
 public class PlayerRelationship {
 
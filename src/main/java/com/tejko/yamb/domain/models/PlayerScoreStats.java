@@ -0,0 +1,70 @@
+package com.tejko.yamb.domain.models;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+@Entity(name = "player_stats")
+@Table(name = "player_stats", indexes = {
+    @Index(name = "idx_player_stats_score_count", columnList = "score_count DESC"),
+    @Index(name = "idx_player_stats_average_score", columnList = "average_score DESC")
+})
+public class PlayerScoreStats {
+
+    @Id
+    @Column(name = "player_id")
+    private Long playerId;
+
+    @Column(name = "score_count", nullable = false)
+    private long scoreCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;
+
+    @Column(name = "average_score", nullable = false)
+    private double averageScore;
+
+    @Column(name = "high_score_id")
+    private Long highScoreId;
+
+    @Column(name = "high_score_value")
+    private Integer highScoreValue;
+
+    @Column(name = "last_activity")
+    private LocalDateTime lastActivity;
+
+    protected PlayerScoreStats() {}
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public long getScoreCount() {
+        return scoreCount;
+    }
+
+    public long getScoreSum() {
+        return scoreSum;
+    }
+
+    public double getAverageScore() {
+        return averageScore;
+    }
+
+    public Long getHighScoreId() {
+        return highScoreId;
+    }
+
+    public Integer getHighScoreValue() {
+        return highScoreValue;
+    }
+
+    public LocalDateTime getLastActivity() {
+        return lastActivity;
+    }
+
+}
@@ -11,7 +11,11 @@ import javax.persistence.Index;
 import javax.persistence.PrePersist;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 @Entity(name = "role")
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "role")
 @Table(name = "role", indexes = {
     @Index(name = "idx_role_external_id", columnList = "external_id")
 })
@@ -12,27 +12,33 @@ import javax.persistence.Id;
 import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.PrePersist;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
-import org.hibernate.annotations.CreationTimestamp;
-
 @Entity(name="score")
+@NamedEntityGraph(name = "score.player", attributeNodes = @NamedAttributeNode(value = "player", subgraph = "player"),
+    subgraphs = @NamedSubgraph(name = "player", attributeNodes = { @NamedAttributeNode("avatar"), @NamedAttributeNode("preferences") }))
 @Table(name = "score", indexes = {
-    @Index(name = "idx_score_external_id", columnList = "external_id")
+    @Index(name = "idx_score_external_id", columnList = "external_id"),
+    @Index(name = "idx_score_created_at_value", columnList = "created_at, value DESC"),
+    @Index(name = "idx_score_player_id_created_at", columnList = "player_id, created_at DESC")
 })
 public class Score {
 
 	@Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "score_id_seq")
+    @SequenceGenerator(name = "score_id_seq", sequenceName = "score_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
-    @Column(name = "external_id", nullable = false, updatable = false, unique = true)
+    @Column(name = "external_id", nullable = false, updatable = false)
     private UUID externalId;
 
-    @CreationTimestamp
-    @Column(name = "created_at", updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -47,6 +53,7 @@ public class Score {
 	protected Score(Player player, int value) {
 		this.player = player;
 		this.value = value;
+		this.createdAt = LocalDateTime.now();
 	}
 
 	public static Score getInstance(Player player, int value) {
@@ -15,7 +15,11 @@ import javax.persistence.Id;
 import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.PrePersist;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 import org.hibernate.annotations.CreationTimestamp;
@@ -28,13 +32,18 @@ import com.vladmihalcea.hibernate.type.json.JsonBinaryType;
 
 @Entity(name = "ticket")
 @TypeDef(name = "jsonb", typeClass = JsonBinaryType.class)
+@NamedEntityGraph(name = "ticket.player", attributeNodes = @NamedAttributeNode(value = "player", subgraph = "player"),
+    subgraphs = @NamedSubgraph(name = "player", attributeNodes = { @NamedAttributeNode("avatar"), @NamedAttributeNode("preferences") }))
 @Table(name = "ticket", indexes = {
-    @Index(name = "idx_ticket_external_id", columnList = "external_id")
+    @Index(name = "idx_ticket_external_id", columnList = "external_id"),
+    @Index(name = "idx_ticket_player_id_updated_at", columnList = "player_id, updated_at DESC"),
+    @Index(name = "idx_ticket_status_updated_at", columnList = "status, updated_at DESC")
 })
 public class Ticket {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_id_seq")
+    @SequenceGenerator(name = "ticket_id_seq", sequenceName = "ticket_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -0,0 +1,23 @@
+package com.tejko.yamb.domain.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import com.tejko.yamb.domain.models.ChatMessage;
+
+public interface ChatMessageRepository extends MongoRepository<ChatMessage, String> {
+
+    List<ChatMessage> findAllByChannelOrderByCreatedAtDescIdDesc(String channel, Pageable pageable);
+
+    List<ChatMessage> findAllByChannelAndCreatedAtBeforeOrderByCreatedAtDescIdDesc(String channel, LocalDateTime before, Pageable pageable);
+
+    @Query(value = "{ 'channel': ?0, '$or': [ { 'created_at': { '$lt': ?1 } }, { 'created_at': ?1, '_id': { '$lt': ?2 } } ] }", 
+           sort = "{ 'created_at': -1, '_id': -1 }")
+    List<ChatMessage> findAllByChannelBefore(String channel, LocalDateTime before, ObjectId beforeId, Pageable pageable);
+
+}
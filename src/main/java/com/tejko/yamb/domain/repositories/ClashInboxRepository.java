@@ -0,0 +1,32 @@
+package com.tejko.yamb.domain.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import com.tejko.yamb.domain.models.ClashInboxEntry;
+
+public interface ClashInboxRepository extends MongoRepository<ClashInboxEntry, String> {
+
+    List<ClashInboxEntry> findAllByPlayerIdOrderByUpdatedAtDescIdDesc(UUID playerId, Pageable pageable);
+
+    List<ClashInboxEntry> findAllByPlayerIdAndUpdatedAtBeforeOrderByUpdatedAtDescIdDesc(UUID playerId, LocalDateTime before, Pageable pageable);
+
+    @Query(value = "{ 'player_id': ?0, '$or': [ { 'updated_at': { '$lt': ?1 } }, { 'updated_at': ?1, '_id': { '$lt': ?2 } } ] }", 
+           sort = "{ 'updated_at': -1, '_id': -1 }")
+    List<ClashInboxEntry> findAllByPlayerIdBefore(UUID playerId, LocalDateTime before, String beforeId, Pageable pageable);
+
+    void deleteAllByClashId(UUID clashId);
+
+    void deleteAllByPlayerIdIn(Collection<UUID> playerIds);
+
+    void deleteAllByClashIdIn(Collection<UUID> clashIds);
+
+    void deleteAllByClashIdAndPlayerIdNotIn(UUID clashId, Collection<UUID> playerIds);
+
+}
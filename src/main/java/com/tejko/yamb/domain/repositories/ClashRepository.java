@@ -18,7 +18,7 @@ public interface ClashRepository extends MongoRepository<Clash, String> {
     @Query("{ 'players.id': ?0 }")
     List<Clash> findAllByPlayerId(UUID playerId);
 
-    @Query("{ 'players.id': ?0 }")
+    @Query(value = "{ 'players.id': ?0 }", sort = "{ 'updated_at': -1 }")
     List<Clash> findAllByPlayerIdOrderByUpdatedAtDesc(UUID playerId);
 
     @Query("{ 'players.id': ?0, 'status': ?1, 'type': ?2 }")
@@ -27,7 +27,7 @@ public interface ClashRepository extends MongoRepository<Clash, String> {
     @Query("{ 'players.id': ?0, 'status': ?1, 'type': ?2 }")
     Optional<Clash> findByPlayerIdAndStatusAndType(UUID playerId, ClashStatus status, ClashType type);
 
-    @Query("{ 'playerHash': ?0, 'status': { $in: ['PENDING', 'IN_PROGRESS'] }, 'type': ?1 }")
+    @Query("{ 'player_hash': ?0, 'type': ?1, 'active': true }")
     Optional<Clash> findActiveByPlayerHashAndType(String playerHash, ClashType type);
 
     @Query("{ 'players.id': ?0, 'status': ?1, 'type': ?2 }")
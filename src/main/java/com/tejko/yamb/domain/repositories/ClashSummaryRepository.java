@@ -0,0 +1,21 @@
+package com.tejko.yamb.domain.repositories;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import com.tejko.yamb.domain.models.ClashSummary;
+
+public interface ClashSummaryRepository extends Repository<ClashSummary, String> {
+
+    @Query(value = "{}", fields = ClashSummary.FIELDS)
+    Page<ClashSummary> findAllBy(Pageable pageable);
+
+    @Query(value = "{ 'players._id': ?0 }", fields = ClashSummary.FIELDS, sort = "{ 'updated_at': -1 }")
+    List<ClashSummary> findAllByPlayerIdOrderByUpdatedAtDesc(UUID playerId);
+
+}
@@ -26,7 +26,6 @@ public interface GameRepository extends MongoRepository<Game, String> {
     boolean existsByPlayerIdAndStatusIn(UUID playerId, List<GameStatus> statuses);
 
     List<Game> findAllByOrderByUpdatedAtDesc();
-
     List<Game> findAllByPlayerIdOrderByUpdatedAtDesc(UUID playerId);
 
 }
\ No newline at end of file
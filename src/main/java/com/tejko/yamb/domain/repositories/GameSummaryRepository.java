@@ -0,0 +1,28 @@
+package com.tejko.yamb.domain.repositories;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import com.tejko.yamb.domain.enums.GameStatus;
+import com.tejko.yamb.domain.models.GameSummary;
+
+public interface GameSummaryRepository extends Repository<GameSummary, String> {
+
+    @Query(value = "{}", fields = GameSummary.FIELDS)
+    Page<GameSummary> findAllBy(Pageable pageable);
+
+    @Query(value = "{ 'player_id': ?0 }", fields = GameSummary.FIELDS, sort = "{ 'updated_at': -1 }")
+    List<GameSummary> findAllByPlayerIdOrderByUpdatedAtDesc(UUID playerId);
+
+    @Query(value = "{ 'status': ?0 }", fields = GameSummary.FIELDS, sort = "{ 'total_sum': -1 }")
+    List<GameSummary> findAllByStatusOrderByTotalSumDesc(GameStatus status, Pageable pageable);
+
+    @Query(value = "{ 'status': ?0, 'progress': { '$gte': ?1 } }", fields = GameSummary.FIELDS, sort = "{ 'progress': -1 }")
+    List<GameSummary> findAllByStatusAndProgressGreaterThanEqualOrderByProgressDesc(GameStatus status, float progress, Pageable pageable);
+
+}
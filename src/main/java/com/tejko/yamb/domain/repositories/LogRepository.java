@@ -1,19 +1,39 @@
 package com.tejko.yamb.domain.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.tejko.yamb.domain.models.Log;
 
 public interface LogRepository extends JpaRepository<Log, Long> {
 
+    @EntityGraph(value = "log.player", type = EntityGraphType.LOAD)
     Optional<Log> findByExternalId(UUID externalId);
 
+    @EntityGraph(value = "log.player", type = EntityGraphType.LOAD)
+    Page<Log> findAll(Pageable pageable);
+
     List<Log> findAllByOrderByCreatedAtDesc();
 
+    @EntityGraph(value = "log.player", type = EntityGraphType.LOAD)
     List<Log> findAllByPlayerIdOrderByCreatedAtDesc(Long playerId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "log"))
+    @Query(value = "UPDATE log SET player_id = :parentId WHERE player_id IN :playerIds", nativeQuery = true)
+    int reassignPlayer(Long parentId, Collection<Long> playerIds);
     
 }
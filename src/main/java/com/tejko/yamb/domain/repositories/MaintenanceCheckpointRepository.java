@@ -0,0 +1,9 @@
+package com.tejko.yamb.domain.repositories;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.tejko.yamb.domain.models.MaintenanceCheckpoint;
+
+public interface MaintenanceCheckpointRepository extends MongoRepository<MaintenanceCheckpoint, String> {
+
+}
@@ -4,12 +4,15 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.tejko.yamb.domain.models.Notification;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
+    @EntityGraph(attributePaths = "player", type = EntityGraphType.LOAD)
     Optional<Notification> findByExternalId(UUID externalId);
 
     List<Notification> findAllByPlayerIdOrderByCreatedAtDesc(Long playerId);
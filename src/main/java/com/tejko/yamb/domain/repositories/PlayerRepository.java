@@ -1,23 +1,34 @@
 package com.tejko.yamb.domain.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import javax.persistence.QueryHint;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.tejko.yamb.domain.models.Player;
 
-public interface PlayerRepository extends JpaRepository<Player, Long> {
+public interface PlayerRepository extends JpaRepository<Player, Long>, PlayerRepositoryCustom {
 
-    Optional<Player> findByExternalId(UUID externalId);
+    @EntityGraph(value = "player.summary", type = EntityGraphType.LOAD)
+    Page<Player> findAll(Pageable pageable);
 
+    @EntityGraph(value = "player.summary", type = EntityGraphType.LOAD)
     List<Player> findAllByExternalIdIn(Set<UUID> externalIds);
 
+    @EntityGraph(value = "player.summary", type = EntityGraphType.LOAD)
     Page<Player> findAllByExternalIdIn(Set<UUID> externalIds, Pageable pageable);
 
     Optional<Player> findByUsername(String username);
@@ -26,8 +37,10 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
 
     Optional<Player> findByEmailVerificationToken(String token);
 
+    @Query("SELECT COUNT(p) > 0 FROM player p WHERE lower(p.username) = lower(:username)")
     boolean existsByUsernameIgnoreCase(String username);
 
+    @Query("SELECT COUNT(p) > 0 FROM player p WHERE lower(p.email) = lower(:email) AND p.emailVerified = :emailVerified")
     boolean existsByEmailIgnoreCaseAndEmailVerified(String email, boolean emailVerified);
     
     Optional<Player> findTop1ByOrderByCreatedAtDesc();
@@ -44,4 +57,36 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
 
     List<Player> findAllByExternalIdInOrderByUpdatedAtDesc(List<UUID> externalIds);
 
+    @Query("SELECT p FROM player p WHERE p.id > :afterId AND p.password IS NULL AND p.updatedAt < :cutoff AND p.scores IS EMPTY ORDER BY p.id")
+    List<Player> findStaleGuests(Long afterId, LocalDateTime cutoff, Pageable pageable);
+
+    @Query("SELECT p.externalId FROM player p WHERE p.externalId IN :externalIds")
+    Set<UUID> findExistingExternalIds(Collection<UUID> externalIds);
+
+    @Query("SELECT p.id FROM player p WHERE p.externalId IN :externalIds")
+    List<Long> findIdsByExternalIdIn(Collection<UUID> externalIds);
+
+    @Query("SELECT p.id FROM player p WHERE p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsAfter(Long afterId, Pageable pageable);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "player_role"))
+    @Query(value = "DELETE FROM player_role WHERE player_id IN :playerIds", nativeQuery = true)
+    int deleteRolesByPlayerIdIn(Collection<Long> playerIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "preferences"))
+    @Query(value = "DELETE FROM preferences WHERE id IN :playerIds", nativeQuery = true)
+    int deletePreferencesByPlayerIdIn(Collection<Long> playerIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "image"))
+    @Query(value = "DELETE FROM image WHERE player_id IN :playerIds", nativeQuery = true)
+    int deleteAvatarsByPlayerIdIn(Collection<Long> playerIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "player"))
+    @Query(value = "DELETE FROM player WHERE id IN :playerIds", nativeQuery = true)
+    int deleteAllByIdIn(Collection<Long> playerIds);
+
 }
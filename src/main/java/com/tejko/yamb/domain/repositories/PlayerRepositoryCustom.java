@@ -0,0 +1,12 @@
+package com.tejko.yamb.domain.repositories;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.tejko.yamb.domain.models.Player;
+
+public interface PlayerRepositoryCustom {
+
+    Optional<Player> findByExternalId(UUID externalId);
+
+}
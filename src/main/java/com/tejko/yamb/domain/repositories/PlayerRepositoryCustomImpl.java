@@ -0,0 +1,25 @@
+package com.tejko.yamb.domain.repositories;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tejko.yamb.domain.models.Player;
+
+public class PlayerRepositoryCustomImpl implements PlayerRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Player> findByExternalId(UUID externalId) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Player.class).loadOptional(externalId);
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.tejko.yamb.domain.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.tejko.yamb.domain.models.PlayerScoreStats;
+
+public interface PlayerScoreStatsRepository extends JpaRepository<PlayerScoreStats, Long> {
+
+    Optional<PlayerScoreStats> findTop1ByOrderByScoreCountDesc();
+
+    Optional<PlayerScoreStats> findTop1ByOrderByAverageScoreDesc();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "player_stats"))
+    @Query(value = "INSERT INTO player_stats (player_id, score_count, score_sum, average_score, high_score_id, high_score_value, last_activity) " +
+        "VALUES (:playerId, 1, :value, :value, :scoreId, :value, :createdAt) " +
+        "ON CONFLICT (player_id) DO UPDATE SET " +
+            "score_count = player_stats.score_count + 1, " +
+            "score_sum = player_stats.score_sum + EXCLUDED.score_sum, " +
+            "average_score = CAST(player_stats.score_sum + EXCLUDED.score_sum AS double precision) / (player_stats.score_count + 1), " +
+            "high_score_id = CASE WHEN player_stats.high_score_value IS NULL OR EXCLUDED.high_score_value > player_stats.high_score_value " +
+                "THEN EXCLUDED.high_score_id ELSE player_stats.high_score_id END, " +
+            "high_score_value = GREATEST(player_stats.high_score_value, EXCLUDED.high_score_value), " +
+            "last_activity = GREATEST(player_stats.last_activity, EXCLUDED.last_activity)", nativeQuery = true)
+    int recordScore(Long playerId, Long scoreId, int value, LocalDateTime createdAt);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "player_stats"))
+    @Query(value = "DELETE FROM player_stats WHERE player_id IN :playerIds", nativeQuery = true)
+    int deleteAllByPlayerIdIn(Collection<Long> playerIds);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "player_stats"))
+    @Query(value = "INSERT INTO player_stats (player_id, score_count, score_sum, average_score, high_score_id, high_score_value, last_activity) " +
+        "SELECT s.player_id, COUNT(*), SUM(s.value), AVG(s.value), " +
+            "(SELECT h.id FROM score h WHERE h.player_id = s.player_id ORDER BY h.value DESC, h.created_at ASC LIMIT 1), " +
+            "MAX(s.value), MAX(s.created_at) " +
+        "FROM score s WHERE s.player_id IN :playerIds GROUP BY s.player_id " +
+        "ON CONFLICT (player_id) DO NOTHING", nativeQuery = true)
+    int rebuildForPlayers(Collection<Long> playerIds);
+
+}
@@ -1,11 +1,16 @@
 package com.tejko.yamb.domain.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.tejko.yamb.domain.models.PlayerRelationship;
 import com.tejko.yamb.domain.models.PlayerRelationshipId;
@@ -22,4 +27,36 @@ public interface RelationshipRepository extends JpaRepository<PlayerRelationship
       "OR (pr.id.player.id = :relatedPlayerId AND pr.id.relatedPlayer.id = :playerId) ORDER BY updatedAt")
    Optional<PlayerRelationship> findByPlayerIds(Long playerId, Long relatedPlayerId);
 
+   @Modifying
+   @Query("DELETE FROM PlayerRelationship pr WHERE pr.id.player.id IN :playerIds OR pr.id.relatedPlayer.id IN :playerIds")
+   int deleteAllByPlayerIdIn(List<Long> playerIds);
+
+   @Modifying
+   @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "player_relationship"))
+   @Query(value = "DELETE FROM player_relationship " +
+      "WHERE (player_id IN :playerIds OR player_id = :parentId) AND (related_player_id IN :playerIds OR related_player_id = :parentId)", nativeQuery = true)
+   int deleteAllWithinMerge(Long parentId, Collection<Long> playerIds);
+
+   @Modifying
+   @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "player_relationship"))
+   @Query(value = "DELETE FROM player_relationship pr " +
+      "WHERE (pr.player_id IN :playerIds OR pr.related_player_id IN :playerIds) AND EXISTS (" +
+         "SELECT 1 FROM player_relationship o WHERE o.external_id <> pr.external_id " +
+         "AND (o.player_id IN :playerIds OR o.player_id = :parentId OR o.related_player_id IN :playerIds OR o.related_player_id = :parentId) " +
+         "AND (CASE WHEN o.player_id IN :playerIds OR o.player_id = :parentId THEN o.related_player_id ELSE o.player_id END) = " +
+            "(CASE WHEN pr.player_id IN :playerIds THEN pr.related_player_id ELSE pr.player_id END) " +
+         "AND (o.player_id = :parentId OR o.related_player_id = :parentId OR o.updated_at > pr.updated_at " +
+            "OR (o.updated_at = pr.updated_at AND o.external_id > pr.external_id)))", nativeQuery = true)
+   int deleteDuplicatesWithinMerge(Long parentId, Collection<Long> playerIds);
+
+   @Modifying
+   @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "player_relationship"))
+   @Query(value = "UPDATE player_relationship SET player_id = :parentId WHERE player_id IN :playerIds", nativeQuery = true)
+   int reassignPlayer(Long parentId, Collection<Long> playerIds);
+
+   @Modifying
+   @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "player_relationship"))
+   @Query(value = "UPDATE player_relationship SET related_player_id = :parentId WHERE related_player_id IN :playerIds", nativeQuery = true)
+   int reassignRelatedPlayer(Long parentId, Collection<Long> playerIds);
+
 }
@@ -1,19 +1,36 @@
 package com.tejko.yamb.domain.repositories;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.tejko.yamb.domain.models.Score;
 
 public interface ScoreRepository extends JpaRepository<Score, Long> {
     
+    @EntityGraph(value = "score.player", type = EntityGraphType.LOAD)
     Optional<Score> findByExternalId(UUID externalId);
 
+    @EntityGraph(value = "score.player", type = EntityGraphType.LOAD)
+    Optional<Score> findWithPlayerById(Long id);
+
+    @EntityGraph(value = "score.player", type = EntityGraphType.LOAD)
+    Page<Score> findAll(Pageable pageable);
+
+    @EntityGraph(value = "score.player", type = EntityGraphType.LOAD)
     List<Score> findAllByPlayerIdOrderByCreatedAtDesc(Long playerId);
 
     List<Score> findTop30ByCreatedAtBetweenOrderByValueDesc(LocalDateTime from, LocalDateTime to);
@@ -34,8 +51,31 @@ public interface ScoreRepository extends JpaRepository<Score, Long> {
     @Query("SELECT AVG(s.value) FROM score s WHERE s.player.id = :playerId")
     Double findAverageValueByPlayerId(Long playerId);
 
+    @Query("SELECT s.value, COUNT(s) FROM score s GROUP BY s.value")
+    List<Object[]> countByValue();
+
+    @Query("SELECT COALESCE(SUM(s.value), 0) FROM score s")
+    long findTotalValue();
+
+    @Query("SELECT s.value, COUNT(s) FROM score s WHERE s.player.id = :playerId GROUP BY s.value")
+    List<Object[]> countByValueForPlayerId(Long playerId);
+
+    @Query("SELECT s.id, s.player.id, s.value, s.createdAt FROM score s ORDER BY s.value DESC, s.createdAt ASC, s.id ASC")
+    List<Object[]> findTopEntries(Pageable pageable);
+
+    @Query("SELECT s.id, s.player.id, s.value, s.createdAt FROM score s WHERE s.createdAt >= :from ORDER BY s.value DESC, s.createdAt ASC, s.id ASC")
+    List<Object[]> findTopEntriesSince(LocalDateTime from, Pageable pageable);
+
+    @EntityGraph(value = "score.player", type = EntityGraphType.LOAD)
+    List<Score> findAllWithPlayerByIdIn(Collection<Long> ids);
+
     List<Score> findAllByOrderByCreatedAtDesc();
 
     void deleteByExternalId(UUID externalId);
 
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "score"))
+    @Query(value = "UPDATE score SET player_id = :parentId WHERE player_id IN :playerIds", nativeQuery = true)
+    int reassignPlayer(Long parentId, Collection<Long> playerIds);
+
 }
@@ -4,6 +4,10 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -12,10 +16,15 @@ import com.tejko.yamb.domain.models.Ticket;
 
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
 
+    @EntityGraph(value = "ticket.player", type = EntityGraphType.LOAD)
     Optional<Ticket> findByExternalId(UUID externalId);
 
+    @EntityGraph(value = "ticket.player", type = EntityGraphType.LOAD)
+    Page<Ticket> findAll(Pageable pageable);
+
     List<Ticket> findAllByOrderByUpdatedAtDesc();
 
+    @EntityGraph(value = "ticket.player", type = EntityGraphType.LOAD)
     List<Ticket> findAllByPlayerIdOrderByUpdatedAtDesc(Long playerId);
 
     List<Ticket> findAllByStatusOrderByUpdatedAtDesc(TicketStatus Status);
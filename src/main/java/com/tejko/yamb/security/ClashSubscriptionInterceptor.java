@@ -0,0 +1,46 @@
+package com.tejko.yamb.security;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import com.tejko.yamb.business.interfaces.ChatService;
+
+@Component
+public class ClashSubscriptionInterceptor implements ChannelInterceptor {
+
+    private static final String CLASH_TOPIC_PREFIX = "/topic/clashes/";
+
+    private final ChatService chatService;
+
+    @Autowired
+    public ClashSubscriptionInterceptor(ChatService chatService) {
+        this.chatService = chatService;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            return message;
+        }
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(CLASH_TOPIC_PREFIX)) {
+            return message;
+        }
+        String clashId = destination.substring(CLASH_TOPIC_PREFIX.length());
+        if (accessor.getUser() == null || !chatService.canAccess(clashId, UUID.fromString(accessor.getUser().getName()))) {
+            throw new AccessDeniedException("error.access_denied");
+        }
+        return message;
+    }
+
+}
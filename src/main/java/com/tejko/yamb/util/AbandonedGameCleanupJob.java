@@ -0,0 +1,70 @@
+package com.tejko.yamb.util;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.tejko.yamb.domain.enums.GameStatus;
+import com.tejko.yamb.domain.enums.GameType;
+
+@Component
+public class AbandonedGameCleanupJob implements MaintenanceJob {
+
+    public static final String NAME = "abandoned-games";
+
+    private static final String GAMES_COLLECTION = "games";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${maintenance.games.age-days:90}")
+    private int ageDays;
+
+    @Autowired
+    public AbandonedGameCleanupJob(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public MaintenanceChunk processChunk(String cursor, int batchSize) {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(ageDays);
+        Criteria abandoned = abandonedBefore(cutoff);
+        Query candidatesQuery = query(cursor != null ? abandoned.and("_id").gt(new ObjectId(cursor)) : abandoned)
+            .with(Sort.by("_id"))
+            .limit(batchSize);
+        candidatesQuery.fields().include("_id");
+        List<ObjectId> ids = mongoTemplate.find(candidatesQuery, Document.class, GAMES_COLLECTION).stream()
+            .map(document -> document.getObjectId("_id"))
+            .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return MaintenanceChunk.last(0);
+        }
+
+        Criteria stillAbandoned = abandonedBefore(cutoff).and("_id").in(ids);
+        int removed = (int) mongoTemplate.remove(query(stillAbandoned), GAMES_COLLECTION).getDeletedCount();
+        String nextCursor = ids.get(ids.size() - 1).toHexString();
+        return ids.size() < batchSize ? MaintenanceChunk.last(removed) : MaintenanceChunk.next(nextCursor, removed);
+    }
+
+    private Criteria abandonedBefore(LocalDateTime cutoff) {
+        return where("status").is(GameStatus.IN_PROGRESS.name()).and("type").is(GameType.NORMAL.name()).and("updated_at").lt(cutoff);
+    }
+
+}
@@ -1,24 +1,77 @@
 package com.tejko.yamb.util;
 
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.tejko.yamb.business.interfaces.ClashInboxService;
+import com.tejko.yamb.business.interfaces.LeaderboardService;
+import com.tejko.yamb.domain.enums.ClashStatus;
 import com.tejko.yamb.domain.models.Role;
+import com.tejko.yamb.domain.repositories.ClashInboxRepository;
+import com.tejko.yamb.domain.repositories.PlayerRepository;
+import com.tejko.yamb.domain.repositories.PlayerScoreStatsRepository;
 import com.tejko.yamb.domain.repositories.RoleRepository;
 
 @Component
 public class ApplicationStartup implements ApplicationListener<ApplicationReadyEvent> {
 
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationStartup.class);
+
+    private static final String CLASHES_COLLECTION = "clashes";
+
     private final RoleRepository roleRepo;
+    private final MongoTemplate mongoTemplate;
+    private final ClashInboxRepository clashInboxRepo;
+    private final ClashInboxService clashInboxService;
+    private final MongoIndexManager mongoIndexManager;
+    private final LeaderboardService leaderboardService;
+    private final PlayerScoreStatsRepository playerScoreStatsRepo;
+    private final PlayerRepository playerRepo;
+    private final ScorePartitionManager scorePartitionManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${mongo.indexes.verify:false}")
+    private boolean verifyIndexes;
+
+    @Value("${stats.backfill.batch-size:500}")
+    private int backfillBatchSize;
 
     @Autowired
-    public ApplicationStartup(RoleRepository roleRepo) {
+    public ApplicationStartup(RoleRepository roleRepo, MongoTemplate mongoTemplate, ClashInboxRepository clashInboxRepo, 
+                              ClashInboxService clashInboxService, MongoIndexManager mongoIndexManager, 
+                              LeaderboardService leaderboardService, PlayerScoreStatsRepository playerScoreStatsRepo, 
+                              PlayerRepository playerRepo, ScorePartitionManager scorePartitionManager, 
+                              TransactionTemplate transactionTemplate) {
         this.roleRepo = roleRepo;
+        this.mongoTemplate = mongoTemplate;
+        this.clashInboxRepo = clashInboxRepo;
+        this.clashInboxService = clashInboxService;
+        this.mongoIndexManager = mongoIndexManager;
+        this.leaderboardService = leaderboardService;
+        this.playerScoreStatsRepo = playerScoreStatsRepo;
+        this.playerRepo = playerRepo;
+        this.scorePartitionManager = scorePartitionManager;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Override
@@ -27,6 +80,44 @@ public class ApplicationStartup implements ApplicationListener<ApplicationReadyE
             List<Role> roles = generateRoles();
             roleRepo.saveAll(roles);
         }
+        scorePartitionManager.ensurePartitions();
+        mongoIndexManager.ensureIndexes();
+        if (verifyIndexes) {
+            mongoIndexManager.verifyIndexes();
+        }
+        markActiveClashes();
+        if (clashInboxRepo.count() == 0) {
+            clashInboxService.rebuild();
+        }
+        if (playerScoreStatsRepo.count() == 0) {
+            backfillPlayerScoreStats();
+        }
+        leaderboardService.reload();
+    }
+
+    private void backfillPlayerScoreStats() {
+        long afterId = 0;
+        int backfilled = 0;
+        List<Long> playerIds;
+        while (!(playerIds = playerRepo.findIdsAfter(afterId, PageRequest.of(0, backfillBatchSize))).isEmpty()) {
+            List<Long> batch = playerIds;
+            backfilled += transactionTemplate.execute(status -> playerScoreStatsRepo.rebuildForPlayers(batch));
+            afterId = playerIds.get(playerIds.size() - 1);
+        }
+        logger.info("Backfilled score stats for {} players", backfilled);
+    }
+
+    private void markActiveClashes() {
+        Query unmarked = query(where("status").in(Arrays.asList(ClashStatus.PENDING, ClashStatus.IN_PROGRESS)).and("active").exists(false))
+            .with(Sort.by(Sort.Direction.DESC, "updated_at"));
+        unmarked.fields().include("_id");
+        for (Document clash : mongoTemplate.find(unmarked, Document.class, CLASHES_COLLECTION)) {
+            try {
+                mongoTemplate.updateFirst(query(where("_id").is(clash.get("_id"))), Update.update("active", true), CLASHES_COLLECTION);
+            } catch (DuplicateKeyException e) {
+                logger.error("Clash {} duplicates another active clash with the same players, resolve it manually", clash.get("_id"));
+            }
+        }
     }
 
     public List<Role> generateRoles() {
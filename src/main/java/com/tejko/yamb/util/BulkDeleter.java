@@ -0,0 +1,58 @@
+package com.tejko.yamb.util;
+
+import java.util.Collections;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class BulkDeleter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkDeleter.class);
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${bulk-delete.batch-size:1000}")
+    private int batchSize;
+
+    @Autowired
+    public BulkDeleter(EntityManager entityManager, TransactionTemplate transactionTemplate) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public long deleteAll(String table) {
+        return deleteWhere(table, "TRUE", Collections.emptyMap());
+    }
+
+    public long deleteWhere(String table, String condition, Map<String, Object> parameters) {
+        String sql = "DELETE FROM " + table + " WHERE id IN (SELECT id FROM " + table + " WHERE " + condition + " LIMIT " + batchSize + ")";
+        long total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                Query query = entityManager.createNativeQuery(sql).setHint("org.hibernate.query.native.spaces", table);
+                parameters.forEach(query::setParameter);
+                return query.executeUpdate();
+            });
+            total += deleted;
+            if (deleted > 0) {
+                logger.debug("Deleted {} rows from {} ({} so far)", deleted, table, total);
+            }
+        } while (deleted == batchSize);
+        if (total > 0) {
+            logger.info("Deleted {} rows from {}", total, table);
+        }
+        return total;
+    }
+
+}
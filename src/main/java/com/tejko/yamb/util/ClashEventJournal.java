@@ -0,0 +1,143 @@
+package com.tejko.yamb.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.ClashEvent;
+
+@Component
+public class ClashEventJournal {
+
+    private final Map<UUID, Journal> journals;
+    private final Map<UUID, UUID> clashIdsByGameId = new ConcurrentHashMap<>();
+    private final int journalSize;
+
+    @Autowired
+    public ClashEventJournal(@Value("${clash.journal.size:50}") int journalSize,
+                             @Value("${clash.journal.max-clashes:1000}") int maxClashes) {
+        this.journalSize = journalSize;
+        this.journals = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Journal> eldest) {
+                if (size() <= maxClashes) {
+                    return false;
+                }
+                eldest.getValue().gameIds.forEach(clashIdsByGameId::remove);
+                return true;
+            }
+
+        });
+    }
+
+    public void track(Clash clash) {
+        if (!clash.isActive()) {
+            evict(clash);
+            return;
+        }
+        Set<UUID> playerIds = new HashSet<>();
+        Set<UUID> gameIds = new HashSet<>();
+        for (Clash.ClashPlayer player : clash.getPlayers()) {
+            playerIds.add(player.getId());
+            if (player.getGameId() != null) {
+                gameIds.add(player.getGameId());
+                clashIdsByGameId.put(player.getGameId(), clash.getExternalId());
+            }
+        }
+        journals.compute(clash.getExternalId(), (id, journal) -> {
+            Journal tracked = journal != null ? journal : new Journal();
+            tracked.clash = clash;
+            tracked.playerIds = playerIds;
+            tracked.gameIds = gameIds;
+            tracked.gameEvents.keySet().retainAll(gameIds);
+            return tracked;
+        });
+    }
+
+    public Optional<Clash> getClash(UUID clashExternalId) {
+        Journal journal = journals.get(clashExternalId);
+        return journal != null ? Optional.of(journal.clash) : Optional.empty();
+    }
+
+    public void record(UUID clashExternalId, ClashEvent event) {
+        Journal journal = journals.get(clashExternalId);
+        if (journal == null || !journal.playerIds.contains(event.getPlayerId())) {
+            return;
+        }
+        synchronized (journal.events) {
+            if (journal.events.size() == journalSize) {
+                journal.events.removeFirst();
+            }
+            journal.events.addLast(event);
+        }
+    }
+
+    public void recordGameEvent(UUID gameExternalId, ClashEvent event) {
+        UUID clashExternalId = clashIdsByGameId.get(gameExternalId);
+        if (clashExternalId != null) {
+            record(clashExternalId, event);
+            Journal journal = journals.get(clashExternalId);
+            if (journal != null && journal.gameIds.contains(gameExternalId)) {
+                journal.gameEvents.put(gameExternalId, event);
+            }
+        }
+    }
+
+    public void seedGameEvent(UUID clashExternalId, ClashEvent event) {
+        Journal journal = journals.get(clashExternalId);
+        if (journal != null && journal.gameIds.contains(event.getGameId())) {
+            journal.gameEvents.putIfAbsent(event.getGameId(), event);
+        }
+    }
+
+    public Map<UUID, ClashEvent> getGameEvents(UUID clashExternalId) {
+        Journal journal = journals.get(clashExternalId);
+        return journal != null ? new HashMap<>(journal.gameEvents) : new HashMap<>();
+    }
+
+    public List<ClashEvent> getEvents(UUID clashExternalId) {
+        Journal journal = journals.get(clashExternalId);
+        if (journal == null) {
+            return Collections.emptyList();
+        }
+        synchronized (journal.events) {
+            return new ArrayList<>(journal.events);
+        }
+    }
+
+    public void evict(Clash clash) {
+        journals.remove(clash.getExternalId());
+        for (Clash.ClashPlayer player : clash.getPlayers()) {
+            if (player.getGameId() != null) {
+                clashIdsByGameId.remove(player.getGameId());
+            }
+        }
+    }
+
+    private static class Journal {
+
+        private final Deque<ClashEvent> events = new ArrayDeque<>();
+        private final Map<UUID, ClashEvent> gameEvents = new ConcurrentHashMap<>();
+        private volatile Clash clash;
+        private volatile Set<UUID> playerIds = Collections.emptySet();
+        private volatile Set<UUID> gameIds = Collections.emptySet();
+
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.tejko.yamb.util;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tejko.yamb.domain.models.Clash;
+
+/**
+ * Node-local cache of in-progress clashes by game id. It is only refreshed from
+ * clash updates published on this node, so with several nodes an entry can be
+ * stale for up to the configured TTL.
+ */
+@Component
+public class ClashTurnCache {
+
+    private final Map<UUID, CachedClash> clashesByGameId;
+    private final long ttlNanos;
+
+    @Autowired
+    public ClashTurnCache(@Value("${clash.turn-cache.max-games:2000}") int maxGames,
+                          @Value("${clash.turn-cache.ttl:10m}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+        this.clashesByGameId = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedClash> eldest) {
+                return size() > maxGames;
+            }
+
+        });
+    }
+
+    public Optional<Clash> getByGameId(UUID gameExternalId) {
+        CachedClash cachedClash = clashesByGameId.get(gameExternalId);
+        if (cachedClash == null) {
+            return Optional.empty();
+        }
+        if (System.nanoTime() - cachedClash.cachedAt >= ttlNanos) {
+            clashesByGameId.remove(gameExternalId, cachedClash);
+            return Optional.empty();
+        }
+        return Optional.of(cachedClash.clash);
+    }
+
+    public void put(Clash clash) {
+        CachedClash cachedClash = new CachedClash(clash, System.nanoTime());
+        for (Clash.ClashPlayer player : clash.getPlayers()) {
+            if (player.getGameId() != null) {
+                clashesByGameId.put(player.getGameId(), cachedClash);
+            }
+        }
+    }
+
+    public void evict(Clash clash) {
+        for (Clash.ClashPlayer player : clash.getPlayers()) {
+            if (player.getGameId() != null) {
+                clashesByGameId.remove(player.getGameId());
+            }
+        }
+    }
+
+    public void clear() {
+        clashesByGameId.clear();
+    }
+
+    private static class CachedClash {
+
+        private final Clash clash;
+        private final long cachedAt;
+
+        private CachedClash(Clash clash, long cachedAt) {
+            this.clash = clash;
+            this.cachedAt = cachedAt;
+        }
+
+    }
+
+}
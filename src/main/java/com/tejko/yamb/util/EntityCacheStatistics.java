@@ -0,0 +1,48 @@
+package com.tejko.yamb.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EntityCacheStatistics {
+
+    private static final Map<String, String> REGIONS = new LinkedHashMap<>();
+
+    static {
+        REGIONS.put("player", "playerCache");
+        REGIONS.put("player-natural-id", "playerNaturalIdCache");
+        REGIONS.put("player-roles", "playerRolesCache");
+        REGIONS.put("preferences", "preferencesCache");
+        REGIONS.put("role", "roleCache");
+    }
+
+    private final Statistics statistics;
+
+    @Autowired
+    public EntityCacheStatistics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public Map<String, Number> getMetrics() {
+        Map<String, Number> metrics = new LinkedHashMap<>();
+        REGIONS.forEach((region, name) -> {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics != null) {
+                metrics.put(name + "Hits", regionStatistics.getHitCount());
+                metrics.put(name + "Misses", regionStatistics.getMissCount());
+                metrics.put(name + "Size", regionStatistics.getElementCountInMemory());
+            }
+        });
+        metrics.put("preparedStatements", statistics.getPrepareStatementCount());
+        return metrics;
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.tejko.yamb.util;
+
+import java.util.Arrays;
+
+public class FenwickTree {
+
+    private final long[] tree;
+
+    public FenwickTree(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        this.tree = new long[size + 1];
+    }
+
+    public int size() {
+        return tree.length - 1;
+    }
+
+    public void add(int index, long delta) {
+        checkIndex(index);
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    public long prefixSum(int index) {
+        if (index < 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = Math.min(index, size() - 1) + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    public long rangeSum(int from, int to) {
+        if (to < from) {
+            return 0;
+        }
+        return prefixSum(to) - prefixSum(from - 1);
+    }
+
+    public long total() {
+        return prefixSum(size() - 1);
+    }
+
+    public void clear() {
+        Arrays.fill(tree, 0);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.tejko.yamb.util;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.tejko.yamb.domain.enums.GameStatus;
+import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.domain.models.GameSummary;
+
+@Component
+public class GameArchiver {
+
+    public static final String ARCHIVE_COLLECTION = "games_archive";
+
+    private static final Logger logger = LoggerFactory.getLogger(GameArchiver.class);
+
+    private static final List<GameStatus> ARCHIVABLE_STATUSES = Arrays.asList(GameStatus.COMPLETED, GameStatus.ARCHIVED);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${game.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${game.archive.age-days:30}")
+    private int ageDays;
+
+    @Value("${game.archive.batch-size:200}")
+    private int batchSize;
+
+    @Value("${game.archive.compressor:zstd}")
+    private String compressor;
+
+    private volatile boolean archiveCreated;
+
+    @Autowired
+    public GameArchiver(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public Optional<Game> findByExternalId(UUID externalId) {
+        Document document = getArchive().find(Filters.eq("external_id", externalId)).first();
+        return Optional.ofNullable(document).map(archived -> mongoTemplate.getConverter().read(Game.class, archived));
+    }
+
+    public boolean existsByExternalId(UUID externalId) {
+        return getArchive().countDocuments(Filters.eq("external_id", externalId)) > 0;
+    }
+
+    public List<GameSummary> findSummariesByPlayerId(UUID playerId) {
+        getArchive();
+        Query query = query(where("player_id").is(playerId)).with(Sort.by(Sort.Direction.DESC, "updated_at"));
+        query.fields().include("external_id", "created_at", "updated_at", "player_id", "status", "type", "total_sum", "progress");
+        return mongoTemplate.find(query, GameSummary.class, ARCHIVE_COLLECTION);
+    }
+
+    public void deleteByExternalId(UUID externalId) {
+        getArchive().deleteOne(Filters.eq("external_id", externalId));
+    }
+
+    public long deleteAll(Query filter) {
+        getArchive();
+        return mongoTemplate.remove(filter, ARCHIVE_COLLECTION).getDeletedCount();
+    }
+
+    @Scheduled(initialDelayString = "${game.archive.interval:10000}", fixedDelayString = "${game.archive.interval:10000}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(ageDays);
+        List<Game> games = mongoTemplate.find(query(where("status").in(ARCHIVABLE_STATUSES)
+            .and("updated_at").lt(cutoff)).with(Sort.by("updated_at")).limit(batchSize), Game.class);
+        if (games.isEmpty()) {
+            return;
+        }
+
+        List<ReplaceOneModel<Document>> replacements = new ArrayList<>();
+        List<Object> ids = new ArrayList<>();
+        for (Game game : games) {
+            Document document = toArchiveDocument(game);
+            replacements.add(new ReplaceOneModel<>(Filters.eq("_id", document.get("_id")), document, new ReplaceOptions().upsert(true)));
+            ids.add(document.get("_id"));
+        }
+        getArchive().bulkWrite(replacements);
+
+        MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Game.class));
+        long removed = collection.deleteMany(Filters.and(Filters.in("_id", ids), Filters.in("status", toNames(ARCHIVABLE_STATUSES)), 
+            Filters.lt("updated_at", toDate(cutoff)))).getDeletedCount();
+        if (removed < ids.size()) {
+            List<Object> retainedIds = new ArrayList<>();
+            for (Document retained : collection.find(Filters.in("_id", ids)).projection(Projections.include("_id"))) {
+                retainedIds.add(retained.get("_id"));
+            }
+            getArchive().deleteMany(Filters.in("_id", retainedIds));
+        }
+        logger.info("Archived {} games", removed);
+    }
+
+    private Document toArchiveDocument(Game game) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(game, document);
+        document.put("archived_at", new Date());
+        return document;
+    }
+
+    private List<String> toNames(List<GameStatus> statuses) {
+        List<String> names = new ArrayList<>();
+        for (GameStatus status : statuses) {
+            names.add(status.name());
+        }
+        return names;
+    }
+
+    private Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private MongoCollection<Document> getArchive() {
+        if (!archiveCreated) {
+            if (!mongoTemplate.collectionExists(ARCHIVE_COLLECTION)) {
+                try {
+                    mongoTemplate.getDb().createCollection(ARCHIVE_COLLECTION, new CreateCollectionOptions()
+                        .storageEngineOptions(new Document("wiredTiger", new Document("configString", "block_compressor=" + compressor))));
+                } catch (RuntimeException e) {
+                    logger.warn("Could not create {}: {}", ARCHIVE_COLLECTION, e.getMessage());
+                }
+            }
+            archiveCreated = true;
+        }
+        return mongoTemplate.getCollection(ARCHIVE_COLLECTION);
+    }
+
+}
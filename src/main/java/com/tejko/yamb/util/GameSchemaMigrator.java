@@ -0,0 +1,84 @@
+package com.tejko.yamb.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.tejko.yamb.domain.models.Game;
+
+@Component
+public class GameSchemaMigrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameSchemaMigrator.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${game.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${game.migration.batch-size:200}")
+    private int batchSize;
+
+    private volatile boolean completed;
+    private volatile Object lastId;
+    private volatile long failed;
+
+    @Autowired
+    public GameSchemaMigrator(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Scheduled(initialDelayString = "${game.migration.interval:5000}", fixedDelayString = "${game.migration.interval:5000}")
+    public void migrate() {
+        if (!enabled || completed) {
+            return;
+        }
+        MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Game.class));
+        Bson filter = lastId == null
+            ? Filters.exists("schema_version", false)
+            : Filters.and(Filters.gt("_id", lastId), Filters.exists("schema_version", false));
+        List<UpdateOneModel<Document>> updates = new ArrayList<>();
+        Object batchLastId = null;
+        int batchFailed = 0;
+        for (Document legacyDocument : collection.find(filter).sort(Sorts.ascending("_id")).limit(batchSize)) {
+            batchLastId = legacyDocument.get("_id");
+            Document document = new Document();
+            try {
+                mongoTemplate.getConverter().write(mongoTemplate.getConverter().read(Game.class, legacyDocument), document);
+            } catch (RuntimeException e) {
+                batchFailed++;
+                logger.error("Could not migrate game {} to the current schema", legacyDocument.get("_id"), e);
+                continue;
+            }
+            document.remove("_id");
+            updates.add(new UpdateOneModel<>(
+                Filters.and(Filters.eq("_id", legacyDocument.get("_id")), Filters.exists("schema_version", false)), 
+                new Document("$set", document)
+            ));
+        }
+        if (batchLastId == null) {
+            completed = true;
+            logger.info("Game schema migration completed, {} games could not be migrated", failed);
+            return;
+        }
+        if (!updates.isEmpty()) {
+            collection.bulkWrite(updates);
+        }
+        lastId = batchLastId;
+        failed += batchFailed;
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.tejko.yamb.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tejko.yamb.domain.constants.GameConstants;
+import com.tejko.yamb.domain.enums.BoxType;
+import com.tejko.yamb.domain.enums.ColumnType;
+import com.tejko.yamb.domain.models.Game.Box;
+import com.tejko.yamb.domain.models.Game.Column;
+import com.tejko.yamb.domain.models.Game.Dice;
+import com.tejko.yamb.domain.models.Game.Sheet;
+
+public class GameSheetCodec {
+
+    public static final int SCHEMA_VERSION = 2;
+    public static final byte EMPTY_BOX = -1;
+
+    private static final int BOX_COUNT = BoxType.values().length;
+    private static final int DICE_BITS = 3;
+    private static final int DICE_MASK = (1 << DICE_BITS) - 1;
+
+    private GameSheetCodec() {}
+
+    public static byte[] packSheet(Sheet sheet) {
+        byte[] values = new byte[ColumnType.values().length * BOX_COUNT];
+        for (Column column : sheet.getColumns()) {
+            for (Box box : column.getBoxes()) {
+                int index = column.getType().ordinal() * BOX_COUNT + box.getType().ordinal();
+                values[index] = box.getValue() != null ? box.getValue().byteValue() : EMPTY_BOX;
+            }
+        }
+        return values;
+    }
+
+    public static Sheet unpackSheet(byte[] values) {
+        Sheet sheet = Sheet.getInstance();
+        for (Column column : sheet.getColumns()) {
+            for (Box box : column.getBoxes()) {
+                byte value = values[column.getType().ordinal() * BOX_COUNT + box.getType().ordinal()];
+                if (value != EMPTY_BOX) {
+                    box.fill(value);
+                }
+            }
+        }
+        return sheet;
+    }
+
+    public static int packDices(List<Dice> dices) {
+        int packed = 0;
+        for (Dice dice : dices) {
+            packed |= (dice.getValue() & DICE_MASK) << (dice.getIndex() * DICE_BITS);
+        }
+        return packed;
+    }
+
+    public static List<Dice> unpackDices(int packed) {
+        List<Dice> dices = new ArrayList<>();
+        for (int i = 0; i < GameConstants.DICE_LIMIT; i++) {
+            dices.add(Dice.getInstance(i, (packed >> (i * DICE_BITS)) & DICE_MASK));
+        }
+        return dices;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.tejko.yamb.util;
+
+public class MaintenanceChunk {
+
+    private final String cursor;
+    private final int processed;
+
+    private MaintenanceChunk(String cursor, int processed) {
+        this.cursor = cursor;
+        this.processed = processed;
+    }
+
+    public static MaintenanceChunk next(String cursor, int processed) {
+        return new MaintenanceChunk(cursor, processed);
+    }
+
+    public static MaintenanceChunk last(int processed) {
+        return new MaintenanceChunk(null, processed);
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public int getProcessed() {
+        return processed;
+    }
+
+    public boolean isLast() {
+        return cursor == null;
+    }
+
+}
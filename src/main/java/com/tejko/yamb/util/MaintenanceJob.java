@@ -0,0 +1,9 @@
+package com.tejko.yamb.util;
+
+public interface MaintenanceJob {
+
+    String getName();
+
+    MaintenanceChunk processChunk(String cursor, int batchSize);
+
+}
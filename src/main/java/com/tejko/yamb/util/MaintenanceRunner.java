@@ -0,0 +1,99 @@
+package com.tejko.yamb.util;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.tejko.yamb.domain.models.MaintenanceCheckpoint;
+import com.tejko.yamb.domain.repositories.MaintenanceCheckpointRepository;
+
+@Component
+public class MaintenanceRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaintenanceRunner.class);
+
+    private final List<MaintenanceJob> jobs;
+    private final MaintenanceCheckpointRepository checkpointRepo;
+
+    @Value("${maintenance.enabled:true}")
+    private boolean enabled;
+
+    @Value("${maintenance.batch-size:200}")
+    private int batchSize;
+
+    @Value("${maintenance.max-chunks:50}")
+    private int maxChunks;
+
+    @Value("${maintenance.chunk-delay:100}")
+    private long chunkDelay;
+
+    @Autowired
+    public MaintenanceRunner(List<MaintenanceJob> jobs, MaintenanceCheckpointRepository checkpointRepo) {
+        this.jobs = jobs;
+        this.checkpointRepo = checkpointRepo;
+    }
+
+    @Scheduled(initialDelayString = "${maintenance.interval:3600000}", fixedDelayString = "${maintenance.interval:3600000}")
+    public void runAll() {
+        if (!enabled) {
+            return;
+        }
+        for (MaintenanceJob job : jobs) {
+            run(job, maxChunks);
+        }
+    }
+
+    public long runToCompletion(String jobName) {
+        MaintenanceJob job = jobs.stream()
+            .filter(candidate -> candidate.getName().equals(jobName))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown maintenance job: " + jobName));
+        return run(job, Integer.MAX_VALUE);
+    }
+
+    private synchronized long run(MaintenanceJob job, int chunkLimit) {
+        MaintenanceCheckpoint checkpoint = checkpointRepo.findById(job.getName())
+            .orElseGet(() -> MaintenanceCheckpoint.getInstance(job.getName()));
+        long processed = 0;
+        for (int chunkCount = 0; chunkCount < chunkLimit; chunkCount++) {
+            MaintenanceChunk chunk;
+            try {
+                chunk = job.processChunk(checkpoint.getCursor(), batchSize);
+            } catch (RuntimeException e) {
+                logger.warn("Maintenance job {} failed at cursor {}: {}", job.getName(), checkpoint.getCursor(), e.getMessage());
+                break;
+            }
+            processed += chunk.getProcessed();
+            if (chunk.isLast()) {
+                checkpoint.complete();
+                checkpointRepo.save(checkpoint);
+                break;
+            }
+            checkpoint.advance(chunk.getCursor(), chunk.getProcessed());
+            checkpointRepo.save(checkpoint);
+            if (!pause()) {
+                break;
+            }
+        }
+        if (processed > 0) {
+            logger.info("Maintenance job {} processed {} records", job.getName(), processed);
+        }
+        return processed;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(chunkDelay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,245 @@
+package com.tejko.yamb.util;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.stereotype.Component;
+
+import com.tejko.yamb.domain.enums.ClashStatus;
+import com.tejko.yamb.domain.enums.ClashType;
+import com.tejko.yamb.domain.enums.GameStatus;
+import com.tejko.yamb.domain.enums.GameType;
+import com.tejko.yamb.domain.models.ChatMessage;
+
+@Component
+public class MongoIndexManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexManager.class);
+
+    private static final String GAMES = "games";
+    private static final String CLASHES = "clashes";
+    private static final String CLASH_INBOX = "clash_inbox";
+    private static final String CHAT_MESSAGES = "chat_messages";
+    private static final String GAMES_ARCHIVE = GameArchiver.ARCHIVE_COLLECTION;
+
+    private static final Map<String, List<String>> OBSOLETE_INDEXES = Map.of(
+        CLASHES, Arrays.asList("player_hash_1"),
+        CLASH_INBOX, Arrays.asList("idx_clash_inbox_player_id_updated_at"),
+        CHAT_MESSAGES, Arrays.asList("idx_chat_messages_channel_created_at")
+    );
+
+    private final MongoTemplate mongoTemplate;
+    private final QueryMapper queryMapper;
+
+    @Autowired
+    public MongoIndexManager(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+    }
+
+    public Map<String, List<IndexDefinition>> getIndexDefinitions() {
+        Map<String, List<IndexDefinition>> indexDefinitions = new LinkedHashMap<>();
+
+        indexDefinitions.put(GAMES, Arrays.asList(
+            new Index().on("external_id", Sort.Direction.ASC),
+            new Index().on("player_id", Sort.Direction.ASC).on("type", Sort.Direction.ASC).on("status", Sort.Direction.ASC)
+                .named("idx_games_player_id_type_status"),
+            new Index().on("player_id", Sort.Direction.ASC).on("updated_at", Sort.Direction.DESC)
+                .named("idx_games_player_id_updated_at"),
+            new Index().on("updated_at", Sort.Direction.DESC).named("idx_games_updated_at"),
+            new Index().on("status", Sort.Direction.ASC).on("total_sum", Sort.Direction.DESC)
+                .named("idx_games_status_total_sum"),
+            new Index().on("status", Sort.Direction.ASC).on("progress", Sort.Direction.DESC)
+                .named("idx_games_status_progress"),
+            new Index().on("total_sum", Sort.Direction.DESC).named("idx_games_total_sum")
+        ));
+
+        indexDefinitions.put(CLASHES, Arrays.asList(
+            new Index().on("external_id", Sort.Direction.ASC),
+            new Index().on("player_hash", Sort.Direction.ASC).on("type", Sort.Direction.ASC)
+                .named("idx_clashes_active_player_hash_type").unique()
+                .partial(PartialIndexFilter.of(where("active").is(true))),
+            new Index().on("players._id", Sort.Direction.ASC).on("updated_at", Sort.Direction.DESC)
+                .named("idx_clashes_players_id_updated_at"),
+            new Index().on("players.gameId", Sort.Direction.ASC),
+            new Index().on("updated_at", Sort.Direction.DESC).named("idx_clashes_updated_at")
+        ));
+
+        indexDefinitions.put(GAMES_ARCHIVE, Arrays.asList(
+            new Index().on("external_id", Sort.Direction.ASC).unique(),
+            new Index().on("player_id", Sort.Direction.ASC).on("updated_at", Sort.Direction.DESC)
+                .named("idx_games_archive_player_id_updated_at")
+        ));
+
+        indexDefinitions.put(CLASH_INBOX, Arrays.asList(
+            new Index().on("player_id", Sort.Direction.ASC).on("updated_at", Sort.Direction.DESC).on("_id", Sort.Direction.DESC)
+                .named("idx_clash_inbox_player_id_updated_at_id"),
+            new Index().on("clash_id", Sort.Direction.ASC)
+        ));
+
+        indexDefinitions.put(CHAT_MESSAGES, Arrays.asList(
+            new Index().on("channel", Sort.Direction.ASC).on("created_at", Sort.Direction.DESC).on("_id", Sort.Direction.DESC)
+                .named("idx_chat_messages_channel_created_at_id")
+        ));
+
+        return indexDefinitions;
+    }
+
+    public Map<String, Document> getHotQueries() {
+        Map<String, Document> hotQueries = new LinkedHashMap<>();
+        UUID playerId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        hotQueries.put("GameRepository.findByExternalId", find(GAMES, new Document("external_id", UUID.randomUUID()), null));
+        hotQueries.put("GameRepository.findByPlayerIdAndTypeAndStatusIn", find(GAMES, new Document("player_id", playerId).append("type", GameType.NORMAL)
+            .append("status", new Document("$in", Arrays.asList(GameStatus.IN_PROGRESS, GameStatus.COMPLETED))), null));
+        hotQueries.put("GameRepository.findAllByPlayerIdOrderByUpdatedAtDesc", find(GAMES, new Document("player_id", playerId), 
+            new Document("updated_at", -1)));
+        hotQueries.put("GameSummaryRepository.findAllByStatusOrderByTotalSumDesc", find(GAMES, new Document("status", GameStatus.COMPLETED), 
+            new Document("total_sum", -1)));
+        hotQueries.put("GameSummaryRepository.findAllByStatusAndProgressGreaterThanEqualOrderByProgressDesc", find(GAMES, 
+            new Document("status", GameStatus.IN_PROGRESS).append("progress", new Document("$gte", 0f)), new Document("progress", -1)));
+
+        hotQueries.put("ClashRepository.findByExternalId", find(CLASHES, new Document("external_id", UUID.randomUUID()), null));
+        hotQueries.put("ClashRepository.findByPlayerIdAndStatusAndType", find(CLASHES, new Document("players._id", playerId)
+            .append("status", ClashStatus.IN_PROGRESS).append("type", ClashType.LIVE), null));
+        hotQueries.put("ClashRepository.findAllByPlayerIdOrderByUpdatedAtDesc", find(CLASHES, new Document("players._id", playerId), 
+            new Document("updated_at", -1)));
+        hotQueries.put("ClashRepository.findActiveByPlayerHashAndType", find(CLASHES, new Document("player_hash", "")
+            .append("type", ClashType.LIVE).append("active", true), null));
+        hotQueries.put("ClashRepository.findByGameId", find(CLASHES, new Document("players.gameId", UUID.randomUUID()), null));
+
+        hotQueries.put("GameArchiver.findSummariesByPlayerId", find(GAMES_ARCHIVE, new Document("player_id", playerId), 
+            new Document("updated_at", -1)));
+
+        hotQueries.put("ClashInboxRepository.findAllByPlayerIdBefore", find(CLASH_INBOX, new Document("player_id", playerId)
+            .append("$or", Arrays.asList(new Document("updated_at", new Document("$lt", now)), 
+                new Document("updated_at", now).append("_id", new Document("$lt", new ObjectId())))),
+            new Document("updated_at", -1).append("_id", -1)));
+        hotQueries.put("ClashInboxRepository.deleteAllByClashIdIn", find(CLASH_INBOX, 
+            new Document("clash_id", new Document("$in", Arrays.asList(UUID.randomUUID()))), null));
+
+        hotQueries.put("ChatMessageRepository.findAllByChannelBefore", find(CHAT_MESSAGES, new Document("channel", ChatMessage.PUBLIC_CHANNEL)
+            .append("$or", Arrays.asList(new Document("created_at", new Document("$lt", now)), 
+                new Document("created_at", now).append("_id", new Document("$lt", new ObjectId())))),
+            new Document("created_at", -1).append("_id", -1)));
+
+        return hotQueries;
+    }
+
+    public void ensureIndexes() {
+        for (Map.Entry<String, List<String>> entry : OBSOLETE_INDEXES.entrySet()) {
+            try {
+                for (IndexInfo indexInfo : mongoTemplate.indexOps(entry.getKey()).getIndexInfo()) {
+                    if (entry.getValue().contains(indexInfo.getName())) {
+                        mongoTemplate.indexOps(entry.getKey()).dropIndex(indexInfo.getName());
+                        logger.info("Dropped obsolete index {} on {}", indexInfo.getName(), entry.getKey());
+                    }
+                }
+            } catch (DataAccessException e) {
+                logger.error("Could not drop obsolete indexes on {}", entry.getKey(), e);
+            }
+        }
+        for (Map.Entry<String, List<IndexDefinition>> entry : getIndexDefinitions().entrySet()) {
+            for (IndexDefinition indexDefinition : entry.getValue()) {
+                try {
+                    mongoTemplate.indexOps(entry.getKey()).ensureIndex(indexDefinition);
+                } catch (DataAccessException e) {
+                    logger.error("Could not ensure index {} on {}", indexDefinition.getIndexKeys(), entry.getKey(), e);
+                }
+            }
+        }
+    }
+
+    public List<String> findMissingIndexes() {
+        List<String> missingIndexes = new ArrayList<>();
+        for (Map.Entry<String, List<IndexDefinition>> entry : getIndexDefinitions().entrySet()) {
+            List<Document> existingKeys = new ArrayList<>();
+            for (Document index : mongoTemplate.getCollection(entry.getKey()).listIndexes()) {
+                existingKeys.add(index.get("key", Document.class));
+            }
+            for (IndexDefinition indexDefinition : entry.getValue()) {
+                if (!existingKeys.contains(indexDefinition.getIndexKeys())) {
+                    missingIndexes.add(entry.getKey() + " " + indexDefinition.getIndexKeys().toJson());
+                }
+            }
+        }
+        return missingIndexes;
+    }
+
+    public List<String> findCollectionScans() {
+        List<String> collectionScans = new ArrayList<>();
+        for (Map.Entry<String, Document> entry : getHotQueries().entrySet()) {
+            Document explain = mongoTemplate.getDb().runCommand(new Document("explain", entry.getValue()).append("verbosity", "queryPlanner"));
+            Document queryPlanner = explain.get("queryPlanner", Document.class);
+            if (queryPlanner != null && containsStage(queryPlanner.get("winningPlan", Document.class), "COLLSCAN")) {
+                collectionScans.add(entry.getKey());
+            }
+        }
+        return collectionScans;
+    }
+
+    public void verifyIndexes() {
+        try {
+            List<String> missingIndexes = findMissingIndexes();
+            if (!missingIndexes.isEmpty()) {
+                logger.warn("Declared Mongo indexes are missing: {}", missingIndexes);
+            }
+            List<String> collectionScans = findCollectionScans();
+            if (!collectionScans.isEmpty()) {
+                logger.warn("Hot queries not covered by an index: {}", collectionScans);
+            }
+        } catch (DataAccessException e) {
+            logger.error("Could not verify Mongo indexes", e);
+        }
+    }
+
+    private Document find(String collection, Document filter, Document sort) {
+        Document find = new Document("find", collection).append("filter", queryMapper.getMappedObject(filter, Optional.empty()));
+        if (sort != null) {
+            find.append("sort", sort);
+        }
+        return find;
+    }
+
+    private boolean containsStage(Document plan, String stage) {
+        if (plan == null) {
+            return false;
+        } else if (stage.equals(plan.getString("stage"))) {
+            return true;
+        } else if (containsStage(plan.get("inputStage", Document.class), stage)) {
+            return true;
+        }
+        List<Document> inputStages = plan.getList("inputStages", Document.class);
+        if (inputStages != null) {
+            for (Document inputStage : inputStages) {
+                if (containsStage(inputStage, stage)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
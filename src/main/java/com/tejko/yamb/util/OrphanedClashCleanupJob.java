@@ -0,0 +1,94 @@
+package com.tejko.yamb.util;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.ClashInboxEntry;
+import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.domain.repositories.PlayerRepository;
+
+@Component
+public class OrphanedClashCleanupJob implements MaintenanceJob {
+
+    public static final String NAME = "orphaned-clashes";
+
+    private final MongoTemplate mongoTemplate;
+    private final PlayerRepository playerRepo;
+    private final ClashEventJournal clashEventJournal;
+    private final ClashTurnCache clashTurnCache;
+
+    @Autowired
+    public OrphanedClashCleanupJob(MongoTemplate mongoTemplate, PlayerRepository playerRepo, ClashEventJournal clashEventJournal, 
+                                   ClashTurnCache clashTurnCache) {
+        this.mongoTemplate = mongoTemplate;
+        this.playerRepo = playerRepo;
+        this.clashEventJournal = clashEventJournal;
+        this.clashTurnCache = clashTurnCache;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public MaintenanceChunk processChunk(String cursor, int batchSize) {
+        Query batchQuery = (cursor != null ? query(where("id").gt(new ObjectId(cursor))) : new Query())
+            .with(Sort.by("id"))
+            .limit(batchSize);
+        List<Clash> clashes = mongoTemplate.find(batchQuery, Clash.class);
+        if (clashes.isEmpty()) {
+            return MaintenanceChunk.last(0);
+        }
+
+        Set<UUID> playerIds = clashes.stream()
+            .flatMap(clash -> clash.getPlayers().stream())
+            .map(Clash.ClashPlayer::getId)
+            .collect(Collectors.toSet());
+        Set<UUID> existingPlayerIds = playerRepo.findExistingExternalIds(playerIds);
+        List<Clash> orphaned = clashes.stream()
+            .filter(clash -> isOrphaned(clash, existingPlayerIds))
+            .collect(Collectors.toList());
+
+        if (!orphaned.isEmpty()) {
+            List<String> ids = orphaned.stream().map(Clash::getId).collect(Collectors.toList());
+            List<UUID> externalIds = orphaned.stream().map(Clash::getExternalId).collect(Collectors.toList());
+            List<UUID> gameIds = orphaned.stream()
+                .flatMap(clash -> clash.getPlayers().stream())
+                .map(Clash.ClashPlayer::getGameId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+            mongoTemplate.remove(query(where("id").in(ids)), Clash.class);
+            mongoTemplate.remove(query(where("clashId").in(externalIds)), ClashInboxEntry.class);
+            if (!gameIds.isEmpty()) {
+                mongoTemplate.remove(query(where("externalId").in(gameIds)), Game.class);
+            }
+            for (Clash clash : orphaned) {
+                clashEventJournal.evict(clash);
+                clashTurnCache.evict(clash);
+            }
+        }
+
+        String nextCursor = clashes.get(clashes.size() - 1).getId();
+        return clashes.size() < batchSize ? MaintenanceChunk.last(orphaned.size()) : MaintenanceChunk.next(nextCursor, orphaned.size());
+    }
+
+    private boolean isOrphaned(Clash clash, Set<UUID> existingPlayerIds) {
+        return clash.getPlayers().stream().noneMatch(player -> existingPlayerIds.contains(player.getId()));
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.tejko.yamb.util;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tejko.yamb.business.interfaces.ClashInboxService;
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.Player;
+import com.tejko.yamb.domain.repositories.ClashInboxRepository;
+import com.tejko.yamb.domain.repositories.ClashRepository;
+import com.tejko.yamb.domain.repositories.LogRepository;
+import com.tejko.yamb.domain.repositories.PlayerRepository;
+import com.tejko.yamb.domain.repositories.PlayerScoreStatsRepository;
+import com.tejko.yamb.domain.repositories.RelationshipRepository;
+import com.tejko.yamb.domain.repositories.ScoreRepository;
+
+@Component
+public class PlayerMerger {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerMerger.class);
+
+    private static final String GAMES_COLLECTION = "games";
+    private static final String CLASHES_COLLECTION = "clashes";
+
+    private final PlayerRepository playerRepo;
+    private final ScoreRepository scoreRepo;
+    private final LogRepository logRepo;
+    private final RelationshipRepository relationshipRepo;
+    private final PlayerScoreStatsRepository playerScoreStatsRepo;
+    private final ClashRepository clashRepo;
+    private final ClashInboxRepository clashInboxRepo;
+    private final ClashInboxService clashInboxService;
+    private final ClashTurnCache clashTurnCache;
+    private final MongoTemplate mongoTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public PlayerMerger(PlayerRepository playerRepo, ScoreRepository scoreRepo, LogRepository logRepo, RelationshipRepository relationshipRepo, 
+                        PlayerScoreStatsRepository playerScoreStatsRepo, ClashRepository clashRepo, ClashInboxRepository clashInboxRepo, 
+                        ClashInboxService clashInboxService, ClashTurnCache clashTurnCache, MongoTemplate mongoTemplate, 
+                        TransactionTemplate transactionTemplate) {
+        this.playerRepo = playerRepo;
+        this.scoreRepo = scoreRepo;
+        this.logRepo = logRepo;
+        this.relationshipRepo = relationshipRepo;
+        this.playerScoreStatsRepo = playerScoreStatsRepo;
+        this.clashRepo = clashRepo;
+        this.clashInboxRepo = clashInboxRepo;
+        this.clashInboxService = clashInboxService;
+        this.clashTurnCache = clashTurnCache;
+        this.mongoTemplate = mongoTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public void merge(Player parentPlayer, List<UUID> playerExternalIds) {
+        List<UUID> mergedExternalIds = playerExternalIds.stream()
+            .filter(externalId -> !externalId.equals(parentPlayer.getExternalId()))
+            .distinct()
+            .collect(Collectors.toList());
+        if (mergedExternalIds.isEmpty()) {
+            return;
+        }
+
+        List<UUID> deletedExternalIds = transactionTemplate.execute(status -> mergeRelational(parentPlayer.getId(), mergedExternalIds));
+        if (deletedExternalIds.isEmpty()) {
+            return;
+        }
+        mergeDocuments(parentPlayer.getExternalId(), deletedExternalIds);
+    }
+
+    private List<UUID> mergeRelational(Long parentId, List<UUID> mergedExternalIds) {
+        List<Long> playerIds = playerRepo.findIdsByExternalIdIn(mergedExternalIds);
+        if (playerIds.isEmpty()) {
+            return List.of();
+        }
+        int scores = scoreRepo.reassignPlayer(parentId, playerIds);
+        int logs = logRepo.reassignPlayer(parentId, playerIds);
+        relationshipRepo.deleteAllWithinMerge(parentId, playerIds);
+        relationshipRepo.deleteDuplicatesWithinMerge(parentId, playerIds);
+        int relationships = relationshipRepo.reassignPlayer(parentId, playerIds) + relationshipRepo.reassignRelatedPlayer(parentId, playerIds);
+
+        List<Long> affectedIds = new ArrayList<>(playerIds);
+        affectedIds.add(parentId);
+        playerScoreStatsRepo.deleteAllByPlayerIdIn(affectedIds);
+        playerScoreStatsRepo.rebuildForPlayers(Collections.singletonList(parentId));
+
+        List<Player> players = playerRepo.findAllById(playerIds);
+        playerRepo.deleteAll(players);
+        logger.info("Merged {} players into {}: {} scores, {} logs, {} relationships", players.size(), parentId, scores, logs, relationships);
+        return players.stream().map(Player::getExternalId).collect(Collectors.toList());
+    }
+
+    private void mergeDocuments(UUID parentExternalId, List<UUID> mergedExternalIds) {
+        mongoTemplate.updateMulti(query(where("player_id").in(mergedExternalIds)), 
+            Update.update("player_id", parentExternalId), GAMES_COLLECTION);
+        mongoTemplate.updateMulti(query(where("player_id").in(mergedExternalIds)), 
+            Update.update("player_id", parentExternalId), GameArchiver.ARCHIVE_COLLECTION);
+
+        Criteria involved = new Criteria().orOperator(where("players._id").in(mergedExternalIds), 
+            where("owner_id").in(mergedExternalIds), where("winner_id").in(mergedExternalIds));
+        for (Clash clash : mongoTemplate.find(query(involved), Clash.class, CLASHES_COLLECTION)) {
+            clash.mergePlayers(parentExternalId, mergedExternalIds);
+            try {
+                clashRepo.save(clash);
+            } catch (DuplicateKeyException e) {
+                logger.warn("Clash {} duplicates an active clash of player {} after the merge, completing it", clash.getExternalId(), parentExternalId);
+                clash.complete();
+                clashRepo.save(clash);
+            }
+        }
+
+        clashTurnCache.clear();
+        clashInboxRepo.deleteAllByPlayerIdIn(mergedExternalIds);
+        clashInboxService.update(clashRepo.findAllByPlayerId(parentExternalId));
+    }
+
+}
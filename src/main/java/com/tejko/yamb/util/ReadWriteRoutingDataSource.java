@@ -0,0 +1,59 @@
+package com.tejko.yamb.util;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadWriteRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource, ReplicaLagMonitor replicaLagMonitor) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (useReplica()) {
+            try {
+                return replicaDataSource.getConnection();
+            } catch (SQLException e) {
+                logger.warn("Replica connection failed, falling back to primary: {}", e.getMessage());
+                replicaLagMonitor.markUnavailable();
+            }
+        }
+        return primaryDataSource.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (useReplica()) {
+            try {
+                return replicaDataSource.getConnection(username, password);
+            } catch (SQLException e) {
+                logger.warn("Replica connection failed, falling back to primary: {}", e.getMessage());
+                replicaLagMonitor.markUnavailable();
+            }
+        }
+        return primaryDataSource.getConnection(username, password);
+    }
+
+    private boolean useReplica() {
+        return replicaDataSource != null
+            && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            && replicaLagMonitor.isAvailable();
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.tejko.yamb.util;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String LAG_QUERY = "SELECT CASE " +
+        "WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+        "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${datasource.replica.max-lag:5s}")
+    private Duration maxLag;
+
+    private volatile boolean available;
+
+    @Autowired
+    public ReplicaLagMonitor(@Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource) {
+        DataSource dataSource = replicaDataSource.getIfAvailable();
+        this.jdbcTemplate = dataSource != null ? new JdbcTemplate(dataSource) : null;
+        if (jdbcTemplate != null) {
+            jdbcTemplate.setQueryTimeout(2);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:5000}")
+    public void check() {
+        if (jdbcTemplate == null) {
+            return;
+        }
+        boolean wasAvailable = available;
+        try {
+            Number lag = jdbcTemplate.queryForObject(LAG_QUERY, Number.class);
+            available = lag != null && lag.longValue() <= maxLag.toMillis();
+            if (!available) {
+                logger.warn("Replica is {} ms behind, routing reads to primary", lag);
+            }
+        } catch (DataAccessException e) {
+            available = false;
+            logger.warn("Replica lag check failed, routing reads to primary: {}", e.getMessage());
+        }
+        if (available && !wasAvailable) {
+            logger.info("Routing read-only transactions to replica");
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public void markUnavailable() {
+        available = false;
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.tejko.yamb.util;
+
+import javax.persistence.EntityManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class ScorePartitionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScorePartitionManager.class);
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${score.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Autowired
+    public ScorePartitionManager(EntityManager entityManager, TransactionTemplate transactionTemplate) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(cron = "${score.partitions.cron:0 0 3 * * *}")
+    public void ensurePartitions() {
+        try {
+            Number created = transactionTemplate.execute(status -> (Number) entityManager
+                .createNativeQuery("SELECT ensure_score_partitions(:monthsAhead)")
+                .setParameter("monthsAhead", monthsAhead)
+                .getSingleResult());
+            if (created != null && created.intValue() > 0) {
+                logger.info("Created {} score partitions", created);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Could not create score partitions: {}", e.getMessage());
+        }
+    }
+
+}
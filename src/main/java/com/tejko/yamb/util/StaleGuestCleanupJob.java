@@ -0,0 +1,97 @@
+package com.tejko.yamb.util;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tejko.yamb.domain.models.ClashInboxEntry;
+import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.domain.models.Player;
+import com.tejko.yamb.domain.repositories.PlayerRepository;
+import com.tejko.yamb.domain.repositories.RelationshipRepository;
+
+@Component
+public class StaleGuestCleanupJob implements MaintenanceJob {
+
+    public static final String NAME = "stale-guests";
+
+    private static final List<String> CHILD_TABLES = List.of("log", "ticket", "notification");
+
+    private final PlayerRepository playerRepo;
+    private final RelationshipRepository relationshipRepo;
+    private final MongoTemplate mongoTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkDeleter bulkDeleter;
+
+    @Value("${maintenance.guests.age-days:30}")
+    private int ageDays;
+
+    @Autowired
+    public StaleGuestCleanupJob(PlayerRepository playerRepo, RelationshipRepository relationshipRepo, MongoTemplate mongoTemplate, 
+                                TransactionTemplate transactionTemplate, BulkDeleter bulkDeleter) {
+        this.playerRepo = playerRepo;
+        this.relationshipRepo = relationshipRepo;
+        this.mongoTemplate = mongoTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.bulkDeleter = bulkDeleter;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public MaintenanceChunk processChunk(String cursor, int batchSize) {
+        Long afterId = cursor != null ? Long.valueOf(cursor) : 0L;
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(ageDays);
+        List<Player> candidates = playerRepo.findStaleGuests(afterId, cutoff, PageRequest.of(0, batchSize));
+        if (candidates.isEmpty()) {
+            return MaintenanceChunk.last(0);
+        }
+        String nextCursor = String.valueOf(candidates.get(candidates.size() - 1).getId());
+
+        Set<UUID> candidateIds = candidates.stream().map(Player::getExternalId).collect(Collectors.toSet());
+        Set<UUID> recentlyActiveIds = mongoTemplate.findDistinct(query(where("playerId").in(candidateIds).and("updatedAt").gte(cutoff)), 
+            "playerId", Game.class, UUID.class).stream().collect(Collectors.toSet());
+        List<Player> stalePlayers = candidates.stream()
+            .filter(player -> !recentlyActiveIds.contains(player.getExternalId()))
+            .collect(Collectors.toList());
+        List<Long> staleIds = stalePlayers.stream().map(Player::getId).collect(Collectors.toList());
+        List<UUID> deletedIds = stalePlayers.stream().map(Player::getExternalId).collect(Collectors.toList());
+
+        if (!staleIds.isEmpty()) {
+            Map<String, Object> parameters = Map.of("playerIds", staleIds);
+            for (String table : CHILD_TABLES) {
+                bulkDeleter.deleteWhere(table, "player_id IN (:playerIds)", parameters);
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                relationshipRepo.deleteAllByPlayerIdIn(staleIds);
+                playerRepo.deleteRolesByPlayerIdIn(staleIds);
+                playerRepo.deletePreferencesByPlayerIdIn(staleIds);
+                playerRepo.deleteAvatarsByPlayerIdIn(staleIds);
+                playerRepo.deleteAllByIdIn(staleIds);
+            });
+        }
+        if (!deletedIds.isEmpty()) {
+            mongoTemplate.remove(query(where("playerId").in(deletedIds)), Game.class);
+            mongoTemplate.remove(query(where("playerId").in(deletedIds)), ClashInboxEntry.class);
+        }
+
+        return candidates.size() < batchSize ? MaintenanceChunk.last(deletedIds.size()) : MaintenanceChunk.next(nextCursor, deletedIds.size());
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.tejko.yamb.util;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class StatsExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatsExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration timeout;
+    private LongSupplier nanoTime = System::nanoTime;
+
+    @Autowired
+    public StatsExecutor(PlatformTransactionManager transactionManager,
+                         @Value("${stats.executor.threads:4}") int threads,
+                         @Value("${stats.executor.queue-capacity:32}") int queueCapacity,
+                         @Value("${stats.query-timeout:2s}") Duration timeout) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("stats-"));
+        this.executor.allowCoreThreadTimeOut(true);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setTimeout((int) Math.max(1, (timeout.toMillis() + 999) / 1000));
+        this.timeout = timeout;
+    }
+
+    public <T> StatsQuery<T> submit(String name, Supplier<T> query) {
+        return submit(name, query, nanoTime.getAsLong() + timeout.toNanos());
+    }
+
+    public <T> StatsQuery<T> submitAfter(StatsQuery<?> previous, String name, Supplier<T> query) {
+        return submit(name, query, previous.deadline);
+    }
+
+    private <T> StatsQuery<T> submit(String name, Supplier<T> query, long deadline) {
+        try {
+            return new StatsQuery<>(name, executor.submit(() -> transactionTemplate.execute(status -> query.get())), deadline, nanoTime);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Stats executor is saturated, skipping {}", name);
+            CompletableFuture<T> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(e);
+            return new StatsQuery<>(name, rejected, deadline, nanoTime);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public static class StatsQuery<T> {
+
+        private final String name;
+        private final Future<T> future;
+        private final long deadline;
+        private final LongSupplier nanoTime;
+
+        private StatsQuery(String name, Future<T> future, long deadline, LongSupplier nanoTime) {
+            this.name = name;
+            this.future = future;
+            this.deadline = deadline;
+            this.nanoTime = nanoTime;
+        }
+
+        public T get(T fallback) {
+            try {
+                T result = future.get(Math.max(0, deadline - nanoTime.getAsLong()), TimeUnit.NANOSECONDS);
+                return result != null ? result : fallback;
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                logger.warn("Stats query {} timed out", name);
+            } catch (ExecutionException e) {
+                logger.warn("Stats query {} failed: {}", name, e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+            }
+            return fallback;
+        }
+
+    }
+
+}
@@ -1,10 +1,19 @@
 package com.tejko.yamb.util;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.tejko.yamb.domain.enums.MessageType;
 import com.tejko.yamb.domain.models.WebSocketMessage;
@@ -13,10 +22,17 @@ import com.tejko.yamb.domain.models.WebSocketMessage;
 public class WebSocketManager {
 
     private final SimpMessagingTemplate simpMessagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
 
     @Autowired
-    public WebSocketManager(SimpMessagingTemplate simpMessagingTemplate) {
+    public WebSocketManager(SimpMessagingTemplate simpMessagingTemplate, SimpUserRegistry simpUserRegistry) {
         this.simpMessagingTemplate = simpMessagingTemplate;
+        this.simpUserRegistry = simpUserRegistry;
+    }
+
+    public boolean hasSubscribers(String destination) {
+        return !simpUserRegistry.findSubscriptions(subscription -> destination.equals(subscription.getDestination())).isEmpty();
     }
 
     public void send(String destination, WebSocketMessage message) {
@@ -42,4 +58,15 @@ public class WebSocketManager {
         );
     }
 
+    public void sendBinary(String destination, Object content, MessageType type) {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        headers.put("messageType", type);
+        try {
+            simpMessagingTemplate.convertAndSend(destination, cborMapper.writeValueAsBytes(content), headers);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
 }
\ No newline at end of file
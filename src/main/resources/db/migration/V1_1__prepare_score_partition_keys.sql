@@ -0,0 +1,18 @@
+UPDATE score SET created_at = TIMESTAMP '1970-01-01' WHERE created_at IS NULL;
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'score'::regclass) THEN
+        RETURN;
+    END IF;
+    EXECUTE format('ALTER TABLE score ADD CONSTRAINT chk_score_legacy_created_at CHECK (created_at IS NOT NULL AND created_at < %L) NOT VALID', 
+        date_trunc('month', now()) + INTERVAL '1 month');
+END;
+$$;
+
+ALTER TABLE score VALIDATE CONSTRAINT chk_score_legacy_created_at;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS score_legacy_pkey ON score (id, created_at);
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_score_legacy_external_id_created_at ON score (external_id, created_at);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_score_legacy_created_at_value ON score (created_at, value DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_score_legacy_player_id_created_at ON score (player_id, created_at DESC);
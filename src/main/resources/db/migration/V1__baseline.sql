@@ -0,0 +1,133 @@
+CREATE TABLE IF NOT EXISTS player (
+    id BIGSERIAL PRIMARY KEY,
+    external_id UUID NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    email VARCHAR(255),
+    username VARCHAR(255) NOT NULL,
+    email_verified BOOLEAN,
+    email_verification_token VARCHAR(255),
+    password VARCHAR(255),
+    password_reset_token VARCHAR(255),
+    CONSTRAINT uk_player_external_id UNIQUE (external_id),
+    CONSTRAINT uk_player_username UNIQUE (username)
+);
+CREATE INDEX IF NOT EXISTS idx_player_external_id ON player (external_id);
+
+CREATE TABLE IF NOT EXISTS role (
+    id BIGSERIAL PRIMARY KEY,
+    external_id UUID NOT NULL,
+    label VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    CONSTRAINT uk_role_external_id UNIQUE (external_id),
+    CONSTRAINT uk_role_label UNIQUE (label)
+);
+CREATE INDEX IF NOT EXISTS idx_role_external_id ON role (external_id);
+
+CREATE TABLE IF NOT EXISTS player_role (
+    player_id BIGINT NOT NULL,
+    role_id BIGINT NOT NULL,
+    PRIMARY KEY (player_id, role_id),
+    CONSTRAINT fk_player_role_player_id FOREIGN KEY (player_id) REFERENCES player (id),
+    CONSTRAINT fk_player_role_role_id FOREIGN KEY (role_id) REFERENCES role (id)
+);
+
+CREATE TABLE IF NOT EXISTS preferences (
+    id BIGINT PRIMARY KEY,
+    theme VARCHAR(255) NOT NULL,
+    language VARCHAR(255) NOT NULL,
+    CONSTRAINT fk_preferences_id FOREIGN KEY (id) REFERENCES player (id)
+);
+
+CREATE TABLE IF NOT EXISTS image (
+    id BIGSERIAL PRIMARY KEY,
+    external_id UUID NOT NULL,
+    name VARCHAR(255),
+    url VARCHAR(255),
+    public_id VARCHAR(255) NOT NULL,
+    player_id BIGINT,
+    CONSTRAINT uk_image_external_id UNIQUE (external_id),
+    CONSTRAINT uk_image_public_id UNIQUE (public_id),
+    CONSTRAINT uk_image_player_id UNIQUE (player_id),
+    CONSTRAINT fk_image_player_id FOREIGN KEY (player_id) REFERENCES player (id)
+);
+CREATE INDEX IF NOT EXISTS idx_image_external_id ON image (external_id);
+
+CREATE TABLE IF NOT EXISTS score (
+    id BIGSERIAL PRIMARY KEY,
+    external_id UUID NOT NULL,
+    created_at TIMESTAMP,
+    player_id BIGINT NOT NULL,
+    value INTEGER NOT NULL,
+    CONSTRAINT uk_score_external_id UNIQUE (external_id),
+    CONSTRAINT fk_score_player_id FOREIGN KEY (player_id) REFERENCES player (id)
+);
+CREATE INDEX IF NOT EXISTS idx_score_external_id ON score (external_id);
+
+CREATE TABLE IF NOT EXISTS log (
+    id BIGSERIAL PRIMARY KEY,
+    external_id UUID NOT NULL,
+    created_at TIMESTAMP,
+    player_id BIGINT,
+    data JSONB,
+    message TEXT NOT NULL,
+    level VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_log_external_id UNIQUE (external_id),
+    CONSTRAINT fk_log_player_id FOREIGN KEY (player_id) REFERENCES player (id)
+);
+CREATE INDEX IF NOT EXISTS idx_log_external_id ON log (external_id);
+
+CREATE TABLE IF NOT EXISTS ticket (
+    id BIGSERIAL PRIMARY KEY,
+    external_id UUID NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    player_id BIGINT,
+    email_addresses JSONB NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_ticket_external_id UNIQUE (external_id),
+    CONSTRAINT fk_ticket_player_id FOREIGN KEY (player_id) REFERENCES player (id)
+);
+CREATE INDEX IF NOT EXISTS idx_ticket_external_id ON ticket (external_id);
+
+CREATE TABLE IF NOT EXISTS notification (
+    id BIGSERIAL PRIMARY KEY,
+    external_id UUID NOT NULL,
+    created_at TIMESTAMP,
+    player_id BIGINT,
+    content VARCHAR(255),
+    link VARCHAR(255),
+    type VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_notification_external_id UNIQUE (external_id),
+    CONSTRAINT fk_notification_player_id FOREIGN KEY (player_id) REFERENCES player (id)
+);
+CREATE INDEX IF NOT EXISTS idx_notification_external_id ON notification (external_id);
+
+CREATE TABLE IF NOT EXISTS player_relationship (
+    player_id BIGINT NOT NULL,
+    related_player_id BIGINT NOT NULL,
+    external_id UUID NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    active BOOLEAN,
+    PRIMARY KEY (player_id, related_player_id),
+    CONSTRAINT uk_player_relationship_external_id UNIQUE (external_id),
+    CONSTRAINT fk_player_relationship_player_id FOREIGN KEY (player_id) REFERENCES player (id),
+    CONSTRAINT fk_player_relationship_related_player_id FOREIGN KEY (related_player_id) REFERENCES player (id)
+);
+CREATE INDEX IF NOT EXISTS idx_player_relationship_external_id ON player_relationship (external_id);
+
+CREATE TABLE IF NOT EXISTS player_stats (
+    player_id BIGINT PRIMARY KEY,
+    score_count BIGINT NOT NULL,
+    score_sum BIGINT NOT NULL,
+    average_score DOUBLE PRECISION NOT NULL,
+    high_score_id BIGINT,
+    high_score_value INTEGER,
+    last_activity TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_player_stats_score_count ON player_stats (score_count DESC);
+CREATE INDEX IF NOT EXISTS idx_player_stats_average_score ON player_stats (average_score DESC);
@@ -0,0 +1,84 @@
+CREATE OR REPLACE FUNCTION ensure_score_partitions(months_ahead INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    lower_bound TIMESTAMP;
+    partition_start TIMESTAMP;
+    partition_end TIMESTAMP;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    SELECT COALESCE(MAX(substring(pg_get_expr(c.relpartbound, c.oid) FROM 'TO \(''([^'']+)''\)')::TIMESTAMP), date_trunc('month', now()))
+        INTO lower_bound
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'score'::regclass AND pg_get_expr(c.relpartbound, c.oid) <> 'DEFAULT';
+
+    WHILE lower_bound < date_trunc('month', now()) + make_interval(months => months_ahead + 1) LOOP
+        partition_start := lower_bound;
+        partition_end := date_trunc('month', lower_bound) + INTERVAL '1 month';
+        partition_name := 'score_' || to_char(date_trunc('month', lower_bound), 'YYYY_MM');
+        IF to_regclass(partition_name) IS NOT NULL THEN
+            partition_name := partition_name || '_' || to_char(partition_start, 'DD_HH24MISS');
+        END IF;
+        EXECUTE format('CREATE TABLE %I PARTITION OF score FOR VALUES FROM (%L) TO (%L)', partition_name, partition_start, partition_end);
+        lower_bound := partition_end;
+        created := created + 1;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    legacy_upper_bound TIMESTAMP;
+    legacy_constraint TEXT;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'score'::regclass) THEN
+        RETURN;
+    END IF;
+
+    SELECT substring(pg_get_constraintdef(oid) FROM '< ''([^'']+)''')::TIMESTAMP
+        INTO legacy_upper_bound
+        FROM pg_constraint
+        WHERE conrelid = 'score'::regclass AND conname = 'chk_score_legacy_created_at' AND convalidated;
+    IF legacy_upper_bound IS NULL THEN
+        RAISE EXCEPTION 'chk_score_legacy_created_at is missing or not validated';
+    END IF;
+
+    ALTER TABLE score RENAME TO score_legacy;
+    ALTER INDEX IF EXISTS idx_score_external_id RENAME TO idx_score_legacy_external_id;
+    ALTER TABLE score_legacy ALTER COLUMN created_at SET NOT NULL;
+    FOR legacy_constraint IN
+        SELECT conname FROM pg_constraint WHERE conrelid = 'score_legacy'::regclass AND contype IN ('p', 'u')
+    LOOP
+        EXECUTE format('ALTER TABLE score_legacy DROP CONSTRAINT %I', legacy_constraint);
+    END LOOP;
+    ALTER TABLE score_legacy ADD CONSTRAINT score_legacy_pkey PRIMARY KEY USING INDEX score_legacy_pkey;
+    ALTER TABLE score_legacy ADD CONSTRAINT uk_score_legacy_external_id_created_at UNIQUE USING INDEX uk_score_legacy_external_id_created_at;
+
+    CREATE TABLE score (
+        id BIGINT NOT NULL DEFAULT nextval('score_id_seq'),
+        external_id UUID NOT NULL,
+        created_at TIMESTAMP NOT NULL,
+        player_id BIGINT NOT NULL,
+        value INTEGER NOT NULL,
+        PRIMARY KEY (id, created_at),
+        CONSTRAINT uk_score_external_id_created_at UNIQUE (external_id, created_at),
+        CONSTRAINT fk_score_partitioned_player_id FOREIGN KEY (player_id) REFERENCES player (id)
+    ) PARTITION BY RANGE (created_at);
+    ALTER SEQUENCE score_id_seq OWNED BY score.id;
+
+    EXECUTE format('ALTER TABLE score ATTACH PARTITION score_legacy FOR VALUES FROM (MINVALUE) TO (%L)', legacy_upper_bound);
+    ALTER TABLE score_legacy DROP CONSTRAINT chk_score_legacy_created_at;
+
+    CREATE INDEX idx_score_external_id ON ONLY score (external_id);
+    CREATE INDEX idx_score_created_at_value ON ONLY score (created_at, value DESC);
+    CREATE INDEX idx_score_player_id_created_at ON ONLY score (player_id, created_at DESC);
+    ALTER INDEX idx_score_external_id ATTACH PARTITION idx_score_legacy_external_id;
+    ALTER INDEX idx_score_created_at_value ATTACH PARTITION idx_score_legacy_created_at_value;
+    ALTER INDEX idx_score_player_id_created_at ATTACH PARTITION idx_score_legacy_player_id_created_at;
+
+    CREATE TABLE score_default PARTITION OF score DEFAULT;
+
+    PERFORM ensure_score_partitions(3);
+END;
+$$;
@@ -0,0 +1,15 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_player_username_lower ON player (lower(username));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_player_email ON player (email);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_player_email_lower ON player (lower(email));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_player_email_verification_token ON player (email_verification_token) WHERE email_verification_token IS NOT NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_player_password_reset_token ON player (password_reset_token) WHERE password_reset_token IS NOT NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_player_created_at ON player (created_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notification_player_id_created_at ON notification (player_id, created_at DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_log_player_id_created_at ON log (player_id, created_at DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_log_created_at ON log (created_at DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_ticket_player_id_updated_at ON ticket (player_id, updated_at DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_ticket_status_updated_at ON ticket (status, updated_at DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_player_relationship_related_player_id ON player_relationship (related_player_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_player_role_role_id ON player_role (role_id);
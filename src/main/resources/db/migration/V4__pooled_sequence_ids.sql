@@ -0,0 +1,4 @@
+ALTER SEQUENCE score_id_seq INCREMENT BY 50;
+ALTER SEQUENCE log_id_seq INCREMENT BY 50;
+ALTER SEQUENCE ticket_id_seq INCREMENT BY 50;
+ALTER SEQUENCE notification_id_seq INCREMENT BY 50;
@@ -0,0 +1,141 @@
+package com.tejko.yamb.benchmark;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.tejko.yamb.domain.converters.ClashReadingConverter;
+import com.tejko.yamb.domain.converters.ClashWritingConverter;
+import com.tejko.yamb.domain.converters.GameReadingConverter;
+import com.tejko.yamb.domain.converters.GameWritingConverter;
+import com.tejko.yamb.domain.enums.BoxType;
+import com.tejko.yamb.domain.enums.ClashType;
+import com.tejko.yamb.domain.enums.ColumnType;
+import com.tejko.yamb.domain.enums.GameType;
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.Game;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MongoConverterBenchmark {
+
+    private static final int[] DICE_TO_ROLL = {0, 1, 2, 3, 4};
+
+    private MappingMongoConverter reflectionConverter;
+    private MappingMongoConverter customConverter;
+    private Game game;
+    private Clash clash;
+    private Document reflectionGameDocument;
+    private Document customGameDocument;
+    private Document reflectionClashDocument;
+    private Document customClashDocument;
+
+    @Setup
+    public void setUp() {
+        reflectionConverter = createConverter(new MongoCustomConversions(Collections.emptyList()));
+        customConverter = createConverter(new MongoCustomConversions(Arrays.asList(
+            new GameReadingConverter(), new GameWritingConverter(), new ClashReadingConverter(), new ClashWritingConverter()
+        )));
+
+        game = Game.getInstance(UUID.randomUUID(), GameType.NORMAL);
+        for (ColumnType columnType : Arrays.asList(ColumnType.DOWNWARDS, ColumnType.FREE)) {
+            for (BoxType boxType : BoxType.values()) {
+                game.roll(DICE_TO_ROLL);
+                game.fill(columnType, boxType);
+            }
+        }
+        UUID ownerId = UUID.randomUUID();
+        clash = Clash.getInstance("benchmark", ownerId, new HashSet<>(Arrays.asList(ownerId, UUID.randomUUID(), UUID.randomUUID())), ClashType.LIVE);
+
+        reflectionGameDocument = write(reflectionConverter, game);
+        customGameDocument = write(customConverter, game);
+        reflectionClashDocument = write(reflectionConverter, clash);
+        customClashDocument = write(customConverter, clash);
+    }
+
+    private MappingMongoConverter createConverter(MongoCustomConversions conversions) {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    private Document write(MappingMongoConverter converter, Object source) {
+        Document document = new Document();
+        converter.write(source, document);
+        return document;
+    }
+
+    @Benchmark
+    public Document writeGameReflection() {
+        return write(reflectionConverter, game);
+    }
+
+    @Benchmark
+    public Document writeGameCustom() {
+        return write(customConverter, game);
+    }
+
+    @Benchmark
+    public Game readGameReflection() {
+        return reflectionConverter.read(Game.class, reflectionGameDocument);
+    }
+
+    @Benchmark
+    public Game readGameCustom() {
+        return customConverter.read(Game.class, customGameDocument);
+    }
+
+    @Benchmark
+    public Document writeClashReflection() {
+        return write(reflectionConverter, clash);
+    }
+
+    @Benchmark
+    public Document writeClashCustom() {
+        return write(customConverter, clash);
+    }
+
+    @Benchmark
+    public Clash readClashReflection() {
+        return reflectionConverter.read(Clash.class, reflectionClashDocument);
+    }
+
+    @Benchmark
+    public Clash readClashCustom() {
+        return customConverter.read(Clash.class, customClashDocument);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MongoConverterBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
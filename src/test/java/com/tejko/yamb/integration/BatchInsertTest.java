@@ -0,0 +1,139 @@
+package com.tejko.yamb.integration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tejko.yamb.domain.enums.NotificationType;
+import com.tejko.yamb.domain.models.Notification;
+import com.tejko.yamb.domain.models.Player;
+import com.tejko.yamb.domain.models.Role;
+import com.tejko.yamb.domain.models.Score;
+import com.tejko.yamb.domain.repositories.NotificationRepository;
+import com.tejko.yamb.domain.repositories.PlayerRepository;
+import com.tejko.yamb.domain.repositories.PlayerScoreStatsRepository;
+import com.tejko.yamb.domain.repositories.RoleRepository;
+import com.tejko.yamb.domain.repositories.ScoreRepository;
+import com.tejko.yamb.util.ApplicationContextProvider;
+
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@ImportAutoConfiguration({ MongoAutoConfiguration.class, MongoDataAutoConfiguration.class })
+@Import(ApplicationContextProvider.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class BatchInsertTest {
+
+    private static final int ROW_COUNT = 20;
+
+    @Autowired
+    private PlayerRepository playerRepo;
+
+    @Autowired
+    private RoleRepository roleRepo;
+
+    @Autowired
+    private ScoreRepository scoreRepo;
+
+    @Autowired
+    private NotificationRepository notificationRepo;
+
+    @Autowired
+    private PlayerScoreStatsRepository playerScoreStatsRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        player = transactionTemplate.execute(status -> {
+            Role role = roleRepo.findByLabel("USER").orElseGet(() -> roleRepo.save(Role.getInstance("USER")));
+            return playerRepo.save(Player.getInstance(null, "player-" + UUID.randomUUID(), null, new HashSet<>(Collections.singleton(role))));
+        });
+    }
+
+    @Test
+    void testSaveAll_NotificationsInsertedInOneBatch() {
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            notifications.add(Notification.getInstance(player, "content-" + i, "/link", NotificationType.CLASH_INVITATION));
+        }
+
+        long statements = countStatements(() -> notificationRepo.saveAll(notifications));
+
+        Assertions.assertEquals(ROW_COUNT, notificationRepo.findAllByPlayerIdOrderByCreatedAtDesc(player.getId()).size());
+        Assertions.assertEquals(2, statements);
+    }
+
+    @Test
+    void testSaveAll_ScoresInsertedInOneBatch() {
+        List<Score> scores = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            scores.add(Score.getInstance(player, 100 + i));
+        }
+
+        long statements = countStatements(() -> scoreRepo.saveAll(scores));
+
+        Set<Long> ids = scores.stream().map(Score::getId).collect(Collectors.toSet());
+        Assertions.assertEquals(ROW_COUNT, ids.size());
+        Assertions.assertEquals(ROW_COUNT, scoreRepo.countByPlayerId(player.getId()));
+        Assertions.assertEquals(2, statements);
+    }
+
+    @Test
+    void testRecordScore_LastActivitySetBeforeFlush() {
+        Score score = Score.getInstance(player, 150);
+        transactionTemplate.executeWithoutResult(status -> {
+            scoreRepo.save(score);
+            playerScoreStatsRepo.recordScore(player.getId(), score.getId(), score.getValue(), score.getCreatedAt());
+        });
+
+        LocalDateTime lastActivity = jdbcTemplate.queryForObject("SELECT last_activity FROM player_stats WHERE player_id = ?",
+            LocalDateTime.class, player.getId());
+        Assertions.assertNotNull(lastActivity);
+        Assertions.assertEquals(jdbcTemplate.queryForObject("SELECT created_at FROM score WHERE id = ?", LocalDateTime.class, score.getId()),
+            lastActivity);
+    }
+
+    private long countStatements(Runnable write) {
+        statistics.clear();
+        write.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+}
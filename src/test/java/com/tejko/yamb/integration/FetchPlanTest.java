@@ -0,0 +1,190 @@
+package com.tejko.yamb.integration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tejko.yamb.api.assemblers.ClashDetailModelAssembler;
+import com.tejko.yamb.api.assemblers.PlayerDetailModelAssembler;
+import com.tejko.yamb.api.assemblers.PlayerModelAssembler;
+import com.tejko.yamb.api.assemblers.PlayerPreferencesModelAssembler;
+import com.tejko.yamb.api.assemblers.ScoreModelAssembler;
+import com.tejko.yamb.api.dto.responses.ClashDetailResponse;
+import com.tejko.yamb.api.dto.responses.PlayerDetailResponse;
+import com.tejko.yamb.api.dto.responses.PlayerPreferencesResponse;
+import com.tejko.yamb.api.dto.responses.PlayerResponse;
+import com.tejko.yamb.api.dto.responses.ScoreResponse;
+import com.tejko.yamb.business.interfaces.PlayerService;
+import com.tejko.yamb.config.ModelMapperConfig;
+import com.tejko.yamb.domain.enums.ClashType;
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.Image;
+import com.tejko.yamb.domain.models.Player;
+import com.tejko.yamb.domain.models.PlayerPreferences;
+import com.tejko.yamb.domain.models.Role;
+import com.tejko.yamb.domain.models.Score;
+import com.tejko.yamb.domain.repositories.PlayerRepository;
+import com.tejko.yamb.domain.repositories.RoleRepository;
+import com.tejko.yamb.domain.repositories.ScoreRepository;
+
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@ImportAutoConfiguration({ MongoAutoConfiguration.class, MongoDataAutoConfiguration.class })
+@Import({ ModelMapperConfig.class, PlayerModelAssembler.class, PlayerDetailModelAssembler.class, PlayerPreferencesModelAssembler.class,
+          ScoreModelAssembler.class, ClashDetailModelAssembler.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class FetchPlanTest {
+
+    private static final int PLAYER_COUNT = 5;
+
+    @MockBean
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRepository playerRepo;
+
+    @Autowired
+    private RoleRepository roleRepo;
+
+    @Autowired
+    private ScoreRepository scoreRepo;
+
+    @Autowired
+    private PlayerModelAssembler playerModelAssembler;
+
+    @Autowired
+    private PlayerDetailModelAssembler playerDetailModelAssembler;
+
+    @Autowired
+    private PlayerPreferencesModelAssembler playerPreferencesModelAssembler;
+
+    @Autowired
+    private ScoreModelAssembler scoreModelAssembler;
+
+    @Autowired
+    private ClashDetailModelAssembler clashDetailModelAssembler;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<UUID> playerExternalIds;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Mockito.when(playerService.findAllByExternalIds(ArgumentMatchers.any()))
+            .thenAnswer(invocation -> playerRepo.findAllByExternalIdIn(invocation.getArgument(0)));
+        playerExternalIds = transactionTemplate.execute(status -> {
+            Role role = roleRepo.findByLabel("USER").orElseGet(() -> roleRepo.save(Role.getInstance("USER")));
+            List<UUID> externalIds = new ArrayList<>();
+            for (int i = 0; i < PLAYER_COUNT; i++) {
+                Player player = Player.getInstance(null, "player-" + UUID.randomUUID(), null, new HashSet<>(Collections.singleton(role)));
+                playerRepo.save(player);
+                player.setPreferences(PlayerPreferences.getInstance(player, "dark", "en"));
+                player.setAvatar(Image.getInstance(player, "avatar", "https://example.com/avatar.png", UUID.randomUUID().toString()));
+                playerRepo.save(player);
+                scoreRepo.save(Score.getInstance(player, 100 + i));
+                externalIds.add(player.getExternalId());
+            }
+            return externalIds;
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void testLeaderboard_FetchesPlayersWithScores() {
+        List<ScoreResponse> responses = new ArrayList<>();
+
+        List<Long> scoreIds = scoreRepo.findTopEntries(PageRequest.of(0, 30)).stream()
+            .map(row -> ((Number) row[0]).longValue())
+            .collect(Collectors.toList());
+
+        long statements = countStatements(() -> scoreRepo.findAllWithPlayerByIdIn(scoreIds)
+            .forEach(score -> responses.add(scoreModelAssembler.toModel(score))));
+
+        Assertions.assertTrue(responses.size() >= PLAYER_COUNT);
+        Assertions.assertTrue(responses.stream().allMatch(response -> response.getPlayer().getAvatar() != null));
+        Assertions.assertEquals(2, statements);
+    }
+
+    @Test
+    void testActivePlayers_FetchesAvatarsWithPlayers() {
+        List<PlayerResponse> responses = new ArrayList<>();
+
+        long statements = countStatements(() -> playerRepo.findAllByExternalIdIn(new HashSet<>(playerExternalIds), PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "updatedAt")))
+            .forEach(player -> responses.add(playerModelAssembler.toModel(player))));
+
+        Assertions.assertEquals(PLAYER_COUNT, responses.size());
+        Assertions.assertTrue(responses.stream().allMatch(response -> response.getAvatar() != null));
+        Assertions.assertEquals(2, statements);
+    }
+
+    @Test
+    void testClashDetail_FetchesAvatarsWithPlayers() {
+        Set<UUID> playerIds = new HashSet<>(playerExternalIds);
+        Clash clash = Clash.getInstance("clash", playerExternalIds.get(0), playerIds, ClashType.LIVE);
+        List<ClashDetailResponse> responses = new ArrayList<>();
+
+        long statements = countStatements(() -> responses.add(clashDetailModelAssembler.toModel(clash)));
+
+        Assertions.assertEquals(PLAYER_COUNT, responses.get(0).getPlayers().size());
+        Assertions.assertTrue(responses.get(0).getPlayers().stream().allMatch(clashPlayer -> clashPlayer.getAvatar() != null));
+        Assertions.assertEquals(2, statements);
+    }
+
+    @Test
+    void testProfile_ServedFromCacheAndAvatar() {
+        UUID playerExternalId = playerExternalIds.get(0);
+        playerRepo.findByExternalId(playerExternalId).orElseThrow();
+        List<PlayerDetailResponse> profiles = new ArrayList<>();
+        List<PlayerPreferencesResponse> preferences = new ArrayList<>();
+
+        long profileStatements = countStatements(() -> profiles.add(playerDetailModelAssembler.toModel(playerRepo.findByExternalId(playerExternalId).orElseThrow())));
+        long preferencesStatements = countStatements(() -> preferences.add(playerPreferencesModelAssembler.toModel(playerRepo.findByExternalId(playerExternalId).orElseThrow().getPreferences())));
+
+        Assertions.assertNotNull(profiles.get(0).getAvatar());
+        Assertions.assertEquals("dark", preferences.get(0).getTheme());
+        Assertions.assertEquals(1, profileStatements);
+        Assertions.assertEquals(1, preferencesStatements);
+    }
+
+    private long countStatements(Runnable request) {
+        statistics.clear();
+        request.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.tejko.yamb.integration;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+
+import com.tejko.yamb.util.MongoIndexManager;
+
+@DataMongoTest(properties = "spring.mongodb.embedded.version=4.0.21")
+@Import(MongoIndexManager.class)
+public class MongoIndexManagerTest {
+
+    @Autowired
+    private MongoIndexManager mongoIndexManager;
+
+    @Test
+    void testEnsureIndexes_Idempotent() {
+        mongoIndexManager.ensureIndexes();
+        Assertions.assertDoesNotThrow(() -> mongoIndexManager.ensureIndexes());
+    }
+
+    @Test
+    void testHotQueries_NoCollectionScans() {
+        mongoIndexManager.ensureIndexes();
+        Assertions.assertTrue(mongoIndexManager.findMissingIndexes().isEmpty());
+        Assertions.assertEquals(Collections.emptyList(), mongoIndexManager.findCollectionScans());
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.tejko.yamb.integration;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.UUID;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tejko.yamb.domain.models.Player;
+import com.tejko.yamb.domain.models.PlayerPreferences;
+import com.tejko.yamb.domain.models.Role;
+import com.tejko.yamb.domain.repositories.PlayerRepository;
+import com.tejko.yamb.domain.repositories.RoleRepository;
+
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@ImportAutoConfiguration({ MongoAutoConfiguration.class, MongoDataAutoConfiguration.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PlayerCacheTest {
+
+    @Autowired
+    private PlayerRepository playerRepo;
+
+    @Autowired
+    private RoleRepository roleRepo;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID playerExternalId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        playerExternalId = transactionTemplate.execute(status -> {
+            Role role = roleRepo.findByLabel("USER").orElseGet(() -> roleRepo.save(Role.getInstance("USER")));
+            Player player = Player.getInstance(null, "player-" + UUID.randomUUID(), null, new HashSet<>(Collections.singleton(role)));
+            playerRepo.save(player);
+            player.setPreferences(PlayerPreferences.getInstance(player, "dark", "en"));
+            playerRepo.save(player);
+            return player.getExternalId();
+        });
+    }
+
+    @Test
+    void testFindByExternalId_ServedFromCache() {
+        loadPlayer();
+        statistics.clear();
+
+        Player player = loadPlayer();
+
+        Assertions.assertEquals(playerExternalId, player.getExternalId());
+        Assertions.assertEquals(0, statistics.getNaturalIdStatistics(Player.class.getName()).getExecutionCount());
+        Assertions.assertEquals(0, statistics.getEntityStatistics(Player.class.getName()).getFetchCount());
+        Assertions.assertEquals(0, statistics.getEntityStatistics(PlayerPreferences.class.getName()).getFetchCount());
+        Assertions.assertEquals(0, statistics.getEntityStatistics(Role.class.getName()).getFetchCount());
+        Assertions.assertEquals(0, statistics.getCollectionStatistics(Player.class.getName() + ".roles").getFetchCount());
+        Assertions.assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    void testFindByExternalId_ReflectsUpdates() {
+        loadPlayer();
+        transactionTemplate.executeWithoutResult(status -> {
+            Player player = playerRepo.findByExternalId(playerExternalId).orElseThrow();
+            player.getPreferences().setTheme("light");
+            player.setUsername("renamed-" + UUID.randomUUID());
+        });
+
+        Player player = loadPlayer();
+
+        Assertions.assertEquals("light", player.getPreferences().getTheme());
+        Assertions.assertTrue(player.getUsername().startsWith("renamed-"));
+    }
+
+    private Player loadPlayer() {
+        return transactionTemplate.execute(status -> {
+            Player player = playerRepo.findByExternalId(playerExternalId).orElseThrow();
+            player.getRoles().forEach(Role::getLabel);
+            player.getPreferences().getTheme();
+            return player;
+        });
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.tejko.yamb.integration;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tejko.yamb.domain.enums.RelationshipType;
+import com.tejko.yamb.domain.models.Log;
+import com.tejko.yamb.domain.models.Player;
+import com.tejko.yamb.domain.models.PlayerRelationship;
+import com.tejko.yamb.domain.models.Role;
+import com.tejko.yamb.domain.models.Score;
+import com.tejko.yamb.domain.repositories.LogRepository;
+import com.tejko.yamb.domain.repositories.PlayerRepository;
+import com.tejko.yamb.domain.repositories.RelationshipRepository;
+import com.tejko.yamb.domain.repositories.RoleRepository;
+import com.tejko.yamb.domain.repositories.ScoreRepository;
+import com.tejko.yamb.util.ApplicationContextProvider;
+
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@ImportAutoConfiguration({ MongoAutoConfiguration.class, MongoDataAutoConfiguration.class })
+@Import(ApplicationContextProvider.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PlayerMergeQueriesTest {
+
+    @Autowired
+    private PlayerRepository playerRepo;
+
+    @Autowired
+    private RoleRepository roleRepo;
+
+    @Autowired
+    private RelationshipRepository relationshipRepo;
+
+    @Autowired
+    private ScoreRepository scoreRepo;
+
+    @Autowired
+    private LogRepository logRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Player parent;
+    private Player firstMerged;
+    private Player secondMerged;
+    private Player friend;
+    private Player other;
+
+    @BeforeEach
+    void setUp() {
+        List<Player> players = transactionTemplate.execute(status -> {
+            Role role = roleRepo.findByLabel("USER").orElseGet(() -> roleRepo.save(Role.getInstance("USER")));
+            return playerRepo.saveAll(Arrays.asList(getPlayer(role), getPlayer(role), getPlayer(role), getPlayer(role), getPlayer(role)));
+        });
+        parent = players.get(0);
+        firstMerged = players.get(1);
+        secondMerged = players.get(2);
+        friend = players.get(3);
+        other = players.get(4);
+    }
+
+    @Test
+    void testMergeRelationships_ParentAndNewestDuplicatesKept() {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> relationshipRepo.saveAll(Arrays.asList(
+            PlayerRelationship.getInstance(parent, friend, RelationshipType.FRIEND),
+            PlayerRelationship.getInstance(friend, firstMerged, RelationshipType.BLOCK),
+            PlayerRelationship.getInstance(firstMerged, other, RelationshipType.FRIEND),
+            PlayerRelationship.getInstance(other, secondMerged, RelationshipType.BLOCK),
+            PlayerRelationship.getInstance(parent, firstMerged, RelationshipType.FRIEND)
+        )));
+        setUpdatedAt(parent, friend, now.minusDays(2));
+        setUpdatedAt(friend, firstMerged, now);
+        setUpdatedAt(firstMerged, other, now.minusDays(1));
+        setUpdatedAt(other, secondMerged, now);
+
+        List<Long> mergedIds = Arrays.asList(firstMerged.getId(), secondMerged.getId());
+        transactionTemplate.executeWithoutResult(status -> {
+            Assertions.assertEquals(1, relationshipRepo.deleteAllWithinMerge(parent.getId(), mergedIds));
+            Assertions.assertEquals(2, relationshipRepo.deleteDuplicatesWithinMerge(parent.getId(), mergedIds));
+            Assertions.assertEquals(1, relationshipRepo.reassignPlayer(parent.getId(), mergedIds)
+                + relationshipRepo.reassignRelatedPlayer(parent.getId(), mergedIds));
+        });
+
+        Assertions.assertEquals("FRIEND", getType(parent, friend));
+        Assertions.assertEquals("BLOCK", getType(other, parent));
+        Assertions.assertEquals(0, countRelationships(firstMerged));
+        Assertions.assertEquals(0, countRelationships(secondMerged));
+        Assertions.assertEquals(2, countRelationships(parent));
+    }
+
+    @Test
+    void testReassignPlayer_ScoresAndLogsMoved() {
+        transactionTemplate.executeWithoutResult(status -> {
+            scoreRepo.saveAll(Arrays.asList(Score.getInstance(firstMerged, 100), Score.getInstance(secondMerged, 200), Score.getInstance(other, 300)));
+            logRepo.saveAll(Arrays.asList(Log.getInstance(firstMerged, "first", null, Level.INFO), Log.getInstance(other, "other", null, Level.INFO)));
+        });
+
+        List<Long> mergedIds = Arrays.asList(firstMerged.getId(), secondMerged.getId());
+        int scores = transactionTemplate.execute(status -> scoreRepo.reassignPlayer(parent.getId(), mergedIds));
+        int logs = transactionTemplate.execute(status -> logRepo.reassignPlayer(parent.getId(), mergedIds));
+
+        Assertions.assertEquals(2, scores);
+        Assertions.assertEquals(1, logs);
+        Assertions.assertEquals(2, scoreRepo.countByPlayerId(parent.getId()));
+        Assertions.assertEquals(0, scoreRepo.countByPlayerId(firstMerged.getId()));
+        Assertions.assertEquals(1, scoreRepo.countByPlayerId(other.getId()));
+        Assertions.assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM log WHERE player_id = ?", Long.class, parent.getId()));
+    }
+
+    @Test
+    void testDeleteAllByIdIn_PlayersAndOwnedRowsRemoved() {
+        transactionTemplate.executeWithoutResult(status -> relationshipRepo.save(PlayerRelationship.getInstance(firstMerged, other, RelationshipType.FRIEND)));
+
+        List<Long> deletedIds = Arrays.asList(firstMerged.getId(), secondMerged.getId());
+        int deleted = transactionTemplate.execute(status -> {
+            relationshipRepo.deleteAllByPlayerIdIn(deletedIds);
+            playerRepo.deleteRolesByPlayerIdIn(deletedIds);
+            playerRepo.deletePreferencesByPlayerIdIn(deletedIds);
+            playerRepo.deleteAvatarsByPlayerIdIn(deletedIds);
+            return playerRepo.deleteAllByIdIn(deletedIds);
+        });
+
+        Assertions.assertEquals(2, deleted);
+        Assertions.assertFalse(playerRepo.existsById(firstMerged.getId()));
+        Assertions.assertTrue(playerRepo.existsById(other.getId()));
+        Assertions.assertEquals(0, countRelationships(other));
+        Assertions.assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM player_role WHERE player_id = ?", Long.class, other.getId()));
+    }
+
+    private Player getPlayer(Role role) {
+        return Player.getInstance(null, "player-" + UUID.randomUUID(), null, new HashSet<>(Collections.singleton(role)));
+    }
+
+    private void setUpdatedAt(Player player, Player relatedPlayer, LocalDateTime updatedAt) {
+        jdbcTemplate.update("UPDATE player_relationship SET updated_at = ? WHERE player_id = ? AND related_player_id = ?",
+            Timestamp.valueOf(updatedAt), player.getId(), relatedPlayer.getId());
+    }
+
+    private String getType(Player player, Player relatedPlayer) {
+        return jdbcTemplate.queryForObject("SELECT type FROM player_relationship WHERE player_id = ? AND related_player_id = ?",
+            String.class, player.getId(), relatedPlayer.getId());
+    }
+
+    private long countRelationships(Player player) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM player_relationship WHERE player_id = ? OR related_player_id = ?",
+            Long.class, player.getId(), player.getId());
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.tejko.yamb.integration;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.tejko.yamb.integration.PostgresQueryPlanTest$SqlRecorder")
+@AutoConfigureEmbeddedDatabase(provider = DatabaseProvider.ZONKY)
+@ImportAutoConfiguration({ MongoAutoConfiguration.class, MongoDataAutoConfiguration.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PostgresQueryPlanTest {
+
+    private static final String REPOSITORY_PACKAGE = "com.tejko.yamb.domain.repositories";
+    private static final Set<String> EXCLUDED_QUERIES = Set.of("TicketRepository.getLatestCode");
+    private static final Pattern WHERE = Pattern.compile("\\bwhere\\b", Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void testRepositoryQueries_IndexBacked() {
+        Map<String, String> seqScans = new LinkedHashMap<>();
+        recordRepositoryQueries().forEach((query, sql) -> {
+            String plan = explain(sql);
+            if (plan.contains("Seq Scan")) {
+                seqScans.put(query, sql + "\n" + plan);
+            }
+        });
+        Assertions.assertTrue(seqScans.isEmpty(), "Queries without an index-backed plan: " + seqScans);
+    }
+
+    private Map<String, String> recordRepositoryQueries() {
+        Map<String, String> sqlByQuery = new LinkedHashMap<>();
+        for (Object repository : context.getBeansOfType(JpaRepository.class).values()) {
+            for (Class<?> repositoryInterface : ClassUtils.getAllInterfaces(repository)) {
+                if (!REPOSITORY_PACKAGE.equals(repositoryInterface.getPackageName())) {
+                    continue;
+                }
+                for (Method method : repositoryInterface.getDeclaredMethods()) {
+                    String query = repositoryInterface.getSimpleName() + "." + method.getName();
+                    if (method.isDefault() || EXCLUDED_QUERIES.contains(query)) {
+                        continue;
+                    }
+                    List<String> statements = record(repository, method);
+                    Assertions.assertFalse(statements.isEmpty(), "No SQL recorded for " + query);
+                    for (int i = 0; i < statements.size(); i++) {
+                        if (WHERE.matcher(statements.get(i)).find()) {
+                            sqlByQuery.put(query + "#" + i, statements.get(i));
+                        }
+                    }
+                }
+            }
+        }
+        return sqlByQuery;
+    }
+
+    private List<String> record(Object repository, Method method) {
+        SqlRecorder.STATEMENTS.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            try {
+                method.invoke(repository, getArguments(method));
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                Assertions.fail("Could not run " + method, e);
+            }
+        });
+        return new ArrayList<>(SqlRecorder.STATEMENTS);
+    }
+
+    private Object[] getArguments(Method method) {
+        Type[] types = method.getGenericParameterTypes();
+        Object[] arguments = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] instanceof ParameterizedType) {
+                Type elementType = ((ParameterizedType) types[i]).getActualTypeArguments()[0];
+                Object element = getArgument((Class<?>) elementType);
+                arguments[i] = Set.class.equals(((ParameterizedType) types[i]).getRawType())
+                    ? Collections.singleton(element)
+                    : Collections.singletonList(element);
+            } else {
+                arguments[i] = getArgument((Class<?>) types[i]);
+            }
+        }
+        return arguments;
+    }
+
+    private Object getArgument(Class<?> type) {
+        if (Long.class.equals(type) || long.class.equals(type)) {
+            return 1L;
+        } else if (Integer.class.equals(type) || int.class.equals(type)) {
+            return 1;
+        } else if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+            return true;
+        } else if (String.class.equals(type)) {
+            return "test";
+        } else if (UUID.class.equals(type)) {
+            return UUID.randomUUID();
+        } else if (LocalDateTime.class.equals(type)) {
+            return LocalDateTime.now();
+        } else if (Pageable.class.equals(type)) {
+            return PageRequest.of(0, 10);
+        } else if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        throw new IllegalArgumentException("Unsupported parameter type " + type);
+    }
+
+    private String explain(String sql) {
+        Matcher matcher = Pattern.compile("\\?").matcher(sql);
+        StringBuilder prepared = new StringBuilder();
+        int parameterCount = 0;
+        while (matcher.find()) {
+            matcher.appendReplacement(prepared, "\\$" + ++parameterCount);
+        }
+        matcher.appendTail(prepared);
+        String[] arguments = new String[parameterCount];
+        Arrays.fill(arguments, "NULL");
+        String execute = parameterCount > 0 ? "EXECUTE plan_check(" + String.join(", ", arguments) + ")" : "EXECUTE plan_check";
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                statement.execute("SET plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE plan_check AS " + prepared);
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery("EXPLAIN " + execute)) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append("\n");
+                    }
+                } finally {
+                    statement.execute("DEALLOCATE plan_check");
+                    statement.execute("RESET enable_seqscan");
+                    statement.execute("RESET plan_cache_mode");
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    public static class SqlRecorder implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.tejko.yamb.integration;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+public class ScorePartitionMigrationTest {
+
+    @Test
+    void testMigrate_LegacyScoresAttachedWithPrebuiltIndexes() throws Exception {
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.start()) {
+            DataSource dataSource = postgres.getPostgresDatabase();
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            getFlyway(dataSource, "1").migrate();
+            Long playerId = jdbcTemplate.queryForObject("INSERT INTO player (external_id, username) VALUES (?, 'legacy') RETURNING id",
+                Long.class, UUID.randomUUID());
+            for (String createdAt : Arrays.asList(null, "2020-01-01 10:00:00", "2024-06-30 23:59:59")) {
+                jdbcTemplate.update("INSERT INTO score (external_id, created_at, player_id, value) VALUES (?, ?::timestamp, ?, 200)",
+                    UUID.randomUUID(), createdAt, playerId);
+            }
+
+            getFlyway(dataSource, "1.1").migrate();
+            List<Long> legacyIndexes = getIndexOids(jdbcTemplate, "score");
+
+            getFlyway(dataSource, "latest").migrate();
+
+            Assertions.assertEquals(4, legacyIndexes.size());
+            Assertions.assertTrue(getIndexOids(jdbcTemplate, "score_legacy").containsAll(legacyIndexes));
+            Assertions.assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM score WHERE player_id = ?", Long.class, playerId));
+            Assertions.assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_index WHERE NOT indisvalid", Long.class));
+            Assertions.assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_constraint WHERE conname = 'chk_score_legacy_created_at'",
+                Long.class));
+            Assertions.assertTrue(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_inherits WHERE inhparent = 'score'::regclass", Long.class) >= 5);
+        }
+    }
+
+    private Flyway getFlyway(DataSource dataSource, String target) {
+        return Flyway.configure().dataSource(dataSource).mixed(true).target(target).load();
+    }
+
+    private List<Long> getIndexOids(JdbcTemplate jdbcTemplate, String table) {
+        return jdbcTemplate.queryForList("SELECT indexrelid::bigint FROM pg_index WHERE indrelid = ?::regclass " +
+            "AND indexrelid::regclass::text LIKE '%legacy%' ORDER BY indexrelid", Long.class, table);
+    }
+
+}
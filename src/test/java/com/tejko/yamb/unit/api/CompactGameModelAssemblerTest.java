@@ -0,0 +1,92 @@
+package com.tejko.yamb.unit.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.modelmapper.ModelMapper;
+
+import com.tejko.yamb.api.assemblers.CompactGameModelAssembler;
+import com.tejko.yamb.api.dto.responses.CompactGameResponse;
+import com.tejko.yamb.api.dto.responses.GameDetailResponse;
+import com.tejko.yamb.domain.enums.BoxType;
+import com.tejko.yamb.domain.enums.ColumnType;
+import com.tejko.yamb.domain.enums.GameType;
+import com.tejko.yamb.domain.models.Game;
+
+public class CompactGameModelAssemblerTest {
+
+    private final ModelMapper modelMapper = Mockito.mock(ModelMapper.class);
+    private final CompactGameModelAssembler compactGameModelAssembler = new CompactGameModelAssembler(modelMapper);
+
+    @Test
+    void testToModel_SheetLayout() {
+        GameDetailResponse gameDetailResponse = getGameDetailResponse();
+        for (GameDetailResponse.Column column : gameDetailResponse.getSheet().getColumns()) {
+            for (GameDetailResponse.Box box : column.getBoxes()) {
+                if (column.getType() == ColumnType.DOWNWARDS && box.getType() == BoxType.ONES) {
+                    box.setValue(3);
+                } else if (column.getType() == ColumnType.ANNOUNCEMENT && box.getType() == BoxType.YAMB) {
+                    box.setValue(0);
+                }
+            }
+        }
+
+        CompactGameResponse compactGameResponse = compactGameModelAssembler.toModel(gameDetailResponse);
+
+        int onesIndex = ColumnType.DOWNWARDS.ordinal() * BoxType.values().length + BoxType.ONES.ordinal();
+        int yambIndex = ColumnType.ANNOUNCEMENT.ordinal() * BoxType.values().length + BoxType.YAMB.ordinal();
+        Assertions.assertEquals(52, compactGameResponse.getValues().length);
+        Assertions.assertEquals(3, compactGameResponse.getValues()[onesIndex]);
+        Assertions.assertEquals(0, compactGameResponse.getValues()[yambIndex]);
+        Assertions.assertEquals((1L << onesIndex) | (1L << yambIndex), compactGameResponse.getFillMask());
+    }
+
+    @Test
+    void testToModel_EmptySheet() {
+        CompactGameResponse compactGameResponse = compactGameModelAssembler.toModel(getGameDetailResponse());
+
+        Assertions.assertEquals(0L, compactGameResponse.getFillMask());
+        Assertions.assertTrue(Arrays.stream(compactGameResponse.getValues()).allMatch(value -> value == 0));
+        Assertions.assertArrayEquals(new int[] {1, 2, 3, 4, 5}, compactGameResponse.getDices());
+        Assertions.assertEquals(-1, compactGameResponse.getAnnouncement());
+        Assertions.assertEquals(-1, compactGameResponse.getLatestColumnFilled());
+    }
+
+    @Test
+    void testToModel_GameMappedWithPlayerId() {
+        Game game = Game.getInstance(UUID.randomUUID(), GameType.NORMAL);
+        GameDetailResponse gameDetailResponse = getGameDetailResponse();
+        Mockito.when(modelMapper.map(game, GameDetailResponse.class)).thenReturn(gameDetailResponse);
+
+        CompactGameResponse compactGameResponse = compactGameModelAssembler.toModel(game);
+
+        Assertions.assertEquals(gameDetailResponse.getId(), compactGameResponse.getId());
+        Assertions.assertEquals(game.getPlayerId(), compactGameResponse.getPlayerId());
+    }
+
+    private GameDetailResponse getGameDetailResponse() {
+        List<GameDetailResponse.Column> columns = new ArrayList<>();
+        for (ColumnType columnType : ColumnType.values()) {
+            List<GameDetailResponse.Box> boxes = new ArrayList<>();
+            for (BoxType boxType : BoxType.values()) {
+                boxes.add(new GameDetailResponse.Box(boxType, null));
+            }
+            columns.add(new GameDetailResponse.Column(columnType, boxes));
+        }
+        List<GameDetailResponse.Dice> dices = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            dices.add(new GameDetailResponse.Dice(i, i + 1));
+        }
+        GameDetailResponse gameDetailResponse = new GameDetailResponse();
+        gameDetailResponse.setId(UUID.randomUUID());
+        gameDetailResponse.setSheet(new GameDetailResponse.Sheet(columns));
+        gameDetailResponse.setDices(dices);
+        return gameDetailResponse;
+    }
+
+}
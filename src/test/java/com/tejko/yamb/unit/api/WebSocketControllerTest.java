@@ -0,0 +1,120 @@
+package com.tejko.yamb.unit.api;
+
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import com.tejko.yamb.api.assemblers.ChatMessageModelAssembler;
+import com.tejko.yamb.api.assemblers.ClashDetailModelAssembler;
+import com.tejko.yamb.api.assemblers.CompactGameModelAssembler;
+import com.tejko.yamb.api.assemblers.PlayerModelAssembler;
+import com.tejko.yamb.api.controllers.WebSocketController;
+import com.tejko.yamb.business.interfaces.ChatService;
+import com.tejko.yamb.business.interfaces.ClashService;
+import com.tejko.yamb.business.interfaces.GameService;
+import com.tejko.yamb.business.interfaces.WebSocketService;
+import com.tejko.yamb.domain.enums.ClashStatus;
+import com.tejko.yamb.domain.enums.ClashType;
+import com.tejko.yamb.domain.enums.GameType;
+import com.tejko.yamb.domain.enums.InvitationStatus;
+import com.tejko.yamb.domain.enums.MessageType;
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.Clash.ClashPlayer;
+import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.domain.repositories.PlayerRepository;
+import com.tejko.yamb.util.ClashEventJournal;
+
+public class WebSocketControllerTest {
+
+    private final UUID playerId = UUID.randomUUID();
+
+    private WebSocketService webSocketService;
+    private ClashService clashService;
+    private GameService gameService;
+    private WebSocketController webSocketController;
+
+    @BeforeEach
+    void setUp() {
+        webSocketService = Mockito.mock(WebSocketService.class);
+        clashService = Mockito.mock(ClashService.class);
+        gameService = Mockito.mock(GameService.class);
+        webSocketController = new WebSocketController(webSocketService, Mockito.mock(PlayerRepository.class), Mockito.mock(PlayerModelAssembler.class), 
+            clashService, gameService, Mockito.mock(ClashDetailModelAssembler.class), Mockito.mock(CompactGameModelAssembler.class), 
+            new ClashEventJournal(10, 10), Mockito.mock(ChatService.class), Mockito.mock(ChatMessageModelAssembler.class));
+    }
+
+    @Test
+    void testSubscribe_UnknownClashNoReplay() {
+        UUID clashId = UUID.randomUUID();
+        Mockito.when(clashService.findByExternalId(clashId)).thenReturn(Optional.empty());
+
+        webSocketController.handleSessionSubscribeEvent(getSubscribeEvent(clashId));
+
+        Mockito.verify(webSocketService, Mockito.never()).convertAndSendToUser(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.eq(MessageType.REPLAY));
+    }
+
+    @Test
+    void testSubscribe_NonParticipantNoReplay() {
+        Clash clash = getClash(UUID.randomUUID());
+        Mockito.when(clashService.findByExternalId(clash.getExternalId())).thenReturn(Optional.of(clash));
+
+        webSocketController.handleSessionSubscribeEvent(getSubscribeEvent(clash.getExternalId()));
+
+        Mockito.verify(webSocketService, Mockito.never()).convertAndSendToUser(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.eq(MessageType.REPLAY));
+    }
+
+    @Test
+    void testSubscribe_ParticipantReceivesReplay() {
+        Clash clash = getClash(playerId);
+        Mockito.when(clashService.findByExternalId(clash.getExternalId())).thenReturn(Optional.of(clash));
+
+        webSocketController.handleSessionSubscribeEvent(getSubscribeEvent(clash.getExternalId()));
+
+        Mockito.verify(webSocketService).convertAndSendToUser(ArgumentMatchers.eq(playerId), ArgumentMatchers.any(), ArgumentMatchers.eq(MessageType.REPLAY));
+    }
+
+    @Test
+    void testSubscribe_TrackedClashReplayedWithoutReload() {
+        Clash clash = getClash(playerId);
+        Game game = Game.getInstance(playerId, GameType.CLASH);
+        clash.getPlayers().get(0).setGameId(game.getExternalId());
+        clash.getPlayers().get(1).setGameId(null);
+        Mockito.when(clashService.findByExternalId(clash.getExternalId())).thenReturn(Optional.of(clash));
+        Mockito.when(gameService.findAllByExternalIds(Collections.singleton(game.getExternalId()))).thenReturn(Collections.singletonList(game));
+
+        webSocketController.handleSessionSubscribeEvent(getSubscribeEvent(clash.getExternalId()));
+        webSocketController.handleSessionSubscribeEvent(getSubscribeEvent(clash.getExternalId()));
+
+        Mockito.verify(clashService, Mockito.times(1)).findByExternalId(clash.getExternalId());
+        Mockito.verify(gameService, Mockito.times(1)).findAllByExternalIds(ArgumentMatchers.anySet());
+        Mockito.verify(webSocketService, Mockito.times(2)).convertAndSendToUser(ArgumentMatchers.eq(playerId), ArgumentMatchers.any(), ArgumentMatchers.eq(MessageType.REPLAY));
+    }
+
+    private SessionSubscribeEvent getSubscribeEvent(UUID clashId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination("/topic/clashes/" + clashId);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        Principal principal = () -> playerId.toString();
+        return new SessionSubscribeEvent(this, message, principal);
+    }
+
+    private Clash getClash(UUID participantId) {
+        return Clash.getInstance(null, UUID.randomUUID(), null, null, "clash", participantId, 0,
+            Arrays.asList(ClashPlayer.getInstance(participantId, UUID.randomUUID(), InvitationStatus.ACCEPTED, null),
+                ClashPlayer.getInstance(UUID.randomUUID(), UUID.randomUUID(), InvitationStatus.ACCEPTED, null)),
+            null, null, ClashType.LIVE, ClashStatus.IN_PROGRESS);
+    }
+
+}
@@ -0,0 +1,204 @@
+package com.tejko.yamb.unit.business;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tejko.yamb.business.services.ChatServiceImpl;
+import com.tejko.yamb.domain.exceptions.ResourceLockedException;
+import com.tejko.yamb.domain.enums.ClashStatus;
+import com.tejko.yamb.domain.enums.ClashType;
+import com.tejko.yamb.domain.enums.InvitationStatus;
+import com.tejko.yamb.domain.models.ChatMessage;
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.Clash.ClashPlayer;
+import com.tejko.yamb.domain.models.Player;
+import com.tejko.yamb.domain.repositories.ChatMessageRepository;
+import com.tejko.yamb.domain.repositories.ClashRepository;
+import com.tejko.yamb.util.ClashEventJournal;
+
+public class ChatServiceImplTest {
+
+    private final UUID playerId = UUID.randomUUID();
+
+    private ChatMessageRepository chatMessageRepo;
+    private ClashRepository clashRepo;
+    private ClashEventJournal clashEventJournal;
+    private ChatServiceImpl chatService;
+    private Clash clash;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageRepo = Mockito.mock(ChatMessageRepository.class);
+        clashRepo = Mockito.mock(ClashRepository.class);
+        clashEventJournal = new ClashEventJournal(10, 10);
+        chatService = new ChatServiceImpl(chatMessageRepo, clashRepo, clashEventJournal, 2, 4);
+        ReflectionTestUtils.setField(chatService, "historySize", 3);
+        ReflectionTestUtils.setField(chatService, "flushBatchSize", 10);
+        clash = Clash.getInstance(null, UUID.randomUUID(), null, null, "clash", playerId, 0,
+            Arrays.asList(ClashPlayer.getInstance(playerId, UUID.randomUUID(), InvitationStatus.ACCEPTED, null),
+                ClashPlayer.getInstance(UUID.randomUUID(), UUID.randomUUID(), InvitationStatus.ACCEPTED, null)),
+            null, null, ClashType.LIVE, ClashStatus.IN_PROGRESS);
+        Mockito.when(clashRepo.findByExternalId(ArgumentMatchers.any())).thenReturn(Optional.empty());
+        Mockito.when(clashRepo.findByExternalId(clash.getExternalId())).thenReturn(Optional.of(clash));
+        Mockito.when(chatMessageRepo.findAllByChannelOrderByCreatedAtDescIdDesc(ArgumentMatchers.anyString(), ArgumentMatchers.any()))
+            .thenReturn(Collections.emptyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testGetRecentByChannel_RingsBounded() {
+        chatService.getRecentByChannel("a");
+        chatService.getRecentByChannel("a");
+        chatService.getRecentByChannel("b");
+        chatService.getRecentByChannel("c");
+        chatService.getRecentByChannel("a");
+
+        Mockito.verify(chatMessageRepo, Mockito.times(2)).findAllByChannelOrderByCreatedAtDescIdDesc(ArgumentMatchers.eq("a"), ArgumentMatchers.any());
+    }
+
+    @Test
+    void testCreate_RingKeepsLatestMessages() {
+        for (int i = 0; i < 5; i++) {
+            chatService.create(ChatMessage.PUBLIC_CHANNEL, playerId, "message-" + i);
+        }
+
+        List<ChatMessage> recent = chatService.getRecentByChannel(ChatMessage.PUBLIC_CHANNEL);
+        Assertions.assertEquals(3, recent.size());
+        Assertions.assertEquals("message-2", recent.get(0).getContent());
+    }
+
+    @Test
+    void testGetRecentByChannel_ReloadedRingIncludesPendingMessages() {
+        chatService.create("a", playerId, "pending");
+        chatService.getRecentByChannel("b");
+        chatService.getRecentByChannel("c");
+
+        List<ChatMessage> recent = chatService.getRecentByChannel("a");
+        Assertions.assertEquals(1, recent.size());
+        Assertions.assertEquals("pending", recent.get(0).getContent());
+    }
+
+    @Test
+    void testCanAccess() {
+        Assertions.assertTrue(chatService.canAccess(ChatMessage.PUBLIC_CHANNEL, UUID.randomUUID()));
+        Assertions.assertTrue(chatService.canAccess(clash.getExternalId().toString(), playerId));
+        Assertions.assertFalse(chatService.canAccess(clash.getExternalId().toString(), UUID.randomUUID()));
+        Assertions.assertFalse(chatService.canAccess(UUID.randomUUID().toString(), playerId));
+        Assertions.assertFalse(chatService.canAccess("lobby", playerId));
+    }
+
+    @Test
+    void testCanAccess_TrackedClashResolvedWithoutRepository() {
+        clashEventJournal.track(clash);
+
+        Assertions.assertTrue(chatService.canAccess(clash.getExternalId().toString(), playerId));
+        Assertions.assertFalse(chatService.canAccess(clash.getExternalId().toString(), UUID.randomUUID()));
+
+        Mockito.verify(clashRepo, Mockito.never()).findByExternalId(clash.getExternalId());
+    }
+
+    @Test
+    void testGetHistoryByChannel_NonParticipantDenied() {
+        authenticate(UUID.randomUUID());
+
+        Assertions.assertThrows(AccessDeniedException.class, 
+            () -> chatService.getHistoryByChannel(clash.getExternalId().toString(), null, null, 10));
+    }
+
+    @Test
+    void testGetHistoryByChannel_PagesOnCreatedAtAndId() {
+        authenticate(playerId);
+        LocalDateTime before = LocalDateTime.now();
+        ObjectId beforeId = new ObjectId();
+
+        chatService.getHistoryByChannel(clash.getExternalId().toString(), before, beforeId.toHexString(), 10);
+
+        Mockito.verify(chatMessageRepo).findAllByChannelBefore(ArgumentMatchers.eq(clash.getExternalId().toString()), ArgumentMatchers.eq(before), 
+            ArgumentMatchers.eq(beforeId), ArgumentMatchers.any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFlush_InsertsPendingOnce() {
+        List<List<ChatMessage>> batches = new ArrayList<>();
+        Mockito.when(chatMessageRepo.insert(ArgumentMatchers.<Iterable<ChatMessage>>any())).thenAnswer(invocation -> {
+            batches.add(new ArrayList<>((List<ChatMessage>) invocation.getArgument(0)));
+            return invocation.getArgument(0);
+        });
+        chatService.create(ChatMessage.PUBLIC_CHANNEL, playerId, "first");
+        chatService.create(ChatMessage.PUBLIC_CHANNEL, playerId, "second");
+
+        chatService.flush();
+        chatService.shutdown();
+
+        Assertions.assertEquals(1, batches.size());
+        Assertions.assertEquals(2, batches.get(0).size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFlush_FailedBatchRetried() {
+        List<List<ChatMessage>> batches = new ArrayList<>();
+        Mockito.when(chatMessageRepo.insert(ArgumentMatchers.<Iterable<ChatMessage>>any()))
+            .thenThrow(new DataAccessResourceFailureException("down"))
+            .thenAnswer(invocation -> {
+                batches.add(new ArrayList<>((List<ChatMessage>) invocation.getArgument(0)));
+                return invocation.getArgument(0);
+            });
+        chatService.create(ChatMessage.PUBLIC_CHANNEL, playerId, "first");
+        chatService.create(ChatMessage.PUBLIC_CHANNEL, playerId, "second");
+
+        chatService.flush();
+        chatService.flush();
+
+        Assertions.assertEquals(1, batches.size());
+        Assertions.assertEquals(Arrays.asList("first", "second"), batches.get(0).stream().map(ChatMessage::getContent).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testCreate_FullQueueFlushedOrRejected() {
+        for (int i = 0; i < 5; i++) {
+            chatService.create(ChatMessage.PUBLIC_CHANNEL, playerId, "message-" + i);
+        }
+        Mockito.verify(chatMessageRepo).insert(ArgumentMatchers.<Iterable<ChatMessage>>any());
+
+        Mockito.when(chatMessageRepo.insert(ArgumentMatchers.<Iterable<ChatMessage>>any())).thenThrow(new DataAccessResourceFailureException("down"));
+        for (int i = 0; i < 3; i++) {
+            chatService.create(ChatMessage.PUBLIC_CHANNEL, playerId, "pending-" + i);
+        }
+
+        Assertions.assertThrows(ResourceLockedException.class, () -> chatService.create(ChatMessage.PUBLIC_CHANNEL, playerId, "rejected"));
+        Assertions.assertFalse(chatService.getRecentByChannel(ChatMessage.PUBLIC_CHANNEL).stream()
+            .anyMatch(message -> "rejected".equals(message.getContent())));
+    }
+
+    private void authenticate(UUID externalId) {
+        Player player = Mockito.mock(Player.class);
+        Mockito.when(player.getExternalId()).thenReturn(externalId);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(player, null, Collections.emptyList()));
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.tejko.yamb.unit.business;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.client.result.UpdateResult;
+import com.tejko.yamb.business.services.ClashInboxServiceImpl;
+import com.tejko.yamb.domain.enums.ClashStatus;
+import com.tejko.yamb.domain.enums.ClashType;
+import com.tejko.yamb.domain.enums.InvitationStatus;
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.Clash.ClashPlayer;
+import com.tejko.yamb.domain.models.ClashInboxEntry;
+import com.tejko.yamb.domain.repositories.ClashInboxRepository;
+import com.tejko.yamb.domain.repositories.ClashRepository;
+import com.tejko.yamb.domain.repositories.PlayerRepository;
+
+public class ClashInboxServiceImplTest {
+
+    private ClashInboxRepository clashInboxRepo;
+    private PlayerRepository playerRepo;
+    private MongoTemplate mongoTemplate;
+    private ClashInboxServiceImpl clashInboxService;
+    private Clash clash;
+
+    @BeforeEach
+    void setUp() {
+        clashInboxRepo = Mockito.mock(ClashInboxRepository.class);
+        playerRepo = Mockito.mock(PlayerRepository.class);
+        mongoTemplate = Mockito.mock(MongoTemplate.class);
+        clashInboxService = new ClashInboxServiceImpl(clashInboxRepo, Mockito.mock(ClashRepository.class), playerRepo, mongoTemplate);
+        Mockito.when(playerRepo.findAllByExternalIdIn(ArgumentMatchers.anySet())).thenReturn(new ArrayList<>());
+        UUID ownerId = UUID.randomUUID();
+        clash = Clash.getInstance(null, UUID.randomUUID(), null, null, "clash", ownerId, 0,
+            Arrays.asList(ClashPlayer.getInstance(ownerId, UUID.randomUUID(), InvitationStatus.ACCEPTED, null),
+                ClashPlayer.getInstance(UUID.randomUUID(), UUID.randomUUID(), InvitationStatus.ACCEPTED, null)),
+            null, null, ClashType.LIVE, ClashStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void testUpdate_TurnChangeOnlyUpdatesInPlace() {
+        mockMatched(clash.getPlayers().size());
+
+        clashInboxService.update(clash);
+
+        Mockito.verifyNoInteractions(playerRepo);
+        Mockito.verifyNoInteractions(clashInboxRepo);
+    }
+
+    @Test
+    void testUpdate_MembershipChangeRebuildsEntries() {
+        mockMatched(0);
+
+        clashInboxService.update(clash);
+
+        Mockito.verify(playerRepo).findAllByExternalIdIn(ArgumentMatchers.anySet());
+        Mockito.verify(clashInboxRepo).saveAll(ArgumentMatchers.anyIterable());
+        Mockito.verify(clashInboxRepo).deleteAllByClashIdAndPlayerIdNotIn(ArgumentMatchers.eq(clash.getExternalId()), ArgumentMatchers.anyCollection());
+    }
+
+    @Test
+    void testGenerateSignature() {
+        String signature = ClashInboxEntry.generateSignature(clash);
+        clash.advanceTurn();
+        Assertions.assertEquals(signature, ClashInboxEntry.generateSignature(clash));
+
+        clash.getPlayers().get(1).setStatus(InvitationStatus.DECLINED);
+        Assertions.assertNotEquals(signature, ClashInboxEntry.generateSignature(clash));
+    }
+
+    @Test
+    void testGetByPlayerExternalId_PagesOnUpdatedAtAndId() {
+        UUID playerId = UUID.randomUUID();
+        LocalDateTime before = LocalDateTime.now();
+
+        clashInboxService.getByPlayerExternalId(playerId, before, "clash:player", 10);
+
+        Mockito.verify(clashInboxRepo).findAllByPlayerIdBefore(ArgumentMatchers.eq(playerId), ArgumentMatchers.eq(before), 
+            ArgumentMatchers.eq("clash:player"), ArgumentMatchers.any());
+    }
+
+    private void mockMatched(long matched) {
+        Mockito.when(mongoTemplate.updateMulti(ArgumentMatchers.any(Query.class), ArgumentMatchers.any(Update.class), ArgumentMatchers.eq(ClashInboxEntry.class)))
+            .thenReturn(UpdateResult.acknowledged(matched, matched, null));
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.tejko.yamb.unit.business;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.mongodb.client.result.DeleteResult;
+import com.tejko.yamb.business.services.ClashServiceImpl;
+import com.tejko.yamb.domain.enums.ClashStatus;
+import com.tejko.yamb.domain.enums.ClashType;
+import com.tejko.yamb.domain.enums.InvitationStatus;
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.Clash.ClashPlayer;
+import com.tejko.yamb.domain.repositories.ClashInboxRepository;
+import com.tejko.yamb.domain.repositories.ClashRepository;
+import com.tejko.yamb.domain.repositories.ClashSummaryRepository;
+import com.tejko.yamb.domain.repositories.GameRepository;
+import com.tejko.yamb.domain.repositories.NotificationRepository;
+import com.tejko.yamb.domain.repositories.PlayerRepository;
+import com.tejko.yamb.util.ClashEventJournal;
+import com.tejko.yamb.util.ClashTurnCache;
+
+public class ClashServiceImplTest {
+
+    private MongoTemplate mongoTemplate;
+    private ClashInboxRepository clashInboxRepo;
+    private ClashEventJournal clashEventJournal;
+    private ClashTurnCache clashTurnCache;
+    private ClashServiceImpl clashService;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = Mockito.mock(MongoTemplate.class);
+        clashInboxRepo = Mockito.mock(ClashInboxRepository.class);
+        clashEventJournal = Mockito.mock(ClashEventJournal.class);
+        clashTurnCache = Mockito.mock(ClashTurnCache.class);
+        clashService = new ClashServiceImpl(Mockito.mock(ClashRepository.class), Mockito.mock(ClashSummaryRepository.class),
+            Mockito.mock(GameRepository.class), Mockito.mock(PlayerRepository.class), Mockito.mock(NotificationRepository.class),
+            clashEventJournal, clashTurnCache, clashInboxRepo, mongoTemplate);
+    }
+
+    @Test
+    void testDeleteAll_DeletesInBatches() {
+        List<Clash> firstBatch = getClashes(500);
+        List<Clash> secondBatch = getClashes(3);
+        Mockito.when(mongoTemplate.find(ArgumentMatchers.any(Query.class), ArgumentMatchers.eq(Clash.class), ArgumentMatchers.eq("clashes")))
+            .thenReturn(firstBatch)
+            .thenReturn(secondBatch);
+        Mockito.when(mongoTemplate.remove(ArgumentMatchers.any(Query.class), ArgumentMatchers.eq(Clash.class)))
+            .thenReturn(DeleteResult.acknowledged(500))
+            .thenReturn(DeleteResult.acknowledged(3));
+
+        long deleted = clashService.deleteAll(ClashStatus.COMPLETED, null, null);
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        Mockito.verify(mongoTemplate, Mockito.times(2)).find(queries.capture(), ArgumentMatchers.eq(Clash.class), ArgumentMatchers.eq("clashes"));
+        Assertions.assertEquals(503, deleted);
+        Assertions.assertFalse(queries.getAllValues().get(0).getQueryObject().containsKey("id"));
+        Assertions.assertEquals(new ObjectId(firstBatch.get(499).getId()),
+            queries.getAllValues().get(1).getQueryObject().get("id", Document.class).get("$gt"));
+        Mockito.verify(clashInboxRepo, Mockito.times(2)).deleteAllByClashIdIn(ArgumentMatchers.anyList());
+        Mockito.verify(clashEventJournal, Mockito.times(503)).evict(ArgumentMatchers.any(Clash.class));
+        Mockito.verify(clashTurnCache, Mockito.times(503)).evict(ArgumentMatchers.any(Clash.class));
+    }
+
+    private List<Clash> getClashes(int count) {
+        List<Clash> clashes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            UUID ownerId = UUID.randomUUID();
+            clashes.add(Clash.getInstance(new ObjectId().toHexString(), UUID.randomUUID(), null, null, "clash", ownerId, 0,
+                Arrays.asList(ClashPlayer.getInstance(ownerId, UUID.randomUUID(), InvitationStatus.ACCEPTED, null),
+                    ClashPlayer.getInstance(UUID.randomUUID(), UUID.randomUUID(), InvitationStatus.ACCEPTED, null)),
+                null, null, ClashType.LIVE, ClashStatus.COMPLETED));
+        }
+        return clashes;
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.tejko.yamb.unit.business;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tejko.yamb.business.services.LeaderboardServiceImpl;
+import com.tejko.yamb.domain.models.GlobalScoreStats;
+import com.tejko.yamb.domain.models.Player;
+import com.tejko.yamb.domain.models.Score;
+import com.tejko.yamb.domain.repositories.ScoreRepository;
+
+public class LeaderboardServiceImplTest {
+
+    private ScoreRepository scoreRepo;
+    private LeaderboardServiceImpl leaderboardService;
+    private Player first;
+    private Player second;
+    private List<Score> scores;
+
+    @BeforeEach
+    void setUp() {
+        scoreRepo = Mockito.mock(ScoreRepository.class);
+        leaderboardService = new LeaderboardServiceImpl(scoreRepo);
+        ReflectionTestUtils.setField(leaderboardService, "size", 2);
+        ReflectionTestUtils.setField(leaderboardService, "maxScore", 2000);
+        first = getPlayer(1L);
+        second = getPlayer(2L);
+        scores = new ArrayList<>(Arrays.asList(getScore(1L, first, 100), getScore(2L, second, 200), getScore(3L, first, 300)));
+
+        Mockito.when(scoreRepo.count()).thenAnswer(invocation -> (long) scores.size());
+        Mockito.when(scoreRepo.findTotalValue()).thenAnswer(invocation -> scores.stream().mapToLong(Score::getValue).sum());
+        Mockito.when(scoreRepo.countByValue()).thenAnswer(invocation -> scores.stream()
+            .map(score -> new Object[] { score.getValue(), 1L })
+            .collect(Collectors.toList()));
+        Mockito.when(scoreRepo.findTopEntries(ArgumentMatchers.any(Pageable.class))).thenAnswer(invocation -> getTopEntries());
+        Mockito.when(scoreRepo.findTopEntriesSince(ArgumentMatchers.any(LocalDateTime.class), ArgumentMatchers.any(Pageable.class)))
+            .thenAnswer(invocation -> getTopEntries());
+        Mockito.when(scoreRepo.findAllWithPlayerByIdIn(ArgumentMatchers.anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return scores.stream().filter(score -> ids.contains(score.getId())).collect(Collectors.toList());
+        });
+        leaderboardService.reload();
+    }
+
+    @Test
+    void testRemove_BoardRefilledWithoutReload() {
+        Score removed = scores.remove(2);
+
+        leaderboardService.remove(removed);
+        GlobalScoreStats stats = leaderboardService.getGlobalStats();
+
+        Mockito.verify(scoreRepo, Mockito.times(1)).count();
+        Mockito.verify(scoreRepo, Mockito.times(1)).countByValue();
+        Assertions.assertEquals(2, stats.getScoreCount());
+        Assertions.assertEquals(150, stats.getAverageScore());
+        Assertions.assertEquals(Arrays.asList(2L, 1L), getIds(stats.getTopAllTime()));
+        Assertions.assertEquals(Arrays.asList(2L, 1L), getIds(stats.getTopToday()));
+    }
+
+    @Test
+    void testGetGlobalStats_PlayersResolvedOnRead() {
+        Player renamed = getPlayer(1L);
+        scores.set(2, getScore(3L, renamed, 300));
+
+        GlobalScoreStats stats = leaderboardService.getGlobalStats();
+
+        Assertions.assertSame(renamed, stats.getHighScore().getPlayer());
+    }
+
+    @Test
+    void testRemovePlayerScores_OtherPlayersKept() {
+        scores.removeIf(score -> score.getPlayer() == first);
+
+        leaderboardService.removePlayerScores(first.getId(), Map.of(100, 1L, 300, 1L));
+        GlobalScoreStats stats = leaderboardService.getGlobalStats();
+
+        Mockito.verify(scoreRepo, Mockito.times(1)).count();
+        Assertions.assertEquals(1, stats.getScoreCount());
+        Assertions.assertEquals(200, stats.getAverageScore());
+        Assertions.assertEquals(Collections.singletonList(2L), getIds(stats.getTopAllTime()));
+    }
+
+    private List<Object[]> getTopEntries() {
+        return scores.stream()
+            .sorted((a, b) -> Integer.compare(b.getValue(), a.getValue()))
+            .limit(2)
+            .map(score -> new Object[] { score.getId(), score.getPlayer().getId(), score.getValue(), score.getCreatedAt() })
+            .collect(Collectors.toList());
+    }
+
+    private List<Long> getIds(List<Score> scores) {
+        return scores.stream().map(Score::getId).collect(Collectors.toList());
+    }
+
+    private Player getPlayer(Long id) {
+        Player player = Player.getInstance(null, "player-" + id, null, Collections.emptySet());
+        ReflectionTestUtils.setField(player, "id", id);
+        return player;
+    }
+
+    private Score getScore(Long id, Player player, int value) {
+        Score score = Score.getInstance(player, value);
+        ReflectionTestUtils.setField(score, "id", id);
+        return score;
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.tejko.yamb.unit.domain.converters;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.tejko.yamb.domain.converters.ClashReadingConverter;
+import com.tejko.yamb.domain.converters.ClashWritingConverter;
+import com.tejko.yamb.domain.enums.ClashType;
+import com.tejko.yamb.domain.enums.InvitationStatus;
+import com.tejko.yamb.domain.models.Clash;
+
+public class ClashConverterTest {
+
+    @Test
+    void testConverters_RoundTrip() {
+        UUID ownerId = UUID.randomUUID();
+        UUID gameId = UUID.randomUUID();
+        Clash clash = Clash.getInstance("clash", ownerId, new HashSet<>(Arrays.asList(ownerId, UUID.randomUUID())), ClashType.LIVE);
+        clash.getPlayer(ownerId).setGameId(gameId);
+
+        Document document = new ClashWritingConverter().convert(clash);
+        Clash read = new ClashReadingConverter().convert(document);
+
+        Assertions.assertEquals(ownerId, document.getList("players", Document.class).stream()
+            .filter(player -> gameId.equals(player.get("gameId"))).findFirst().get().get("_id"));
+        Assertions.assertEquals(clash.getExternalId(), read.getExternalId());
+        Assertions.assertEquals(clash.getPlayerHash(), read.getPlayerHash());
+        Assertions.assertEquals(clash.getStatus(), read.getStatus());
+        Assertions.assertTrue(read.isActive());
+        Assertions.assertEquals(gameId, read.getPlayer(ownerId).getGameId());
+        Assertions.assertEquals(InvitationStatus.ACCEPTED, read.getPlayer(ownerId).getStatus());
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.tejko.yamb.unit.domain.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.tejko.yamb.domain.enums.ClashStatus;
+import com.tejko.yamb.domain.enums.ClashType;
+import com.tejko.yamb.domain.enums.InvitationStatus;
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.Clash.ClashPlayer;
+
+public class ClashTest {
+
+    @Test
+    void testCopy_IndependentOfOriginal() {
+        UUID ownerId = UUID.randomUUID();
+        Clash clash = Clash.getInstance("id", UUID.randomUUID(), null, null, "clash", ownerId, 0,
+            Arrays.asList(ClashPlayer.getInstance(ownerId, UUID.randomUUID(), InvitationStatus.ACCEPTED, null),
+                ClashPlayer.getInstance(UUID.randomUUID(), UUID.randomUUID(), InvitationStatus.ACCEPTED, null)),
+            "hash", null, ClashType.LIVE, ClashStatus.IN_PROGRESS);
+
+        Clash copy = clash.copy();
+        copy.getPlayers().get(0).setScore(100);
+        copy.advanceTurn();
+
+        Assertions.assertEquals(clash.getId(), copy.getId());
+        Assertions.assertEquals(clash.getExternalId(), copy.getExternalId());
+        Assertions.assertEquals(1, copy.getTurn());
+        Assertions.assertEquals(0, clash.getTurn());
+        Assertions.assertNull(clash.getPlayers().get(0).getScore());
+    }
+
+    @Test
+    void testMergePlayers_SharedClashDeduplicated() {
+        UUID parentId = UUID.randomUUID();
+        UUID mergedId = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        Clash clash = Clash.getInstance("id", UUID.randomUUID(), null, null, "clash", mergedId, 2,
+            new ArrayList<>(Arrays.asList(ClashPlayer.getInstance(mergedId, UUID.randomUUID(), InvitationStatus.ACCEPTED, null),
+                ClashPlayer.getInstance(parentId, UUID.randomUUID(), InvitationStatus.ACCEPTED, null),
+                ClashPlayer.getInstance(otherId, UUID.randomUUID(), InvitationStatus.ACCEPTED, null))),
+            null, null, ClashType.LIVE, ClashStatus.IN_PROGRESS);
+
+        clash.mergePlayers(parentId, Collections.singletonList(mergedId));
+
+        Assertions.assertEquals(2, clash.getPlayers().size());
+        Assertions.assertEquals(parentId, clash.getPlayers().get(0).getId());
+        Assertions.assertEquals(otherId, clash.getPlayers().get(clash.getTurn()).getId());
+        Assertions.assertEquals(parentId, clash.getOwnerId());
+        Assertions.assertEquals(Clash.generatePlayerHash(Set.of(parentId, otherId)), clash.getPlayerHash());
+    }
+
+    @Test
+    void testMergePlayers_MergedPlayerRenamed() {
+        UUID parentId = UUID.randomUUID();
+        UUID mergedId = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        UUID gameId = UUID.randomUUID();
+        Clash clash = Clash.getInstance("id", UUID.randomUUID(), null, null, "clash", otherId, 1,
+            new ArrayList<>(Arrays.asList(ClashPlayer.getInstance(otherId, UUID.randomUUID(), InvitationStatus.ACCEPTED, null),
+                ClashPlayer.getInstance(mergedId, gameId, InvitationStatus.ACCEPTED, null))),
+            null, mergedId, ClashType.LIVE, ClashStatus.COMPLETED);
+
+        clash.mergePlayers(parentId, Collections.singletonList(mergedId));
+
+        Assertions.assertEquals(parentId, clash.getPlayers().get(clash.getTurn()).getId());
+        Assertions.assertEquals(gameId, clash.getPlayer(parentId).getGameId());
+        Assertions.assertEquals(parentId, clash.getWinnerId());
+        Assertions.assertEquals(Clash.generatePlayerHash(Set.of(parentId, otherId)), clash.getPlayerHash());
+    }
+
+}
@@ -262,4 +262,15 @@ public class GameTest {
             game.archive();
         });
     }
+
+    @Test
+    public void testDerivedFields() {
+        game.roll(DICE_TO_ROLL);
+        game.fill(ColumnType.DOWNWARDS, BoxType.ONES);
+
+        assertEquals(1L << (ColumnType.DOWNWARDS.ordinal() * BoxType.values().length + BoxType.ONES.ordinal()), game.getFilledMask());
+        assertEquals(1 / 52.0f, game.getProgress());
+        assertEquals(game.getTopSectionSum() + game.getMiddleSectionSum() + game.getBottomSectionSum(), game.getTotalSum());
+    }
+
 }
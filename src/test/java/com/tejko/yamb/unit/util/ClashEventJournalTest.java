@@ -0,0 +1,110 @@
+package com.tejko.yamb.unit.util;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.tejko.yamb.domain.enums.ClashStatus;
+import com.tejko.yamb.domain.enums.ClashType;
+import com.tejko.yamb.domain.enums.InvitationStatus;
+import com.tejko.yamb.domain.enums.MessageType;
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.Clash.ClashPlayer;
+import com.tejko.yamb.domain.models.ClashEvent;
+import com.tejko.yamb.util.ClashEventJournal;
+
+public class ClashEventJournalTest {
+
+    private final UUID playerId = UUID.randomUUID();
+    private final UUID gameId = UUID.randomUUID();
+
+    @Test
+    void testRecord_UntrackedClashIgnored() {
+        ClashEventJournal clashEventJournal = new ClashEventJournal(10, 10);
+        UUID clashId = UUID.randomUUID();
+
+        clashEventJournal.record(clashId, ClashEvent.getInstance(MessageType.REACTION, playerId, null, "hi"));
+
+        Assertions.assertTrue(clashEventJournal.getEvents(clashId).isEmpty());
+    }
+
+    @Test
+    void testRecord_OnlyParticipants() {
+        ClashEventJournal clashEventJournal = new ClashEventJournal(10, 10);
+        Clash clash = getClash(ClashStatus.IN_PROGRESS);
+        clashEventJournal.track(clash);
+
+        clashEventJournal.record(clash.getExternalId(), ClashEvent.getInstance(MessageType.REACTION, playerId, null, "hi"));
+        clashEventJournal.record(clash.getExternalId(), ClashEvent.getInstance(MessageType.REACTION, UUID.randomUUID(), null, "spam"));
+        clashEventJournal.recordGameEvent(gameId, ClashEvent.getInstance(MessageType.GAME, playerId, gameId, "game"));
+
+        Assertions.assertEquals(2, clashEventJournal.getEvents(clash.getExternalId()).size());
+    }
+
+    @Test
+    void testRecord_JournalSizeBounded() {
+        ClashEventJournal clashEventJournal = new ClashEventJournal(3, 10);
+        Clash clash = getClash(ClashStatus.IN_PROGRESS);
+        clashEventJournal.track(clash);
+
+        for (int i = 0; i < 5; i++) {
+            clashEventJournal.record(clash.getExternalId(), ClashEvent.getInstance(MessageType.REACTION, playerId, null, i));
+        }
+
+        Assertions.assertEquals(3, clashEventJournal.getEvents(clash.getExternalId()).size());
+        Assertions.assertEquals(2, clashEventJournal.getEvents(clash.getExternalId()).get(0).getContent());
+    }
+
+    @Test
+    void testTrack_EvictsLeastRecentlyUsedClash() {
+        ClashEventJournal clashEventJournal = new ClashEventJournal(10, 2);
+        Clash first = getClash(ClashStatus.IN_PROGRESS);
+        Clash second = getClash(ClashStatus.IN_PROGRESS);
+        Clash third = getClash(ClashStatus.IN_PROGRESS);
+
+        clashEventJournal.track(first);
+        clashEventJournal.record(first.getExternalId(), ClashEvent.getInstance(MessageType.REACTION, playerId, null, "first"));
+        clashEventJournal.track(second);
+        clashEventJournal.track(third);
+        clashEventJournal.record(first.getExternalId(), ClashEvent.getInstance(MessageType.REACTION, playerId, null, "again"));
+
+        Assertions.assertTrue(clashEventJournal.getEvents(first.getExternalId()).isEmpty());
+    }
+
+    @Test
+    void testTrack_CompletedClashEvicted() {
+        ClashEventJournal clashEventJournal = new ClashEventJournal(10, 10);
+        Clash clash = getClash(ClashStatus.IN_PROGRESS);
+        clashEventJournal.track(clash);
+        clashEventJournal.record(clash.getExternalId(), ClashEvent.getInstance(MessageType.REACTION, playerId, null, "hi"));
+
+        clash.setStatus(ClashStatus.COMPLETED);
+        clashEventJournal.track(clash);
+        clashEventJournal.recordGameEvent(gameId, ClashEvent.getInstance(MessageType.GAME, playerId, gameId, "game"));
+
+        Assertions.assertTrue(clashEventJournal.getEvents(clash.getExternalId()).isEmpty());
+    }
+
+    @Test
+    void testSeedGameEvent_RecordedGameStateKept() {
+        ClashEventJournal clashEventJournal = new ClashEventJournal(10, 10);
+        Clash clash = getClash(ClashStatus.IN_PROGRESS);
+        clashEventJournal.track(clash);
+
+        clashEventJournal.recordGameEvent(gameId, ClashEvent.getInstance(MessageType.GAME, playerId, gameId, "live"));
+        clashEventJournal.seedGameEvent(clash.getExternalId(), ClashEvent.getInstance(MessageType.GAME, playerId, gameId, "stored"));
+
+        Assertions.assertSame(clash, clashEventJournal.getClash(clash.getExternalId()).get());
+        Assertions.assertEquals("live", clashEventJournal.getGameEvents(clash.getExternalId()).get(gameId).getContent());
+    }
+
+    private Clash getClash(ClashStatus status) {
+        return Clash.getInstance(null, UUID.randomUUID(), null, null, "clash", playerId, 0,
+            Arrays.asList(ClashPlayer.getInstance(playerId, gameId, InvitationStatus.ACCEPTED, null),
+                ClashPlayer.getInstance(UUID.randomUUID(), UUID.randomUUID(), InvitationStatus.ACCEPTED, null)),
+            null, null, ClashType.LIVE, status);
+    }
+
+}
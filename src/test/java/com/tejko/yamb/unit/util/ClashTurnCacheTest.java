@@ -0,0 +1,56 @@
+package com.tejko.yamb.unit.util;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.tejko.yamb.domain.enums.ClashStatus;
+import com.tejko.yamb.domain.enums.ClashType;
+import com.tejko.yamb.domain.enums.InvitationStatus;
+import com.tejko.yamb.domain.models.Clash;
+import com.tejko.yamb.domain.models.Clash.ClashPlayer;
+import com.tejko.yamb.util.ClashTurnCache;
+
+public class ClashTurnCacheTest {
+
+    @Test
+    void testPut_EvictsLeastRecentlyUsedGames() {
+        ClashTurnCache clashTurnCache = new ClashTurnCache(4, Duration.ofMinutes(10));
+        Clash first = getClash();
+        Clash second = getClash();
+        Clash third = getClash();
+
+        clashTurnCache.put(first);
+        clashTurnCache.put(second);
+        clashTurnCache.getByGameId(first.getPlayers().get(0).getGameId());
+        clashTurnCache.getByGameId(first.getPlayers().get(1).getGameId());
+        clashTurnCache.put(third);
+
+        Assertions.assertSame(first, clashTurnCache.getByGameId(first.getPlayers().get(0).getGameId()).get());
+        Assertions.assertFalse(clashTurnCache.getByGameId(second.getPlayers().get(0).getGameId()).isPresent());
+        Assertions.assertFalse(clashTurnCache.getByGameId(second.getPlayers().get(1).getGameId()).isPresent());
+        Assertions.assertSame(third, clashTurnCache.getByGameId(third.getPlayers().get(1).getGameId()).get());
+    }
+
+    @Test
+    void testGetByGameId_ExpiredEntryMissed() {
+        ClashTurnCache clashTurnCache = new ClashTurnCache(10, Duration.ZERO);
+        Clash clash = getClash();
+
+        clashTurnCache.put(clash);
+
+        Assertions.assertFalse(clashTurnCache.getByGameId(clash.getPlayers().get(0).getGameId()).isPresent());
+    }
+
+    private Clash getClash() {
+        UUID ownerId = UUID.randomUUID();
+        return Clash.getInstance(null, UUID.randomUUID(), null, null, "clash", ownerId, 0,
+            Arrays.asList(ClashPlayer.getInstance(ownerId, UUID.randomUUID(), InvitationStatus.ACCEPTED, null),
+                ClashPlayer.getInstance(UUID.randomUUID(), UUID.randomUUID(), InvitationStatus.ACCEPTED, null)),
+            null, null, ClashType.LIVE, ClashStatus.IN_PROGRESS);
+    }
+
+}
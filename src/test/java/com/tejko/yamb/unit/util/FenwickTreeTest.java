@@ -0,0 +1,55 @@
+package com.tejko.yamb.unit.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.tejko.yamb.util.FenwickTree;
+
+public class FenwickTreeTest {
+
+    @Test
+    void testPrefixSum() {
+        FenwickTree tree = new FenwickTree(10);
+        tree.add(0, 1);
+        tree.add(3, 2);
+        tree.add(9, 5);
+
+        Assertions.assertEquals(0, tree.prefixSum(-1));
+        Assertions.assertEquals(1, tree.prefixSum(0));
+        Assertions.assertEquals(1, tree.prefixSum(2));
+        Assertions.assertEquals(3, tree.prefixSum(3));
+        Assertions.assertEquals(8, tree.prefixSum(9));
+        Assertions.assertEquals(8, tree.prefixSum(20));
+        Assertions.assertEquals(8, tree.total());
+    }
+
+    @Test
+    void testRangeSum() {
+        FenwickTree tree = new FenwickTree(10);
+        for (int i = 0; i < 10; i++) {
+            tree.add(i, i);
+        }
+
+        Assertions.assertEquals(3 + 4 + 5, tree.rangeSum(3, 5));
+        Assertions.assertEquals(9, tree.rangeSum(9, 9));
+        Assertions.assertEquals(0, tree.rangeSum(6, 5));
+    }
+
+    @Test
+    void testAdd_NegativeDelta() {
+        FenwickTree tree = new FenwickTree(5);
+        tree.add(2, 3);
+        tree.add(2, -1);
+
+        Assertions.assertEquals(2, tree.rangeSum(2, 2));
+    }
+
+    @Test
+    void testAdd_OutOfBounds() {
+        FenwickTree tree = new FenwickTree(5);
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> tree.add(5, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> tree.add(-1, 1));
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.tejko.yamb.unit.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.result.DeleteResult;
+import com.tejko.yamb.domain.converters.GameReadingConverter;
+import com.tejko.yamb.domain.converters.GameWritingConverter;
+import com.tejko.yamb.domain.enums.BoxType;
+import com.tejko.yamb.domain.enums.ColumnType;
+import com.tejko.yamb.domain.enums.GameType;
+import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.util.GameArchiver;
+
+public class GameArchiverTest {
+
+    private MongoTemplate mongoTemplate;
+    private MongoCollection<Document> games;
+    private MongoCollection<Document> archive;
+    private GameArchiver gameArchiver;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoTemplate = Mockito.mock(MongoTemplate.class);
+        games = Mockito.mock(MongoCollection.class);
+        archive = Mockito.mock(MongoCollection.class);
+        MongoConverter converter = Mockito.mock(MongoConverter.class);
+        Mockito.when(mongoTemplate.getConverter()).thenReturn(converter);
+        Mockito.doAnswer(invocation -> {
+            Game game = invocation.getArgument(0);
+            ((Document) invocation.getArgument(1)).put("_id", new ObjectId(game.getId()));
+            return null;
+        }).when(converter).write(ArgumentMatchers.any(), ArgumentMatchers.any(Document.class));
+        Mockito.when(mongoTemplate.collectionExists(GameArchiver.ARCHIVE_COLLECTION)).thenReturn(true);
+        Mockito.when(mongoTemplate.getCollection(GameArchiver.ARCHIVE_COLLECTION)).thenReturn(archive);
+        Mockito.when(mongoTemplate.getCollectionName(Game.class)).thenReturn("games");
+        Mockito.when(mongoTemplate.getCollection("games")).thenReturn(games);
+        gameArchiver = new GameArchiver(mongoTemplate);
+        ReflectionTestUtils.setField(gameArchiver, "enabled", true);
+        ReflectionTestUtils.setField(gameArchiver, "batchSize", 10);
+    }
+
+    @Test
+    void testArchive_GameUpdatedMeanwhileRemovedFromArchive() {
+        Game archived = getGame();
+        Game updated = getGame();
+        Mockito.when(mongoTemplate.find(ArgumentMatchers.any(Query.class), ArgumentMatchers.eq(Game.class))).thenReturn(Arrays.asList(archived, updated));
+        Mockito.when(games.deleteMany(ArgumentMatchers.any(Bson.class))).thenReturn(DeleteResult.acknowledged(1));
+        mockFind(games, new Document("_id", new ObjectId(updated.getId())));
+
+        gameArchiver.archive();
+
+        ArgumentCaptor<Bson> removed = ArgumentCaptor.forClass(Bson.class);
+        Mockito.verify(games).deleteMany(removed.capture());
+        String filter = removed.getValue().toBsonDocument(Document.class, MongoClientSettings.getDefaultCodecRegistry()).toJson();
+        Assertions.assertTrue(filter.contains("status") && filter.contains("updated_at"));
+        ArgumentCaptor<Bson> retained = ArgumentCaptor.forClass(Bson.class);
+        Mockito.verify(archive).deleteMany(retained.capture());
+        Assertions.assertTrue(retained.getValue().toBsonDocument(Document.class, MongoClientSettings.getDefaultCodecRegistry())
+            .toJson().contains(updated.getId()));
+    }
+
+    @Test
+    void testExistsByExternalId_ArchiveCheckedOnce() {
+        gameArchiver.existsByExternalId(UUID.randomUUID());
+        gameArchiver.existsByExternalId(UUID.randomUUID());
+
+        Mockito.verify(mongoTemplate, Mockito.times(1)).collectionExists(GameArchiver.ARCHIVE_COLLECTION);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testArchive_RoundTripKeepsGameState() {
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.setCustomConversions(new MongoCustomConversions(Arrays.asList(new GameReadingConverter(), new GameWritingConverter())));
+        converter.afterPropertiesSet();
+        Mockito.when(mongoTemplate.getConverter()).thenReturn(converter);
+        Game game = getGame();
+        game.roll(new int[] {0, 1, 2, 3, 4});
+        game.fill(ColumnType.DOWNWARDS, BoxType.ONES);
+        game.roll(new int[] {0, 1, 2, 3, 4});
+        game.announce(BoxType.YAMB);
+        Mockito.when(mongoTemplate.find(ArgumentMatchers.any(Query.class), ArgumentMatchers.eq(Game.class))).thenReturn(Arrays.asList(game));
+        Mockito.when(games.deleteMany(ArgumentMatchers.any(Bson.class))).thenReturn(DeleteResult.acknowledged(1));
+
+        gameArchiver.archive();
+
+        ArgumentCaptor<List<ReplaceOneModel<Document>>> replacements = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(archive).bulkWrite(replacements.capture());
+        Document archived = replacements.getValue().get(0).getReplacement();
+        FindIterable<Document> findIterable = Mockito.mock(FindIterable.class);
+        Mockito.when(archive.find(ArgumentMatchers.any(Bson.class))).thenReturn(findIterable);
+        Mockito.when(findIterable.first()).thenReturn(archived);
+
+        Game restored = gameArchiver.findByExternalId(game.getExternalId()).get();
+
+        Assertions.assertEquals(write(converter, game), write(converter, restored));
+        Assertions.assertEquals(BoxType.YAMB, restored.getAnnouncement());
+        Assertions.assertEquals(game.getRollCount(), restored.getRollCount());
+        Assertions.assertEquals(game.getSheet().getColumns().get(0).getBoxes().get(0).getValue(), restored.getSheet().getColumns().get(0).getBoxes().get(0).getValue());
+    }
+
+    private Document write(MappingMongoConverter converter, Game game) {
+        Document document = new Document();
+        converter.write(game, document);
+        return document;
+    }
+
+    private Game getGame() {
+        Game game = Game.getInstance(UUID.randomUUID(), GameType.NORMAL);
+        ReflectionTestUtils.setField(game, "id", new ObjectId().toHexString());
+        return game;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockFind(MongoCollection<Document> collection, Document document) {
+        FindIterable<Document> findIterable = Mockito.mock(FindIterable.class);
+        MongoCursor<Document> cursor = Mockito.mock(MongoCursor.class);
+        Mockito.when(collection.find(ArgumentMatchers.any(Bson.class))).thenReturn(findIterable);
+        Mockito.when(findIterable.projection(ArgumentMatchers.any())).thenReturn(findIterable);
+        Mockito.when(findIterable.iterator()).thenReturn(cursor);
+        Mockito.when(cursor.hasNext()).thenReturn(true, false);
+        Mockito.when(cursor.next()).thenReturn(document);
+    }
+
+}
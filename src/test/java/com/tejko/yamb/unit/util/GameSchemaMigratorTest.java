@@ -0,0 +1,84 @@
+package com.tejko.yamb.unit.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.WriteModel;
+import com.tejko.yamb.domain.enums.GameType;
+import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.util.GameSchemaMigrator;
+
+public class GameSchemaMigratorTest {
+
+    private final Document broken = new Document("_id", new ObjectId());
+    private final Document legacy = new Document("_id", new ObjectId());
+
+    private MongoCollection<Document> games;
+    private GameSchemaMigrator gameSchemaMigrator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MongoTemplate mongoTemplate = Mockito.mock(MongoTemplate.class);
+        MongoConverter converter = Mockito.mock(MongoConverter.class);
+        games = Mockito.mock(MongoCollection.class);
+        Mockito.when(mongoTemplate.getConverter()).thenReturn(converter);
+        Mockito.when(mongoTemplate.getCollectionName(Game.class)).thenReturn("games");
+        Mockito.when(mongoTemplate.getCollection("games")).thenReturn(games);
+        Mockito.when(converter.read(Game.class, broken)).thenThrow(new IllegalStateException("broken sheet"));
+        Mockito.when(converter.read(Game.class, legacy)).thenReturn(Game.getInstance(null, GameType.NORMAL));
+        gameSchemaMigrator = new GameSchemaMigrator(mongoTemplate);
+        ReflectionTestUtils.setField(gameSchemaMigrator, "enabled", true);
+        ReflectionTestUtils.setField(gameSchemaMigrator, "batchSize", 10);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMigrate_FailedWriteRetriedAndBrokenDocumentCounted() {
+        mockFind(Arrays.asList(broken, legacy));
+        Mockito.when(games.bulkWrite(ArgumentMatchers.anyList())).thenThrow(new MongoException("timeout")).thenReturn(null);
+
+        Assertions.assertThrows(MongoException.class, () -> gameSchemaMigrator.migrate());
+        Assertions.assertNull(ReflectionTestUtils.getField(gameSchemaMigrator, "lastId"));
+
+        gameSchemaMigrator.migrate();
+
+        ArgumentCaptor<List<WriteModel<Document>>> updates = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(games, Mockito.times(2)).bulkWrite(updates.capture());
+        Assertions.assertEquals(1, updates.getValue().size());
+        Assertions.assertEquals(legacy.get("_id"), ReflectionTestUtils.getField(gameSchemaMigrator, "lastId"));
+        Assertions.assertEquals(1L, ReflectionTestUtils.getField(gameSchemaMigrator, "failed"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockFind(List<Document> documents) {
+        FindIterable<Document> findIterable = Mockito.mock(FindIterable.class);
+        Mockito.when(games.find(ArgumentMatchers.any(Bson.class))).thenReturn(findIterable);
+        Mockito.when(findIterable.sort(ArgumentMatchers.any())).thenReturn(findIterable);
+        Mockito.when(findIterable.limit(ArgumentMatchers.anyInt())).thenReturn(findIterable);
+        Mockito.when(findIterable.iterator()).thenAnswer(invocation -> {
+            MongoCursor<Document> cursor = Mockito.mock(MongoCursor.class);
+            Mockito.when(cursor.hasNext()).thenReturn(true, true, false);
+            Mockito.when(cursor.next()).thenReturn(documents.get(0), documents.get(1));
+            return cursor;
+        });
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.tejko.yamb.unit.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.tejko.yamb.domain.converters.GameReadingConverter;
+import com.tejko.yamb.domain.converters.GameWritingConverter;
+import com.tejko.yamb.domain.enums.BoxType;
+import com.tejko.yamb.domain.enums.ColumnType;
+import com.tejko.yamb.domain.enums.GameType;
+import com.tejko.yamb.domain.models.Game;
+import com.tejko.yamb.domain.models.Game.Dice;
+import com.tejko.yamb.util.GameSheetCodec;
+
+public class GameSheetCodecTest {
+
+    private static final int[] DICE_TO_ROLL = {0, 1, 2, 3, 4};
+
+    @Test
+    void testPackSheet_RoundTrip() {
+        Game game = Game.getInstance(UUID.randomUUID(), GameType.NORMAL);
+        game.roll(DICE_TO_ROLL);
+        game.fill(ColumnType.DOWNWARDS, BoxType.ONES);
+        game.roll(DICE_TO_ROLL);
+        game.fill(ColumnType.FREE, BoxType.YAMB);
+
+        byte[] packed = GameSheetCodec.packSheet(game.getSheet());
+        Assertions.assertEquals(52, packed.length);
+        Assertions.assertEquals(game.getTotalSum(), GameSheetCodec.unpackSheet(packed).getTotalSum());
+        Assertions.assertEquals(GameSheetCodec.EMPTY_BOX, packed[ColumnType.UPWARDS.ordinal() * BoxType.values().length]);
+    }
+
+    @Test
+    void testPackDices_RoundTrip() {
+        List<Dice> dices = Arrays.asList(Dice.getInstance(0, 1), Dice.getInstance(1, 2), Dice.getInstance(2, 3), 
+            Dice.getInstance(3, 5), Dice.getInstance(4, 6));
+        List<Dice> unpacked = GameSheetCodec.unpackDices(GameSheetCodec.packDices(dices));
+        for (int i = 0; i < dices.size(); i++) {
+            Assertions.assertEquals(dices.get(i).getValue(), unpacked.get(i).getValue());
+            Assertions.assertEquals(i, unpacked.get(i).getIndex());
+        }
+    }
+
+    @Test
+    void testConverters_RoundTrip() {
+        Game game = Game.getInstance(UUID.randomUUID(), GameType.NORMAL);
+        game.roll(DICE_TO_ROLL);
+        game.fill(ColumnType.DOWNWARDS, BoxType.ONES);
+
+        Document document = new GameWritingConverter().convert(game);
+        Game read = new GameReadingConverter().convert(document);
+
+        Assertions.assertEquals(GameSheetCodec.SCHEMA_VERSION, document.getInteger("schema_version"));
+        Assertions.assertEquals(game.getExternalId(), read.getExternalId());
+        Assertions.assertEquals(game.getTotalSum(), read.getTotalSum());
+        Assertions.assertEquals(game.getFilledMask(), read.getFilledMask());
+        Assertions.assertEquals(game.getLastAction(), read.getLastAction());
+        Assertions.assertEquals(game.getStatus(), read.getStatus());
+    }
+
+    @Test
+    void testReadingConverter_LegacyDocument() {
+        Document box = new Document("type", BoxType.ONES.name()).append("value", 3);
+        Document column = new Document("type", ColumnType.DOWNWARDS.name()).append("boxes", Arrays.asList(box));
+        Document document = new Document("external_id", UUID.randomUUID())
+            .append("sheet", new Document("columns", Arrays.asList(column)))
+            .append("dices", Arrays.asList(new Document("index", 0).append("value", 4)))
+            .append("status", "IN_PROGRESS")
+            .append("type", "NORMAL")
+            .append("last_action", "FILL");
+
+        Game game = new GameReadingConverter().convert(document);
+
+        Assertions.assertEquals(3, game.getTotalSum());
+        Assertions.assertEquals(4, game.getDices().get(0).getValue());
+        Assertions.assertEquals("FILL", game.getLastAction().name());
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.tejko.yamb.unit.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tejko.yamb.domain.models.MaintenanceCheckpoint;
+import com.tejko.yamb.domain.repositories.MaintenanceCheckpointRepository;
+import com.tejko.yamb.util.MaintenanceChunk;
+import com.tejko.yamb.util.MaintenanceJob;
+import com.tejko.yamb.util.MaintenanceRunner;
+
+public class MaintenanceRunnerTest {
+
+    private static final String JOB_NAME = "test-job";
+
+    private final Map<String, MaintenanceCheckpoint> checkpoints = new HashMap<>();
+    private MaintenanceCheckpointRepository checkpointRepo;
+    private PagedJob job;
+    private MaintenanceRunner maintenanceRunner;
+
+    @BeforeEach
+    void setUp() {
+        checkpointRepo = Mockito.mock(MaintenanceCheckpointRepository.class);
+        Mockito.when(checkpointRepo.findById(ArgumentMatchers.anyString()))
+            .thenAnswer(invocation -> Optional.ofNullable(checkpoints.get(invocation.<String>getArgument(0))));
+        Mockito.when(checkpointRepo.save(ArgumentMatchers.any(MaintenanceCheckpoint.class))).thenAnswer(invocation -> {
+            MaintenanceCheckpoint checkpoint = invocation.getArgument(0);
+            checkpoints.put(checkpoint.getId(), checkpoint);
+            return checkpoint;
+        });
+        job = new PagedJob(5);
+        maintenanceRunner = new MaintenanceRunner(Collections.singletonList(job), checkpointRepo);
+        ReflectionTestUtils.setField(maintenanceRunner, "enabled", true);
+        ReflectionTestUtils.setField(maintenanceRunner, "batchSize", 2);
+        ReflectionTestUtils.setField(maintenanceRunner, "maxChunks", 2);
+        ReflectionTestUtils.setField(maintenanceRunner, "chunkDelay", 0L);
+    }
+
+    @Test
+    void testRunAll_ResumesFromCheckpoint() {
+        maintenanceRunner.runAll();
+
+        Assertions.assertEquals(Arrays.asList(null, "2"), job.cursors);
+        Assertions.assertEquals("4", checkpoints.get(JOB_NAME).getCursor());
+        Assertions.assertEquals(4, checkpoints.get(JOB_NAME).getProcessed());
+
+        maintenanceRunner.runAll();
+
+        Assertions.assertEquals(Arrays.asList(null, "2", "4"), job.cursors);
+        Assertions.assertNull(checkpoints.get(JOB_NAME).getCursor());
+        Assertions.assertNotNull(checkpoints.get(JOB_NAME).getCompletedAt());
+    }
+
+    @Test
+    void testRunAll_FailedChunkRetriedFromSameCursor() {
+        job.failAt = "2";
+
+        maintenanceRunner.runAll();
+
+        Assertions.assertEquals("2", checkpoints.get(JOB_NAME).getCursor());
+        Assertions.assertEquals(2, checkpoints.get(JOB_NAME).getProcessed());
+
+        job.failAt = null;
+        maintenanceRunner.runAll();
+
+        Assertions.assertEquals(Arrays.asList(null, "2", "2", "4"), job.cursors);
+    }
+
+    @Test
+    void testRunToCompletion_RestartsAfterCompletedRun() {
+        Assertions.assertEquals(5, maintenanceRunner.runToCompletion(JOB_NAME));
+        Assertions.assertEquals(5, maintenanceRunner.runToCompletion(JOB_NAME));
+
+        Assertions.assertEquals(Arrays.asList(null, "2", "4", null, "2", "4"), job.cursors);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> maintenanceRunner.runToCompletion("unknown"));
+    }
+
+    private static class PagedJob implements MaintenanceJob {
+
+        private final int total;
+        private final List<String> cursors = new ArrayList<>();
+        private String failAt;
+
+        PagedJob(int total) {
+            this.total = total;
+        }
+
+        @Override
+        public String getName() {
+            return JOB_NAME;
+        }
+
+        @Override
+        public MaintenanceChunk processChunk(String cursor, int batchSize) {
+            cursors.add(cursor);
+            if (cursor != null && cursor.equals(failAt)) {
+                throw new IllegalStateException("chunk failed");
+            }
+            int from = cursor != null ? Integer.parseInt(cursor) : 0;
+            int to = Math.min(from + batchSize, total);
+            return to == total ? MaintenanceChunk.last(to - from) : MaintenanceChunk.next(String.valueOf(to), to - from);
+        }
+
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.tejko.yamb.unit.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoDatabase;
+import com.tejko.yamb.util.MongoIndexManager;
+
+public class MongoHotQueryTest {
+
+    private MongoIndexManager mongoIndexManager;
+
+    @BeforeEach
+    void setUp() {
+        MongoDatabase mongoDatabase = Mockito.mock(MongoDatabase.class);
+        Mockito.when(mongoDatabase.getCodecRegistry()).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+        MongoDatabaseFactory mongoDatabaseFactory = Mockito.mock(MongoDatabaseFactory.class);
+        Mockito.when(mongoDatabaseFactory.getMongoDatabase()).thenReturn(mongoDatabase);
+        Mockito.when(mongoDatabaseFactory.getExceptionTranslator()).thenReturn(new MongoExceptionTranslator());
+        mongoIndexManager = new MongoIndexManager(new MongoTemplate(mongoDatabaseFactory));
+    }
+
+    @Test
+    void testGetHotQueries_LeadingIndexKeyDeclared() {
+        Map<String, List<IndexDefinition>> indexDefinitions = mongoIndexManager.getIndexDefinitions();
+        for (Map.Entry<String, Document> entry : mongoIndexManager.getHotQueries().entrySet()) {
+            Document find = entry.getValue();
+            Set<String> filterKeys = find.get("filter", Document.class).keySet();
+            boolean indexed = indexDefinitions.getOrDefault(find.getString("find"), Collections.emptyList()).stream()
+                .anyMatch(indexDefinition -> filterKeys.contains(indexDefinition.getIndexKeys().keySet().iterator().next()));
+            Assertions.assertTrue(indexed, entry.getKey());
+        }
+    }
+
+    @Test
+    void testGetHotQueries_FiltersConvertedToMongoTypes() {
+        Document find = mongoIndexManager.getHotQueries().get("GameRepository.findByPlayerIdAndTypeAndStatusIn");
+
+        Assertions.assertEquals("games", find.getString("find"));
+        Assertions.assertEquals("NORMAL", find.get("filter", Document.class).get("type"));
+        Assertions.assertEquals(Arrays.asList("IN_PROGRESS", "COMPLETED"), find.get("filter", Document.class).get("status", Document.class).get("$in"));
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.tejko.yamb.unit.util;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tejko.yamb.util.ReadWriteRoutingDataSource;
+import com.tejko.yamb.util.ReplicaLagMonitor;
+
+public class ReadWriteRoutingDataSourceTest {
+
+    private final DataSource primaryDataSource = Mockito.mock(DataSource.class);
+    private final DataSource replicaDataSource = Mockito.mock(DataSource.class);
+    private final ReplicaLagMonitor replicaLagMonitor = Mockito.mock(ReplicaLagMonitor.class);
+    private final Connection primaryConnection = Mockito.mock(Connection.class);
+    private final Connection replicaConnection = Mockito.mock(Connection.class);
+
+    private final ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Mockito.when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+        Mockito.when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+        Mockito.when(replicaLagMonitor.isAvailable()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void testGetConnection_ReadOnlyUsesReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Assertions.assertSame(replicaConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void testGetConnection_ReadWriteUsesPrimary() throws SQLException {
+        Assertions.assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void testGetConnection_LaggingReplicaUsesPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Mockito.when(replicaLagMonitor.isAvailable()).thenReturn(false);
+
+        Assertions.assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void testGetConnection_ReplicaFailureFallsBackToPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Mockito.when(replicaDataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        Assertions.assertSame(primaryConnection, dataSource.getConnection());
+        Mockito.verify(replicaLagMonitor).markUnavailable();
+    }
+
+}
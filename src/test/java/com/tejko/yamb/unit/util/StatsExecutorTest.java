@@ -0,0 +1,99 @@
+package com.tejko.yamb.unit.util;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.tejko.yamb.util.StatsExecutor;
+import com.tejko.yamb.util.StatsExecutor.StatsQuery;
+
+public class StatsExecutorTest {
+
+    private final StatsExecutor statsExecutor = new StatsExecutor(Mockito.mock(PlatformTransactionManager.class), 2, 4, Duration.ofMillis(500));
+
+    @AfterEach
+    void tearDown() {
+        statsExecutor.shutdown();
+    }
+
+    @Test
+    void testSubmit_RunsConcurrently() {
+        CountDownLatch latch = new CountDownLatch(2);
+        StatsQuery<Boolean> first = statsExecutor.submit("first", () -> awaitOther(latch));
+        StatsQuery<Boolean> second = statsExecutor.submit("second", () -> awaitOther(latch));
+
+        Assertions.assertTrue(first.get(false));
+        Assertions.assertTrue(second.get(false));
+    }
+
+    @Test
+    void testGet_SlowQueryReturnsFallback() {
+        CountDownLatch release = new CountDownLatch(1);
+        StatsQuery<Long> slow = statsExecutor.submit("slow", () -> await(release, 1L));
+        StatsQuery<Long> fast = statsExecutor.submit("fast", () -> 2L);
+
+        Assertions.assertEquals(0L, slow.get(0L));
+        Assertions.assertEquals(2L, fast.get(0L));
+    }
+
+    @Test
+    @Timeout(10)
+    void testSubmitAfter_SharesDeadlineWithPreviousQuery() {
+        AtomicLong now = new AtomicLong();
+        StatsExecutor executor = new StatsExecutor(Mockito.mock(PlatformTransactionManager.class), 2, 4, Duration.ofHours(1));
+        ReflectionTestUtils.setField(executor, "nanoTime", (LongSupplier) now::get);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            StatsQuery<Long> first = executor.submit("first", () -> 1L);
+            Assertions.assertEquals(1L, first.get(0L));
+
+            now.set(Duration.ofHours(2).toNanos());
+            StatsQuery<Long> second = executor.submitAfter(first, "second", () -> await(release, 2L));
+            StatsQuery<Long> fresh = executor.submit("fresh", () -> 3L);
+
+            Assertions.assertEquals(0L, second.get(0L));
+            Assertions.assertEquals(3L, fresh.get(0L));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testGet_FailedQueryReturnsFallback() {
+        StatsQuery<Long> failed = statsExecutor.submit("failed", () -> {
+            throw new IllegalStateException("error");
+        });
+
+        Assertions.assertEquals(0L, failed.get(0L));
+    }
+
+    private boolean awaitOther(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private long await(CountDownLatch latch, long result) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+
+}